@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.web3j.abi.datatypes.Type.MAX_BYTE_LENGTH;
+
+/**
+ * Growable byte buffer that ABI encoded values are written to.
+ *
+ * <p>A buffer can be {@link #reset()} and reused for the next encoding, so that encoding many
+ * function calls only allocates once the buffer has grown to the largest of them. Instances are not
+ * thread safe.
+ *
+ * @see FunctionEncoder#encode(org.web3j.abi.datatypes.Function, AbiBuffer)
+ * @see TypeEncoder#encode(org.web3j.abi.datatypes.Type, AbiBuffer)
+ */
+public final class AbiBuffer {
+
+    private static final int DEFAULT_CAPACITY = 512;
+
+    private byte[] buffer;
+    private int size;
+
+    public AbiBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AbiBuffer(int initialCapacity) {
+        buffer = new byte[initialCapacity];
+    }
+
+    /** Returns the number of bytes written so far. */
+    public int size() {
+        return size;
+    }
+
+    /** Discards the written bytes, keeping the allocated capacity. */
+    public void reset() {
+        size = 0;
+    }
+
+    /** Returns a copy of the written bytes. */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Returns a read-only view of the written bytes. The view shares the buffer contents and is
+     * only valid until the buffer is reset or written to again.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(buffer, 0, size).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies the written bytes into the given buffer at its current position.
+     *
+     * @param destination buffer to copy to
+     * @throws java.nio.BufferOverflowException if there is insufficient space in destination
+     */
+    public void writeTo(ByteBuffer destination) {
+        destination.put(buffer, 0, size);
+    }
+
+    /**
+     * Appends bytes to the buffer.
+     *
+     * @param source bytes to append
+     * @param offset start of the bytes in source
+     * @param length number of bytes to append
+     */
+    public void write(byte[] source, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(source, offset, buffer, size, length);
+        size += length;
+    }
+
+    /** Writes the bytes right padded with zeros to a multiple of 32 bytes. */
+    void writePadded(byte[] source) {
+        int length = source.length;
+        int paddedLength = (length + MAX_BYTE_LENGTH - 1) / MAX_BYTE_LENGTH * MAX_BYTE_LENGTH;
+        ensureCapacity(paddedLength);
+        System.arraycopy(source, 0, buffer, size, length);
+        Arrays.fill(buffer, size + length, size + paddedLength, (byte) 0);
+        size += paddedLength;
+    }
+
+    /** Writes a 32 byte word, left padded with {@code padding}, that ends with the given bytes. */
+    void writeWord(byte[] source, int offset, int length, byte padding) {
+        ensureCapacity(MAX_BYTE_LENGTH);
+        int valueStart = size + MAX_BYTE_LENGTH - length;
+        Arrays.fill(buffer, size, valueStart, padding);
+        System.arraycopy(source, offset, buffer, valueStart, length);
+        size += MAX_BYTE_LENGTH;
+    }
+
+    /** Writes a 32 byte word holding the two's complement value of {@code value}. */
+    void writeWord(long value) {
+        ensureCapacity(MAX_BYTE_LENGTH);
+        setWord(size, value);
+        size += MAX_BYTE_LENGTH;
+    }
+
+    /**
+     * Reserves a 32 byte word to be set later with {@link #setWord(int, long)}.
+     *
+     * @return position of the reserved word
+     */
+    int reserveWord() {
+        ensureCapacity(MAX_BYTE_LENGTH);
+        int position = size;
+        size += MAX_BYTE_LENGTH;
+        return position;
+    }
+
+    /** Sets the 32 byte word at {@code position} to the two's complement value of {@code value}. */
+    void setWord(int position, long value) {
+        byte padding = value < 0 ? (byte) 0xff : 0;
+        int valueStart = position + MAX_BYTE_LENGTH - Long.BYTES;
+        Arrays.fill(buffer, position, valueStart, padding);
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            buffer[valueStart + i] = (byte) value;
+            value >>= 8;
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        int required = size + length;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.StaticArray;
+import org.web3j.abi.datatypes.StaticStruct;
+import org.web3j.abi.datatypes.StructType;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+
+import static org.web3j.abi.TypeDecoder.isDynamic;
+import static org.web3j.abi.Utils.getParameterizedTypeFromArray;
+import static org.web3j.abi.Utils.staticStructFieldCount;
+
+/**
+ * Decoding plan for a list of output parameters.
+ *
+ * <p>The class, head offset and data offset position of every parameter are resolved once when the
+ * plan is built, so that decoding the same signature again does not repeat the reflection behind
+ * them. Plans are cached for parameter lists whose type references can be told apart by their type
+ * alone, which is the case for the references of generated contract wrappers.
+ */
+final class DecoderPlan {
+
+    /**
+     * Upper bound of plans cached on a single class, beyond which new signatures are planned on
+     * every call.
+     */
+    static final int MAX_CACHED_PLANS = 4096;
+
+    /**
+     * Plans keyed by signature, held by the class of the signature whose class loader can see every
+     * other class in it. A plan therefore never keeps a class loader reachable that its owner does
+     * not already keep reachable, and is dropped together with the owner's class loader.
+     */
+    private static final ClassValue<Map<List<Class<?>>, DecoderPlan>> CACHE =
+            new ClassValue<>() {
+                @Override
+                protected Map<List<Class<?>>, DecoderPlan> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * Whether instances of a type reference class all describe the same type, i.e. the class is a
+     * plain {@code new TypeReference<...>() {}} that does not override any method.
+     */
+    private static final ClassValue<Boolean> PLAIN_REFERENCES =
+            new ClassValue<>() {
+                @Override
+                protected Boolean computeValue(Class<?> type) {
+                    return type.getSuperclass() == TypeReference.class
+                            && type.getDeclaredMethods().length == 0;
+                }
+            };
+
+    private final Parameter[] parameters;
+    private final int[] headOffsets;
+    private final boolean decodableFromBytes;
+
+    private DecoderPlan(List<TypeReference<Type>> typeReferences) {
+        parameters = new Parameter[typeReferences.size()];
+        headOffsets = new int[parameters.length];
+        boolean fromBytes = true;
+        int headOffset = 0;
+        for (int i = 0; i < parameters.length; i++) {
+            try {
+                parameters[i] = new Parameter(typeReferences.get(i));
+            } catch (ClassNotFoundException e) {
+                throw new UnsupportedOperationException("Invalid class reference provided", e);
+            }
+            headOffsets[i] = headOffset;
+            headOffset += parameters[i].headLength;
+            fromBytes &= parameters[i].decodableFromBytes;
+        }
+        decodableFromBytes = fromBytes;
+    }
+
+    static DecoderPlan of(List<TypeReference<Type>> typeReferences) {
+        List<Class<?>> key = cacheKey(typeReferences);
+        Class<?> owner = key == null ? null : owner(key);
+        if (owner == null) {
+            return new DecoderPlan(typeReferences);
+        }
+        Map<List<Class<?>>, DecoderPlan> plans = CACHE.get(owner);
+        DecoderPlan plan = plans.get(key);
+        if (plan == null) {
+            plan = new DecoderPlan(typeReferences);
+            if (plans.size() < MAX_CACHED_PLANS) {
+                plans.putIfAbsent(key, plan);
+            }
+        }
+        return plan;
+    }
+
+    private static List<Class<?>> cacheKey(List<TypeReference<Type>> typeReferences) {
+        List<Class<?>> key = new ArrayList<>(typeReferences.size());
+        for (TypeReference<?> typeReference : typeReferences) {
+            if (typeReference.getInnerTypes() != null) {
+                return null;
+            }
+            java.lang.reflect.Type type = typeReference.getType();
+            if (type instanceof Class && typeReference.getSubTypeReference() == null) {
+                key.add((Class<?>) type);
+            } else if (PLAIN_REFERENCES.get(typeReference.getClass())) {
+                key.add(typeReference.getClass());
+            } else {
+                return null;
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Returns the class of the key whose class loader sees the loaders of all other classes in it,
+     * or {@code null} if the key spans unrelated class loaders and must not be cached.
+     */
+    private static Class<?> owner(List<Class<?>> key) {
+        Class<?> owner = DecoderPlan.class;
+        for (Class<?> type : key) {
+            if (isAncestor(owner.getClassLoader(), type.getClassLoader())) {
+                owner = type;
+            } else if (!isAncestor(type.getClassLoader(), owner.getClassLoader())) {
+                return null;
+            }
+        }
+        return owner;
+    }
+
+    private static boolean isAncestor(ClassLoader ancestor, ClassLoader loader) {
+        if (ancestor == null) {
+            return true;
+        }
+        for (ClassLoader current = loader; current != null; current = current.getParent()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Whether every parameter can be decoded by {@link #decode(byte[])}. */
+    boolean isDecodableFromBytes() {
+        return decodableFromBytes;
+    }
+
+    List<Type> decode(String input) {
+        List<Type> results = new ArrayList<>(parameters.length);
+        for (int i = 0; i < parameters.length; i++) {
+            results.add(decode(input, i));
+        }
+        return results;
+    }
+
+    /** Decodes the parameter at {@code index} only, skipping over the heads of the others. */
+    Type decode(String input, int index) {
+        Parameter parameter = parameters[index];
+        int offset = headOffsets[index] * 2;
+        int dataOffset =
+                parameter.hasDataOffset ? TypeDecoder.decodeUintAsInt(input, offset) << 1 : offset;
+        return parameter.decode(input, dataOffset);
+    }
+
+    /**
+     * Same as {@link #decode(String)}, with offsets counted in bytes. Only valid if {@link
+     * #isDecodableFromBytes()}.
+     */
+    List<Type> decode(byte[] input) {
+        List<Type> results = new ArrayList<>(parameters.length);
+        for (int i = 0; i < parameters.length; i++) {
+            results.add(decode(input, i));
+        }
+        return results;
+    }
+
+    /** Same as {@link #decode(String, int)}, with offsets counted in bytes. */
+    Type decode(byte[] input, int index) {
+        Parameter parameter = parameters[index];
+        int offset = headOffsets[index];
+        int dataOffset =
+                parameter.hasDataOffset ? TypeDecoder.decodeUintAsInt(input, offset) : offset;
+        return parameter.decode(input, dataOffset);
+    }
+
+    private enum Kind {
+        DYNAMIC_STRUCT,
+        DYNAMIC_ARRAY,
+        STATIC_ARRAY,
+        STATIC_STRUCT,
+        VALUE
+    }
+
+    private static final class Parameter {
+
+        private final TypeReference<Type> typeReference;
+        private final Class<Type> classType;
+        private final Kind kind;
+        private final int length;
+        private final int headLength;
+        private final boolean hasDataOffset;
+        private final boolean decodableFromBytes;
+
+        @SuppressWarnings("unchecked")
+        Parameter(TypeReference<Type> typeReference) throws ClassNotFoundException {
+            this.typeReference = typeReference;
+            this.classType = typeReference.getClassType();
+            this.hasDataOffset = DefaultFunctionReturnDecoder.hasDataOffset(typeReference);
+
+            if (DynamicStruct.class.isAssignableFrom(classType)) {
+                kind = Kind.DYNAMIC_STRUCT;
+                length = 0;
+                headLength = Type.MAX_BYTE_LENGTH;
+            } else if (DynamicArray.class.isAssignableFrom(classType)) {
+                kind = Kind.DYNAMIC_ARRAY;
+                length = 0;
+                headLength = Type.MAX_BYTE_LENGTH;
+            } else if (typeReference instanceof TypeReference.StaticArrayTypeReference) {
+                kind = Kind.STATIC_ARRAY;
+                length = ((TypeReference.StaticArrayTypeReference<?>) typeReference).getSize();
+                headLength = length * Type.MAX_BYTE_LENGTH;
+            } else if (StaticStruct.class.isAssignableFrom(classType)) {
+                kind = Kind.STATIC_STRUCT;
+                length = 0;
+                headLength = staticStructFieldCount(classType) * Type.MAX_BYTE_LENGTH;
+            } else if (StaticArray.class.isAssignableFrom(classType)) {
+                kind = Kind.STATIC_ARRAY;
+                length =
+                        Integer.parseInt(
+                                classType
+                                        .getSimpleName()
+                                        .substring(StaticArray.class.getSimpleName().length()));
+                Class<Type> elementType = getParameterizedTypeFromArray(typeReference);
+                if (DynamicStruct.class.isAssignableFrom(elementType)
+                        || Utf8String.class.isAssignableFrom(elementType)) {
+                    headLength = Type.MAX_BYTE_LENGTH;
+                } else if (StaticStruct.class.isAssignableFrom(elementType)) {
+                    headLength =
+                            staticStructFieldCount(elementType) * length * Type.MAX_BYTE_LENGTH;
+                } else {
+                    headLength = length * Type.MAX_BYTE_LENGTH;
+                }
+            } else {
+                kind = Kind.VALUE;
+                length = 0;
+                headLength = Type.MAX_BYTE_LENGTH;
+            }
+            this.decodableFromBytes = isDecodableFromBytes();
+        }
+
+        /**
+         * Whether the parameter is a value of an elementary type, a dynamic array of them or a
+         * static array of static ones. Structs and nested arrays are left to the hex based decoder.
+         */
+        private boolean isDecodableFromBytes() throws ClassNotFoundException {
+            if (StructType.class.isAssignableFrom(classType)) {
+                return false;
+            } else if (kind == Kind.DYNAMIC_ARRAY) {
+                return TypeDecoder.isElementary(getParameterizedTypeFromArray(typeReference));
+            } else if (kind == Kind.STATIC_ARRAY) {
+                Class<Type> elementType = getParameterizedTypeFromArray(typeReference);
+                return TypeDecoder.isElementary(elementType) && !isDynamic(elementType);
+            }
+            return TypeDecoder.isElementary(classType);
+        }
+
+        Type decode(String input, int dataOffset) {
+            try {
+                switch (kind) {
+                    case DYNAMIC_STRUCT:
+                        return TypeDecoder.decodeDynamicStruct(input, dataOffset, typeReference);
+                    case DYNAMIC_ARRAY:
+                        return TypeDecoder.decodeDynamicArray(input, dataOffset, typeReference);
+                    case STATIC_ARRAY:
+                        return TypeDecoder.decodeStaticArray(
+                                input, dataOffset, typeReference, length);
+                    case STATIC_STRUCT:
+                        return TypeDecoder.decodeStaticStruct(input, dataOffset, typeReference);
+                    default:
+                        return TypeDecoder.decode(input, dataOffset, classType);
+                }
+            } catch (ClassNotFoundException e) {
+                throw new UnsupportedOperationException("Invalid class reference provided", e);
+            }
+        }
+
+        Type decode(byte[] input, int dataOffset) {
+            switch (kind) {
+                case DYNAMIC_ARRAY:
+                    return TypeDecoder.decodeDynamicArray(input, dataOffset, typeReference);
+                case STATIC_ARRAY:
+                    return TypeDecoder.decodeStaticArray(input, dataOffset, typeReference, length);
+                default:
+                    return TypeDecoder.decode(input, dataOffset, classType);
+            }
+        }
+    }
+}
@@ -22,7 +22,7 @@ import org.web3j.abi.datatypes.StaticStruct;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.datatypes.Uint;
 
-import static org.web3j.abi.Utils.staticStructNestedPublicFieldsFlatList;
+import static org.web3j.abi.Utils.staticStructFieldCount;
 
 public class DefaultFunctionEncoder extends FunctionEncoder {
 
@@ -43,6 +43,41 @@ public class DefaultFunctionEncoder extends FunctionEncoder {
         return encodeParameters(parameters, new StringBuilder());
     }
 
+    @Override
+    protected void encodeFunction(final Function function, final AbiBuffer out) {
+        final List<Type> parameters = function.getInputParameters();
+
+        final String methodSignature = buildMethodSignature(function.getName(), parameters);
+        final byte[] methodId = buildMethodIdBytes(methodSignature);
+        out.write(methodId, 0, methodId.length);
+
+        encodeParameters(parameters, out);
+    }
+
+    @Override
+    protected void encodeParameters(final List<Type> parameters, final AbiBuffer out) {
+        int dynamicDataOffset = getLength(parameters) * Type.MAX_BYTE_LENGTH;
+        final int[] offsetPositions = new int[parameters.size()];
+
+        for (int i = 0; i < parameters.size(); i++) {
+            final Type parameter = parameters.get(i);
+            if (TypeEncoder.isDynamic(parameter)) {
+                offsetPositions[i] = out.reserveWord();
+            } else {
+                TypeEncoder.encode(parameter, out);
+            }
+        }
+
+        final int dynamicStart = out.size();
+        for (int i = 0; i < parameters.size(); i++) {
+            final Type parameter = parameters.get(i);
+            if (TypeEncoder.isDynamic(parameter)) {
+                out.setWord(offsetPositions[i], dynamicDataOffset + out.size() - dynamicStart);
+                TypeEncoder.encode(parameter, out);
+            }
+        }
+    }
+
     public String encodeWithSelector(String methodId, List<Type> parameters) {
         final StringBuilder result = new StringBuilder(methodId);
 
@@ -90,9 +125,7 @@ public class DefaultFunctionEncoder extends FunctionEncoder {
                     && StaticStruct.class.isAssignableFrom(
                             ((StaticArray) type).getComponentType())) {
                 count +=
-                        staticStructNestedPublicFieldsFlatList(
-                                                ((StaticArray) type).getComponentType())
-                                        .size()
+                        staticStructFieldCount(((StaticArray) type).getComponentType())
                                 * ((StaticArray) type).getValue().size();
             } else if (type instanceof StaticArray
                     && DynamicStruct.class.isAssignableFrom(
@@ -12,9 +12,9 @@
  */
 package org.web3j.abi;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import org.web3j.abi.datatypes.Array;
 import org.web3j.abi.datatypes.Bytes;
@@ -23,17 +23,14 @@ import org.web3j.abi.datatypes.DynamicArray;
 import org.web3j.abi.datatypes.DynamicBytes;
 import org.web3j.abi.datatypes.DynamicStruct;
 import org.web3j.abi.datatypes.StaticArray;
-import org.web3j.abi.datatypes.StaticStruct;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.abi.datatypes.generated.Bytes32;
 import org.web3j.utils.Numeric;
 import org.web3j.utils.Strings;
 
-import static org.web3j.abi.TypeDecoder.MAX_BYTE_LENGTH_FOR_HEX_STRING;
 import static org.web3j.abi.TypeDecoder.isDynamic;
 import static org.web3j.abi.Utils.getParameterizedTypeFromArray;
-import static org.web3j.abi.Utils.staticStructNestedPublicFieldsFlatList;
 
 /**
  * Ethereum Contract Application Binary Interface (ABI) encoding for functions. Further details are
@@ -49,7 +46,36 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
         if (Strings.isEmpty(input)) {
             return Collections.emptyList();
         } else {
-            return build(input, outputParameters);
+            return DecoderPlan.of(outputParameters).decode(input);
+        }
+    }
+
+    @Override
+    public List<Type> decodeFunctionResult(
+            byte[] input, List<TypeReference<Type>> outputParameters) {
+        if (input.length == 0) {
+            return Collections.emptyList();
+        }
+        DecoderPlan plan = DecoderPlan.of(outputParameters);
+        if (plan.isDecodableFromBytes()) {
+            return plan.decode(input);
+        } else {
+            return plan.decode(Numeric.toHexStringNoPrefix(input));
+        }
+    }
+
+    @Override
+    public Type decodeFunctionResult(
+            byte[] input, List<TypeReference<Type>> outputParameters, int index) {
+        Objects.checkIndex(index, outputParameters.size());
+        if (input.length == 0) {
+            throw new IndexOutOfBoundsException("No value at index " + index + " of empty input");
+        }
+        DecoderPlan plan = DecoderPlan.of(outputParameters);
+        if (plan.isDecodableFromBytes()) {
+            return plan.decode(input, index);
+        } else {
+            return plan.decode(Numeric.toHexStringNoPrefix(input), index);
         }
     }
 
@@ -77,99 +103,31 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
         }
     }
 
-    private static List<Type> build(String input, List<TypeReference<Type>> outputParameters) {
-        List<Type> results = new ArrayList<>(outputParameters.size());
-
-        int offset = 0;
-        for (TypeReference<?> typeReference : outputParameters) {
-            try {
-                int hexStringDataOffset = getDataOffset(input, offset, typeReference);
-
-                @SuppressWarnings("unchecked")
-                Class<Type> classType = (Class<Type>) typeReference.getClassType();
-
-                Type result;
-                if (DynamicStruct.class.isAssignableFrom(classType)) {
-                    result =
-                            TypeDecoder.decodeDynamicStruct(
-                                    input, hexStringDataOffset, typeReference);
-                    offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
-
-                } else if (DynamicArray.class.isAssignableFrom(classType)) {
-                    result =
-                            TypeDecoder.decodeDynamicArray(
-                                    input, hexStringDataOffset, typeReference);
-                    offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
-
-                } else if (typeReference instanceof TypeReference.StaticArrayTypeReference) {
-                    int length = ((TypeReference.StaticArrayTypeReference) typeReference).getSize();
-                    result =
-                            TypeDecoder.decodeStaticArray(
-                                    input, hexStringDataOffset, typeReference, length);
-                    offset += length * MAX_BYTE_LENGTH_FOR_HEX_STRING;
-
-                } else if (StaticStruct.class.isAssignableFrom(classType)) {
-                    result =
-                            TypeDecoder.decodeStaticStruct(
-                                    input, hexStringDataOffset, typeReference);
-                    offset +=
-                            staticStructNestedPublicFieldsFlatList(classType).size()
-                                    * MAX_BYTE_LENGTH_FOR_HEX_STRING;
-                } else if (StaticArray.class.isAssignableFrom(classType)) {
-                    int length =
-                            Integer.parseInt(
-                                    classType
-                                            .getSimpleName()
-                                            .substring(StaticArray.class.getSimpleName().length()));
-                    result =
-                            TypeDecoder.decodeStaticArray(
-                                    input, hexStringDataOffset, typeReference, length);
-                    if (DynamicStruct.class.isAssignableFrom(
-                            getParameterizedTypeFromArray(typeReference))) {
-                        offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
-                    } else if (StaticStruct.class.isAssignableFrom(
-                            getParameterizedTypeFromArray(typeReference))) {
-                        offset +=
-                                staticStructNestedPublicFieldsFlatList(
-                                                        getParameterizedTypeFromArray(
-                                                                typeReference))
-                                                .size()
-                                        * length
-                                        * MAX_BYTE_LENGTH_FOR_HEX_STRING;
-                    } else if (Utf8String.class.isAssignableFrom(
-                            getParameterizedTypeFromArray(typeReference))) {
-                        offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
-                    } else {
-                        offset += length * MAX_BYTE_LENGTH_FOR_HEX_STRING;
-                    }
-                } else {
-                    result = TypeDecoder.decode(input, hexStringDataOffset, classType);
-                    offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
-                }
-                results.add(result);
-
-            } catch (ClassNotFoundException e) {
-                throw new UnsupportedOperationException("Invalid class reference provided", e);
-            }
-        }
-        return results;
-    }
-
     public static <T extends Type> int getDataOffset(
             String input, int offset, TypeReference<?> typeReference)
             throws ClassNotFoundException {
-        @SuppressWarnings("unchecked")
-        Class<Type> type = (Class<Type>) typeReference.getClassType();
-        if (DynamicBytes.class.isAssignableFrom(type)
-                || Utf8String.class.isAssignableFrom(type)
-                || DynamicArray.class.isAssignableFrom(type)
-                || hasDynamicOffsetInStaticArray(typeReference, offset)) {
+        if (hasDataOffset(typeReference)) {
             return TypeDecoder.decodeUintAsInt(input, offset) << 1;
         } else {
             return offset;
         }
     }
 
+    /**
+     * Checks if the head of the parameter holds an offset to its data rather than the data itself.
+     *
+     * @param typeReference of the parameter
+     * @return true, if the parameter data is found through an offset
+     * @throws ClassNotFoundException if class type cannot be determined
+     */
+    static boolean hasDataOffset(TypeReference<?> typeReference) throws ClassNotFoundException {
+        Class<?> type = typeReference.getClassType();
+        return DynamicBytes.class.isAssignableFrom(type)
+                || Utf8String.class.isAssignableFrom(type)
+                || DynamicArray.class.isAssignableFrom(type)
+                || hasDynamicOffsetInStaticArray(typeReference);
+    }
+
     /**
      * Checks if the parametrized type is offsetted in case of static array containing structs.
      *
@@ -177,7 +135,7 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
      * @return true, if static array elements have dynamic offsets
      * @throws ClassNotFoundException if class type cannot be determined
      */
-    private static boolean hasDynamicOffsetInStaticArray(TypeReference<?> typeReference, int offset)
+    private static boolean hasDynamicOffsetInStaticArray(TypeReference<?> typeReference)
             throws ClassNotFoundException {
         @SuppressWarnings("unchecked")
         Class<Type> type = (Class<Type>) typeReference.getClassType();
@@ -13,6 +13,8 @@
 package org.web3j.abi;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.web3j.abi.datatypes.Event;
@@ -26,16 +28,33 @@ import org.web3j.utils.Numeric;
  */
 public class EventEncoder {
 
-    private EventEncoder() {}
+    /** Upper bound of memoized signatures, beyond which new ones are hashed on every call. */
+    static final int MAX_CACHED_SIGNATURES = 4096;
 
-    public static String encode(Event event) {
+    private static final Map<String, String> EVENT_SIGNATURES = new ConcurrentHashMap<>();
 
-        String methodSignature = buildMethodSignature(event.getName(), event.getParameters());
+    private EventEncoder() {}
 
-        return buildEventSignature(methodSignature);
+    /**
+     * Returns the topic of the event, i.e. the hash of its signature. The topic is computed once
+     * per {@link Event} instance and kept by it, see {@link Event#getTopic()}, so repeated calls
+     * with the same event are cheap.
+     *
+     * @param event event to encode
+     * @return hex encoded event topic
+     */
+    public static String encode(Event event) {
+        return event.getTopic();
     }
 
-    static <T extends Type> String buildMethodSignature(
+    /**
+     * Returns the canonical signature of an event, e.g. {@code Transfer(address,address,uint256)}.
+     *
+     * @param methodName event name
+     * @param parameters event parameters
+     * @return canonical event signature
+     */
+    public static <T extends Type> String buildMethodSignature(
             String methodName, List<TypeReference<T>> parameters) {
 
         StringBuilder result = new StringBuilder();
@@ -48,9 +67,24 @@ public class EventEncoder {
         return result.toString();
     }
 
+    /**
+     * Returns the hex encoded hash of the event signature. Hashes of recently used signatures are
+     * memoized.
+     *
+     * @param methodSignature canonical event signature, e.g. {@code
+     *     Transfer(address,address,uint256)}
+     * @return hex encoded event topic
+     */
     public static String buildEventSignature(String methodSignature) {
-        byte[] input = methodSignature.getBytes();
-        byte[] hash = Hash.sha3(input);
-        return Numeric.toHexString(hash);
+        String encoded = EVENT_SIGNATURES.get(methodSignature);
+        if (encoded == null) {
+            byte[] input = methodSignature.getBytes();
+            byte[] hash = Hash.sha3(input);
+            encoded = Numeric.toHexString(hash);
+            if (EVENT_SIGNATURES.size() < MAX_CACHED_SIGNATURES) {
+                EVENT_SIGNATURES.putIfAbsent(methodSignature, encoded);
+            }
+        }
+        return encoded;
     }
 }
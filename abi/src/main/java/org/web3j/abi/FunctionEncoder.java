@@ -16,7 +16,9 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.web3j.abi.datatypes.Function;
@@ -37,6 +39,11 @@ import static org.web3j.abi.TypeReference.makeTypeReference;
  */
 public abstract class FunctionEncoder {
 
+    /** Upper bound of memoized method ids, beyond which new ones are hashed on every call. */
+    static final int MAX_CACHED_METHOD_IDS = 4096;
+
+    private static final Map<String, String> METHOD_IDS = new ConcurrentHashMap<>();
+
     private static final FunctionEncoder FUNCTION_ENCODER;
 
     static {
@@ -57,10 +64,30 @@ public abstract class FunctionEncoder {
         return FUNCTION_ENCODER.encodeWithSelector(methodId, parameters);
     }
 
+    /**
+     * Writes the encoded function call, selector included, to the buffer.
+     *
+     * @param function function to encode
+     * @param out buffer to write to
+     */
+    public static void encode(final Function function, final AbiBuffer out) {
+        FUNCTION_ENCODER.encodeFunction(function, out);
+    }
+
     public static String encodeConstructor(final List<Type> parameters) {
         return FUNCTION_ENCODER.encodeParameters(parameters);
     }
 
+    /**
+     * Writes the encoded constructor parameters to the buffer.
+     *
+     * @param parameters constructor parameters
+     * @param out buffer to write to
+     */
+    public static void encodeConstructor(final List<Type> parameters, final AbiBuffer out) {
+        FUNCTION_ENCODER.encodeParameters(parameters, out);
+    }
+
     public static String encodeConstructorPacked(final List<Type> parameters) {
         return FUNCTION_ENCODER.encodePackedParameters(parameters);
     }
@@ -91,6 +118,24 @@ public abstract class FunctionEncoder {
 
     protected abstract String encodeParameters(List<Type> parameters);
 
+    /**
+     * Writes the encoded function call to the buffer. The default implementation decodes the hex
+     * string returned by {@link #encodeFunction(Function)}.
+     */
+    protected void encodeFunction(Function function, AbiBuffer out) {
+        byte[] encoded = Numeric.hexStringToByteArray(encodeFunction(function));
+        out.write(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Writes the encoded parameters to the buffer. The default implementation decodes the hex
+     * string returned by {@link #encodeParameters(List)}.
+     */
+    protected void encodeParameters(List<Type> parameters, AbiBuffer out) {
+        byte[] encoded = Numeric.hexStringToByteArray(encodeParameters(parameters));
+        out.write(encoded, 0, encoded.length);
+    }
+
     /**
      * @param methodId Callback selector / Abi method Id (Hex format)
      */
@@ -112,9 +157,28 @@ public abstract class FunctionEncoder {
         return result.toString();
     }
 
-    protected static String buildMethodId(final String methodSignature) {
-        final byte[] input = methodSignature.getBytes();
-        final byte[] hash = Hash.sha3(input);
-        return Numeric.toHexString(hash).substring(0, 10);
+    /** Same as {@link #buildMethodId(String)}, returning the selector bytes. */
+    protected static byte[] buildMethodIdBytes(final String methodSignature) {
+        return Numeric.hexStringToByteArray(buildMethodId(methodSignature));
+    }
+
+    /**
+     * Returns the method id, or selector, of a function signature. Ids of recently used signatures
+     * are memoized.
+     *
+     * @param methodSignature canonical function signature, e.g. {@code transfer(address,uint256)}
+     * @return hex encoded 4 byte method id
+     */
+    public static String buildMethodId(final String methodSignature) {
+        String methodId = METHOD_IDS.get(methodSignature);
+        if (methodId == null) {
+            final byte[] input = methodSignature.getBytes();
+            final byte[] hash = Hash.sha3(input);
+            methodId = Numeric.toHexString(hash, 0, 4, true);
+            if (METHOD_IDS.size() < MAX_CACHED_METHOD_IDS) {
+                METHOD_IDS.putIfAbsent(methodSignature, methodId);
+            }
+        }
+        return methodId;
     }
 }
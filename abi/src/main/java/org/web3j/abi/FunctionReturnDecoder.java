@@ -12,6 +12,7 @@
  */
 package org.web3j.abi;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -22,6 +23,7 @@ import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.DynamicBytes;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.spi.FunctionReturnDecoderProvider;
+import org.web3j.utils.Numeric;
 
 /**
  * Decodes values returned by function or event calls.
@@ -57,6 +59,57 @@ public abstract class FunctionReturnDecoder {
         return decoder.decodeFunctionResult(rawInput, outputParameters);
     }
 
+    /**
+     * Decode ABI encoded return values from smart contract function call, or the non-indexed
+     * parameters of an event, from their binary form. Values of elementary types, and arrays of
+     * them, are decoded straight from the bytes instead of from a hex string.
+     *
+     * @param input ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function, {@link Collections#emptyList()} if input
+     *     is empty
+     */
+    public static List<Type> decode(byte[] input, List<TypeReference<Type>> outputParameters) {
+        return decoder.decodeFunctionResult(input, outputParameters);
+    }
+
+    /**
+     * Decode a single value out of ABI encoded return values or non-indexed event parameters, see
+     * {@link #decode(byte[], List)}. The other values are skipped rather than decoded.
+     *
+     * @param input ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @param index position of the value to decode in outputParameters
+     * @return the decoded value
+     * @throws IndexOutOfBoundsException if input is empty or index is out of range
+     */
+    public static Type decode(byte[] input, List<TypeReference<Type>> outputParameters, int index) {
+        return decoder.decodeFunctionResult(input, outputParameters, index);
+    }
+
+    /**
+     * Decode ABI encoded return values from the remaining bytes of a buffer, see {@link
+     * #decode(byte[], List)}. The buffer's position is not changed.
+     *
+     * @param input ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function, {@link Collections#emptyList()} if input
+     *     is empty
+     */
+    public static List<Type> decode(ByteBuffer input, List<TypeReference<Type>> outputParameters) {
+        byte[] bytes;
+        if (input.hasArray()
+                && input.arrayOffset() == 0
+                && input.position() == 0
+                && input.remaining() == input.array().length) {
+            bytes = input.array();
+        } else {
+            bytes = new byte[input.remaining()];
+            input.duplicate().get(bytes);
+        }
+        return decode(bytes, outputParameters);
+    }
+
     /**
      * Decode ABI encoded return value DynamicBytes from smart contract function call.
      *
@@ -111,6 +164,24 @@ public abstract class FunctionReturnDecoder {
     protected abstract List<Type> decodeFunctionResult(
             String rawInput, List<TypeReference<Type>> outputParameters);
 
+    /**
+     * Decodes from the binary form of the input. The default implementation decodes its hex form
+     * through {@link #decodeFunctionResult(String, List)}.
+     */
+    protected List<Type> decodeFunctionResult(
+            byte[] input, List<TypeReference<Type>> outputParameters) {
+        return decodeFunctionResult(Numeric.toHexString(input), outputParameters);
+    }
+
+    /**
+     * Decodes a single value from the binary form of the input. The default implementation decodes
+     * all of them through {@link #decodeFunctionResult(byte[], List)}.
+     */
+    protected Type decodeFunctionResult(
+            byte[] input, List<TypeReference<Type>> outputParameters, int index) {
+        return decodeFunctionResult(input, outputParameters).get(index);
+    }
+
     protected abstract <T extends Type> Type decodeEventParameter(
             String rawInput, TypeReference<T> typeReference);
 }
@@ -54,9 +54,10 @@ import org.web3j.utils.Numeric;
 
 import static org.web3j.abi.DefaultFunctionReturnDecoder.getDataOffset;
 import static org.web3j.abi.TypeReference.makeTypeReference;
-import static org.web3j.abi.Utils.findStructConstructor;
 import static org.web3j.abi.Utils.getSimpleTypeName;
-import static org.web3j.abi.Utils.staticStructNestedPublicFieldsFlatList;
+import static org.web3j.abi.Utils.staticStructFieldCount;
+import static org.web3j.abi.Utils.structConstructor;
+import static org.web3j.abi.Utils.structFactory;
 
 /**
  * Ethereum Contract Application Binary Interface (ABI) decoding for types. Decoding is not
@@ -139,10 +140,46 @@ public class TypeDecoder {
         return decode(input, 0, ((TypeReference<T>) type).getClassType());
     }
 
+    /**
+     * Decodes a value of an elementary type from ABI encoded bytes, without converting them to hex
+     * first.
+     *
+     * @param input ABI encoded data
+     * @param offset offset of the value in bytes, for dynamic types the offset its data starts at
+     * @param type elementary type to decode
+     * @param <T> type to decode
+     * @return the decoded value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Type> T decode(byte[] input, int offset, Class<T> type) {
+        if (NumericType.class.isAssignableFrom(type)) {
+            return (T) decodeNumeric(input, offset, (Class<NumericType>) type);
+        } else if (Address.class.isAssignableFrom(type)) {
+            return (T) decodeAddress(input, offset);
+        } else if (Bool.class.isAssignableFrom(type)) {
+            return (T) decodeBool(input, offset);
+        } else if (Bytes.class.isAssignableFrom(type)) {
+            return (T) decodeBytes(input, offset, (Class<Bytes>) type);
+        } else if (DynamicBytes.class.isAssignableFrom(type)) {
+            return (T) decodeDynamicBytes(input, offset);
+        } else if (Utf8String.class.isAssignableFrom(type)) {
+            return (T) decodeUtf8String(input, offset);
+        } else if (Array.class.isAssignableFrom(type)) {
+            throw new UnsupportedOperationException(
+                    "Array types must be wrapped in a TypeReference");
+        } else {
+            throw new UnsupportedOperationException("Type cannot be encoded: " + type.getClass());
+        }
+    }
+
     public static Address decodeAddress(String input) {
         return new Address(decodeNumeric(input, Uint160.class));
     }
 
+    public static Address decodeAddress(byte[] input, int offset) {
+        return new Address(decodeNumeric(input, offset, Uint160.class));
+    }
+
     public static <T extends NumericType> T decodeNumeric(String input, Class<T> type) {
         try {
             byte[] inputByteArray = Numeric.hexStringToByteArray(input);
@@ -168,6 +205,30 @@ public class TypeDecoder {
         }
     }
 
+    public static <T extends NumericType> T decodeNumeric(byte[] input, int offset, Class<T> type) {
+        try {
+            int typeLengthAsBytes = getTypeLengthInBytes(type);
+            int valueOffset = offset + Type.MAX_BYTE_LENGTH - typeLengthAsBytes;
+
+            BigInteger numericValue;
+            if (Uint.class.isAssignableFrom(type) || Ufixed.class.isAssignableFrom(type)) {
+                numericValue = new BigInteger(1, input, valueOffset, typeLengthAsBytes);
+            } else {
+                numericValue = new BigInteger(input, valueOffset, typeLengthAsBytes);
+            }
+            return type.getConstructor(BigInteger.class).newInstance(numericValue);
+
+        } catch (NoSuchMethodException
+                | SecurityException
+                | InstantiationException
+                | IllegalAccessException
+                | IllegalArgumentException
+                | InvocationTargetException e) {
+            throw new UnsupportedOperationException(
+                    "Unable to create instance of " + type.getName(), e);
+        }
+    }
+
     static <T extends NumericType> int getTypeLengthInBytes(Class<T> type) {
         return getTypeLength(type) >> 3; // divide by 8
     }
@@ -285,7 +346,7 @@ public class TypeDecoder {
             // length field + data value
             return (decodeUintAsInt(input, offset) / Type.MAX_BYTE_LENGTH) + 2;
         } else if (StaticStruct.class.isAssignableFrom(type)) {
-            return staticStructNestedPublicFieldsFlatList((Class<Type>) type).size();
+            return staticStructFieldCount(type);
         } else {
             return 1;
         }
@@ -296,6 +357,15 @@ public class TypeDecoder {
         return decode(input, 0, Uint.class).getValue().intValue();
     }
 
+    static int decodeUintAsInt(byte[] input, int offset) {
+        // the low-order 32 bits of the word, as BigInteger#intValue would return them
+        int end = offset + Type.MAX_BYTE_LENGTH;
+        return (input[end - 4] & 0xff) << 24
+                | (input[end - 3] & 0xff) << 16
+                | (input[end - 2] & 0xff) << 8
+                | (input[end - 1] & 0xff);
+    }
+
     public static Bool decodeBool(String rawInput, int offset) {
         String input = rawInput.substring(offset, offset + MAX_BYTE_LENGTH_FOR_HEX_STRING);
         BigInteger numericValue = Numeric.toBigInt(input);
@@ -303,6 +373,15 @@ public class TypeDecoder {
         return new Bool(value);
     }
 
+    public static Bool decodeBool(byte[] input, int offset) {
+        int last = offset + Type.MAX_BYTE_LENGTH - 1;
+        boolean value = input[last] == 1;
+        for (int i = offset; value && i < last; i++) {
+            value = input[i] == 0;
+        }
+        return new Bool(value);
+    }
+
     public static <T extends Bytes> T decodeBytes(String input, Class<T> type) {
         return decodeBytes(input, 0, type);
     }
@@ -328,6 +407,25 @@ public class TypeDecoder {
         }
     }
 
+    public static <T extends Bytes> T decodeBytes(byte[] input, int offset, Class<T> type) {
+        try {
+            String simpleName = type.getSimpleName();
+            String[] splitName = simpleName.split(Bytes.class.getSimpleName());
+            int length = Integer.parseInt(splitName[1]);
+
+            byte[] bytes = Arrays.copyOfRange(input, offset, offset + length);
+            return type.getConstructor(byte[].class).newInstance(bytes);
+        } catch (NoSuchMethodException
+                | SecurityException
+                | InstantiationException
+                | IllegalAccessException
+                | IllegalArgumentException
+                | InvocationTargetException e) {
+            throw new UnsupportedOperationException(
+                    "Unable to create instance of " + type.getName(), e);
+        }
+    }
+
     public static DynamicBytes decodeDynamicBytes(String input, int offset) {
         int encodedLength = decodeUintAsInt(input, offset);
         int hexStringEncodedLength = encodedLength << 1;
@@ -340,6 +438,14 @@ public class TypeDecoder {
         return new DynamicBytes(bytes);
     }
 
+    public static DynamicBytes decodeDynamicBytes(byte[] input, int offset) {
+        int encodedLength = decodeUintAsInt(input, offset);
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH;
+
+        return new DynamicBytes(
+                Arrays.copyOfRange(input, valueOffset, valueOffset + encodedLength));
+    }
+
     public static Utf8String decodeUtf8String(String input, int offset) {
         DynamicBytes dynamicBytesResult = decodeDynamicBytes(input, offset);
         byte[] bytes = dynamicBytesResult.getValue();
@@ -347,6 +453,14 @@ public class TypeDecoder {
         return new Utf8String(new String(bytes, StandardCharsets.UTF_8));
     }
 
+    public static Utf8String decodeUtf8String(byte[] input, int offset) {
+        int encodedLength = decodeUintAsInt(input, offset);
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH;
+
+        return new Utf8String(
+                new String(input, valueOffset, encodedLength, StandardCharsets.UTF_8));
+    }
+
     /** Static array length cannot be passed as a type. */
     @SuppressWarnings("unchecked")
     public static <T extends Type> T decodeStaticArray(
@@ -365,6 +479,30 @@ public class TypeDecoder {
         return decodeArrayElements(input, offset, typeReference, length, function);
     }
 
+    /**
+     * Decodes a static array from ABI encoded bytes. Arrays of structs or of other arrays are
+     * decoded through the hex based {@link #decodeStaticArray(String, int, TypeReference, int)}.
+     */
+    public static <T extends Type> T decodeStaticArray(
+            byte[] input, int offset, TypeReference<T> typeReference, int length) {
+        if (!hasElementaryElements(typeReference)) {
+            return decodeStaticArray(
+                    Numeric.toHexStringNoPrefix(input), offset << 1, typeReference, length);
+        }
+
+        BiFunction<List<T>, String, T> function =
+                (elements, typeName) -> {
+                    if (elements.isEmpty()) {
+                        throw new UnsupportedOperationException(
+                                "Zero length fixed array is invalid type");
+                    } else {
+                        return instantiateStaticArray(elements, length);
+                    }
+                };
+
+        return decodeArrayElements(input, offset, typeReference, length, function);
+    }
+
     public static <T extends Type> T decodeStaticStruct(
             final String input, final int offset, final TypeReference<T> typeReference) {
         BiFunction<List<T>, String, T> function =
@@ -448,7 +586,7 @@ public class TypeDecoder {
             final BiFunction<List<T>, String, T> consumer) {
         try {
             Class<T> classType = typeReference.getClassType();
-            Constructor<?> constructor = findStructConstructor(classType);
+            Constructor<?> constructor = structConstructor(classType);
             final int length = constructor.getParameterCount();
             List<T> elements = new ArrayList<>(length);
 
@@ -499,11 +637,11 @@ public class TypeDecoder {
             } else if (classType.isAssignableFrom(StaticStruct.class)) {
                 return (T) new StaticStruct((List<Type>) parameters);
             } else {
-                Constructor ctor = findStructConstructor(classType);
-                ctor.setAccessible(true);
-                return (T) ctor.newInstance(parameters.toArray());
+                return (T) (Object) structFactory(classType).invokeExact(parameters.toArray());
             }
-        } catch (ReflectiveOperationException e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new UnsupportedOperationException(
                     "Constructor cannot accept" + Arrays.toString(parameters.toArray()), e);
         }
@@ -523,6 +661,28 @@ public class TypeDecoder {
         return decodeArrayElements(input, valueOffset, typeReference, length, function);
     }
 
+    /**
+     * Decodes a dynamic array from ABI encoded bytes. Arrays of structs or of other arrays are
+     * decoded through the hex based {@link #decodeDynamicArray(String, int, TypeReference)}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Type> T decodeDynamicArray(
+            byte[] input, int offset, TypeReference<T> typeReference) {
+        if (!hasElementaryElements(typeReference)) {
+            return decodeDynamicArray(
+                    Numeric.toHexStringNoPrefix(input), offset << 1, typeReference);
+        }
+
+        int length = decodeUintAsInt(input, offset);
+
+        BiFunction<List<T>, String, T> function =
+                (elements, typeName) -> (T) new DynamicArray(AbiTypes.getType(typeName), elements);
+
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH;
+
+        return decodeArrayElements(input, valueOffset, typeReference, length, function);
+    }
+
     public static <T extends Type> T decodeDynamicStruct(
             String input, int offset, TypeReference<T> typeReference)
             throws ClassNotFoundException {
@@ -662,7 +822,7 @@ public class TypeDecoder {
             final BiFunction<List<T>, String, T> consumer) {
         try {
             final Class<T> classType = typeReference.getClassType();
-            Constructor<?> constructor = findStructConstructor(classType);
+            Constructor<?> constructor = structConstructor(classType);
             final int length = constructor.getParameterCount();
             final Map<Integer, T> parameters = new HashMap<>();
             int staticOffset = 0;
@@ -686,8 +846,7 @@ public class TypeDecoder {
                                         0,
                                         TypeReference.create(declaredField));
                         staticOffset +=
-                                staticStructNestedPublicFieldsFlatList((Class<Type>) declaredField)
-                                                .size()
+                                staticStructFieldCount(declaredField)
                                         * MAX_BYTE_LENGTH_FOR_HEX_STRING;
                     } else {
                         value = decode(input.substring(beginIndex), 0, declaredField);
@@ -802,6 +961,29 @@ public class TypeDecoder {
         return (decodeUintAsInt(input, 0) * 2);
     }
 
+    /** Whether values of the type are encoded on their own, rather than as a struct or array. */
+    static boolean isElementary(Class<?> type) {
+        return NumericType.class.isAssignableFrom(type)
+                || Address.class.isAssignableFrom(type)
+                || Bool.class.isAssignableFrom(type)
+                || Bytes.class.isAssignableFrom(type)
+                || DynamicBytes.class.isAssignableFrom(type)
+                || Utf8String.class.isAssignableFrom(type);
+    }
+
+    private static boolean hasElementaryElements(TypeReference<?> typeReference) {
+        try {
+            return isElementary(Utils.getParameterizedTypeFromArray(typeReference));
+        } catch (ClassCastException e) {
+            return false;
+        } catch (ClassNotFoundException e) {
+            throw new UnsupportedOperationException(
+                    "Unable to access parameterized type "
+                            + Utils.getTypeName(typeReference.getType()),
+                    e);
+        }
+    }
+
     static <T extends Type> boolean isDynamic(Class<T> parameter) {
         return DynamicBytes.class.isAssignableFrom(parameter)
                 || Utf8String.class.isAssignableFrom(parameter)
@@ -1027,4 +1209,35 @@ public class TypeDecoder {
                     e);
         }
     }
+
+    private static <T extends Type> T decodeArrayElements(
+            byte[] input,
+            int offset,
+            TypeReference<T> typeReference,
+            int length,
+            BiFunction<List<T>, String, T> consumer) {
+
+        try {
+            Class<T> cls = Utils.getParameterizedTypeFromArray(typeReference);
+            boolean dynamic = isDynamic(cls);
+            List<T> elements = new ArrayList<>(length);
+            for (int i = 0, currOffset = offset; i < length; i++) {
+                if (dynamic) {
+                    elements.add(decode(input, offset + decodeUintAsInt(input, currOffset), cls));
+                } else {
+                    elements.add(decode(input, currOffset, cls));
+                }
+                currOffset += Type.MAX_BYTE_LENGTH;
+            }
+
+            String typeName = getSimpleTypeName(cls);
+
+            return consumer.apply(elements, typeName);
+        } catch (ClassNotFoundException e) {
+            throw new UnsupportedOperationException(
+                    "Unable to access parameterized type "
+                            + Utils.getTypeName(typeReference.getType()),
+                    e);
+        }
+    }
 }
@@ -104,6 +104,46 @@ public class TypeEncoder {
         }
     }
 
+    /**
+     * Writes the ABI encoding of the parameter to the buffer. The bytes written are the same as the
+     * ones of {@link #encode(Type)}, without going through a hex string.
+     *
+     * @param parameter Value to be encoded
+     * @param out buffer to write to
+     */
+    @SuppressWarnings("unchecked")
+    public static void encode(Type parameter, AbiBuffer out) {
+        if (parameter instanceof NumericType) {
+            encodeNumeric((NumericType) parameter, out);
+        } else if (parameter instanceof Address) {
+            encodeNumeric(((Address) parameter).toUint(), out);
+        } else if (parameter instanceof Bool) {
+            out.writeWord(((Bool) parameter).getValue() ? 1 : 0);
+        } else if (parameter instanceof Bytes) {
+            out.writePadded(((Bytes) parameter).getValue());
+        } else if (parameter instanceof DynamicBytes) {
+            encodeDynamicBytes(((DynamicBytes) parameter).getValue(), out);
+        } else if (parameter instanceof Utf8String) {
+            encodeDynamicBytes(
+                    ((Utf8String) parameter).getValue().getBytes(StandardCharsets.UTF_8), out);
+        } else if (parameter instanceof StaticArray) {
+            if (isDynamic(((StaticArray) parameter).getComponentType())) {
+                encodeDynamicValues(((StaticArray) parameter).getValue(), out);
+            } else {
+                encodeArrayValues((StaticArray) parameter, out);
+            }
+        } else if (parameter instanceof DynamicStruct) {
+            encodeDynamicStruct((DynamicStruct) parameter, out);
+        } else if (parameter instanceof DynamicArray) {
+            encodeDynamicArray((DynamicArray) parameter, out);
+        } else if (parameter instanceof PrimitiveType) {
+            encode(((PrimitiveType) parameter).toSolidityType(), out);
+        } else {
+            throw new UnsupportedOperationException(
+                    "Type cannot be encoded: " + parameter.getClass());
+        }
+    }
+
     /**
      * Returns abi.encodePacked hex value for the supported types. First the value is encoded and
      * after the padding or length, in arrays cases, is removed resulting the packed encode hex
@@ -205,6 +245,16 @@ public class TypeEncoder {
         return Numeric.toHexStringNoPrefix(paddedRawValue);
     }
 
+    private static void encodeNumeric(NumericType numericType, AbiBuffer out) {
+        BigInteger value = numericType.getValue();
+        if (value.bitLength() < Long.SIZE) {
+            out.writeWord(value.longValue());
+        } else {
+            byte[] rawValue = toByteArray(numericType);
+            out.writeWord(rawValue, 0, rawValue.length, getPaddingValue(numericType));
+        }
+    }
+
     private static byte getPaddingValue(NumericType numericType) {
         if (numericType.getValue().signum() == -1) {
             return (byte) 0xff;
@@ -267,6 +317,11 @@ public class TypeEncoder {
         return result.toString();
     }
 
+    private static void encodeDynamicBytes(byte[] value, AbiBuffer out) {
+        out.writeWord(value.length);
+        out.writePadded(value);
+    }
+
     static String encodeString(Utf8String string) {
         byte[] utfEncoded = string.getValue().getBytes(StandardCharsets.UTF_8);
         return encodeDynamicBytes(new DynamicBytes(utfEncoded));
@@ -280,6 +335,12 @@ public class TypeEncoder {
         return result.toString();
     }
 
+    private static <T extends Type> void encodeArrayValues(Array<T> value, AbiBuffer out) {
+        for (Type type : value.getValue()) {
+            encode(type, out);
+        }
+    }
+
     static String encodeDynamicStruct(final DynamicStruct value) {
         String encodedValues = encodeDynamicStructValues(value);
 
@@ -322,6 +383,35 @@ public class TypeEncoder {
         return String.join("", data);
     }
 
+    private static void encodeDynamicStruct(final DynamicStruct value, AbiBuffer out) {
+        final List<Type> values = value.getValue();
+        int staticSize = 0;
+        for (final Type type : values) {
+            if (isDynamic(type)) {
+                staticSize += 32;
+            } else {
+                staticSize += type.bytes32PaddedLength();
+            }
+        }
+        final int[] offsetPositions = new int[values.size()];
+        for (int i = 0; i < values.size(); ++i) {
+            final Type type = values.get(i);
+            if (isDynamic(type)) {
+                offsetPositions[i] = out.reserveWord();
+            } else {
+                encode(type, out);
+            }
+        }
+        final int dynamicStart = out.size();
+        for (int i = 0; i < values.size(); ++i) {
+            final Type type = values.get(i);
+            if (isDynamic(type)) {
+                out.setWord(offsetPositions[i], staticSize + out.size() - dynamicStart);
+                encode(type, out);
+            }
+        }
+    }
+
     static <T extends Type> String encodeDynamicArray(DynamicArray<T> value) {
         int size = value.getValue().size();
         String encodedLength = encode(new Uint(BigInteger.valueOf(size)));
@@ -335,6 +425,36 @@ public class TypeEncoder {
         return result.toString();
     }
 
+    private static <T extends Type> void encodeDynamicArray(DynamicArray<T> value, AbiBuffer out) {
+        final List<T> values = value.getValue();
+        out.writeWord(values.size());
+        if (!values.isEmpty()
+                && (values.get(0) instanceof DynamicBytes
+                        || values.get(0) instanceof Utf8String
+                        || values.get(0) instanceof DynamicStruct
+                        || values.get(0) instanceof DynamicArray)) {
+            encodeDynamicValues(values, out);
+        } else {
+            encodeArrayValues(value, out);
+        }
+    }
+
+    /**
+     * Writes the offsets of the values followed by the values themselves, as done for the elements
+     * of arrays of dynamic types. Same as {@link #encodeDynamicsTypesArraysOffsets(Array)} followed
+     * by {@link #encodeArrayValues(Array)}.
+     */
+    private static <T extends Type> void encodeDynamicValues(List<T> values, AbiBuffer out) {
+        final int headStart = out.size();
+        for (int i = 0; i < values.size(); i++) {
+            out.reserveWord();
+        }
+        for (int i = 0; i < values.size(); i++) {
+            out.setWord(headStart + i * MAX_BYTE_LENGTH, out.size() - headStart);
+            encode(values.get(i), out);
+        }
+    }
+
     /**
      * Encodes the array values offsets of the to be encrypted dynamic array, which are in our case
      * the heads of the encryption. Refer to
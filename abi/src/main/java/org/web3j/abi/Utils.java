@@ -13,6 +13,9 @@
 package org.web3j.abi;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -40,6 +43,51 @@ import org.web3j.abi.datatypes.reflection.Parameterized;
 
 /** Utility functions. */
 public class Utils {
+    /** Shared, so never handed out of this package nor made accessible. */
+    private static final ClassValue<Constructor<?>> STRUCT_CONSTRUCTORS =
+            new ClassValue<>() {
+                @Override
+                protected Constructor<?> computeValue(Class<?> type) {
+                    return Arrays.stream(type.getDeclaredConstructors())
+                            .filter(
+                                    declaredConstructor ->
+                                            Arrays.stream(declaredConstructor.getParameterTypes())
+                                                    .allMatch(Type.class::isAssignableFrom))
+                            .findAny()
+                            .orElseThrow(
+                                    () ->
+                                            new RuntimeException(
+                                                    "TypeReferenced struct must contain a constructor with types that extend Type"));
+                }
+            };
+
+    private static final ClassValue<MethodHandle> STRUCT_FACTORIES =
+            new ClassValue<>() {
+                @Override
+                protected MethodHandle computeValue(Class<?> type) {
+                    Constructor<?> constructor = copyOf(structConstructor(type));
+                    constructor.setAccessible(true);
+                    try {
+                        return MethodHandles.lookup()
+                                .unreflectConstructor(constructor)
+                                .asSpreader(Object[].class, constructor.getParameterCount())
+                                .asType(MethodType.methodType(Object.class, Object[].class));
+                    } catch (IllegalAccessException e) {
+                        throw new UnsupportedOperationException(
+                                "Unable to access constructor of " + type.getName(), e);
+                    }
+                }
+            };
+
+    private static final ClassValue<Integer> STATIC_STRUCT_FIELD_COUNTS =
+            new ClassValue<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                protected Integer computeValue(Class<?> type) {
+                    return staticStructNestedPublicFieldsFlatList((Class<Type>) type).size();
+                }
+            };
+
     private Utils() {}
 
     static <T extends Type> String getTypeName(TypeReference<T> typeReference) {
@@ -66,7 +114,7 @@ public class Utils {
 
     public static String getStructType(Class type) {
         final StringBuilder sb = new StringBuilder("(");
-        Constructor constructor = findStructConstructor(type);
+        Constructor<?> constructor = structConstructor(type);
         Class[] itemTypes = constructor.getParameterTypes();
         for (int i = 0; i < itemTypes.length; ++i) {
             final Class cls = itemTypes[i];
@@ -109,16 +157,47 @@ public class Utils {
     }
 
     public static Constructor findStructConstructor(Class classType) {
-        return Arrays.stream(classType.getDeclaredConstructors())
-                .filter(
-                        declaredConstructor ->
-                                Arrays.stream(declaredConstructor.getParameterTypes())
-                                        .allMatch(Type.class::isAssignableFrom))
-                .findAny()
-                .orElseThrow(
-                        () ->
-                                new RuntimeException(
-                                        "TypeReferenced struct must contain a constructor with types that extend Type"));
+        return copyOf(structConstructor(classType));
+    }
+
+    /**
+     * Same as {@link #findStructConstructor(Class)}, without copying the constructor that is looked
+     * up once per struct class. The result must not be modified, e.g. made accessible.
+     */
+    static Constructor<?> structConstructor(Class<?> classType) {
+        return STRUCT_CONSTRUCTORS.get(classType);
+    }
+
+    private static Constructor<?> copyOf(Constructor<?> constructor) {
+        try {
+            return constructor
+                    .getDeclaringClass()
+                    .getDeclaredConstructor(constructor.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a handle to the struct constructor taking its components as an {@code Object[]}. The
+     * handle is looked up once per struct class.
+     *
+     * @param classType struct type
+     * @return handle of type {@code (Object[])Object}
+     */
+    static MethodHandle structFactory(Class<?> classType) {
+        return STRUCT_FACTORIES.get(classType);
+    }
+
+    /**
+     * Returns the size of {@link #staticStructNestedPublicFieldsFlatList(Class)}, computed once per
+     * struct class.
+     *
+     * @param classType static struct type
+     * @return number of 32 byte words taken by the encoded struct
+     */
+    static int staticStructFieldCount(Class<?> classType) {
+        return STATIC_STRUCT_FIELD_COUNTS.get(classType);
     }
 
     static String getSimpleTypeName(Class<?> type) {
@@ -15,6 +15,7 @@ package org.web3j.abi.datatypes;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.web3j.abi.EventEncoder;
 import org.web3j.abi.TypeReference;
 
 import static org.web3j.abi.Utils.convert;
@@ -23,6 +24,7 @@ import static org.web3j.abi.Utils.convert;
 public class Event {
     private String name;
     private List<TypeReference<Type>> parameters;
+    private volatile String topic;
 
     public Event(String name, List<TypeReference<?>> parameters) {
         this.name = name;
@@ -37,6 +39,23 @@ public class Event {
         return parameters;
     }
 
+    /**
+     * Returns the topic of the event, i.e. the hex encoded hash of its signature, computed on first
+     * use.
+     *
+     * @return hex encoded event topic
+     */
+    public String getTopic() {
+        String topic = this.topic;
+        if (topic == null) {
+            topic =
+                    EventEncoder.buildEventSignature(
+                            EventEncoder.buildMethodSignature(name, parameters));
+            this.topic = topic;
+        }
+        return topic;
+    }
+
     public List<TypeReference<Type>> getIndexedParameters() {
         return parameters.stream().filter(TypeReference::isIndexed).collect(Collectors.toList());
     }
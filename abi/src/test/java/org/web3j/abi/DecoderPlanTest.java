@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DecoderPlanTest {
+
+    @Test
+    public void testPlanIsCachedPerSignature() {
+        assertSame(DecoderPlan.of(outputParameters()), DecoderPlan.of(outputParameters()));
+        assertSame(
+                DecoderPlan.of(Utils.convert(Arrays.asList(TypeReference.create(Uint256.class)))),
+                DecoderPlan.of(Utils.convert(Arrays.asList(TypeReference.create(Uint256.class)))));
+    }
+
+    @Test
+    public void testPlanIsNotCachedForBuiltTypeReferences() throws ClassNotFoundException {
+        List<TypeReference<Type>> parameters =
+                Utils.convert(Arrays.asList(TypeReference.makeTypeReference("uint256[2]")));
+
+        assertNotSame(DecoderPlan.of(parameters), DecoderPlan.of(parameters));
+    }
+
+    @Test
+    public void testPlanIsCachedOnChildClassLoader() throws Exception {
+        List<TypeReference<Type>> parameters =
+                Utils.convert(
+                        Arrays.asList(
+                                TypeReference.create(Uint256.class),
+                                TypeReference.create(reloadUint256())));
+
+        assertSame(DecoderPlan.of(parameters), DecoderPlan.of(parameters));
+    }
+
+    @Test
+    public void testPlanIsNotCachedAcrossUnrelatedClassLoaders() throws Exception {
+        List<TypeReference<Type>> parameters =
+                Arrays.asList(
+                        TypeReference.create(reloadUint256()),
+                        TypeReference.create(reloadUint256()));
+
+        assertNotSame(DecoderPlan.of(parameters), DecoderPlan.of(parameters));
+    }
+
+    @Test
+    public void testDecodeWithCachedPlan() {
+        String rawInput =
+                "0x0000000000000000000000000000000000000000000000000000000000000037"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        + "0000000000000000000000000000000000000000000000000000000000000007";
+
+        DecoderPlan plan = DecoderPlan.of(outputParameters());
+        assertTrue(plan.isDecodableFromBytes());
+        assertEquals(
+                Arrays.asList(
+                        new Uint256(BigInteger.valueOf(55)),
+                        new DynamicArray<>(Uint256.class, new Uint256(BigInteger.valueOf(7)))),
+                plan.decode(rawInput.substring(2)));
+        assertEquals(
+                plan.decode(rawInput.substring(2)),
+                plan.decode(Numeric.hexStringToByteArray(rawInput)));
+    }
+
+    @Test
+    public void testStructsAreNotDecodableFromBytes() {
+        assertFalse(
+                DecoderPlan.of(
+                                Utils.convert(
+                                        Arrays.asList(
+                                                new TypeReference<AbiV2TestFixture.Bar>() {},
+                                                new TypeReference<Utf8String>() {})))
+                        .isDecodableFromBytes());
+    }
+
+    private static List<TypeReference<Type>> outputParameters() {
+        return Utils.convert(
+                Arrays.asList(
+                        new TypeReference<Uint256>() {},
+                        new TypeReference<DynamicArray<Uint256>>() {}));
+    }
+
+    /** Defines a copy of {@link Uint256} in a new class loader that delegates everything else. */
+    @SuppressWarnings("unchecked")
+    private static Class<Type> reloadUint256() throws ClassNotFoundException {
+        String name = Uint256.class.getName();
+        ClassLoader loader =
+                new ClassLoader(DecoderPlanTest.class.getClassLoader()) {
+                    @Override
+                    protected Class<?> loadClass(String className, boolean resolve)
+                            throws ClassNotFoundException {
+                        if (!className.equals(name)) {
+                            return super.loadClass(className, resolve);
+                        }
+                        String resource = className.replace('.', '/') + ".class";
+                        try (InputStream in = getParent().getResourceAsStream(resource)) {
+                            byte[] bytes = in.readAllBytes();
+                            return defineClass(className, bytes, 0, bytes.length);
+                        } catch (IOException e) {
+                            throw new ClassNotFoundException(className, e);
+                        }
+                    }
+                };
+        return (Class<Type>) loader.loadClass(name);
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.web3j.abi;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -31,11 +32,14 @@ import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.datatypes.Uint;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.abi.datatypes.generated.Bytes10;
+import org.web3j.abi.datatypes.generated.Int256;
 import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.abi.datatypes.generated.Uint32;
 import org.web3j.utils.Numeric;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class DefaultFunctionEncoderTest {
 
@@ -44,6 +48,14 @@ public class DefaultFunctionEncoderTest {
         assertEquals("0xcdcd77c0", DefaultFunctionEncoder.buildMethodId("baz(uint32,bool)"));
     }
 
+    @Test
+    public void testBuildMethodIdIsMemoized() {
+        assertSame(
+                FunctionEncoder.buildMethodId("transfer(address,uint256)"),
+                FunctionEncoder.buildMethodId("transfer(address,uint256)"));
+        assertEquals("0xa9059cbb", FunctionEncoder.buildMethodId("transfer(address,uint256)"));
+    }
+
     @Test
     public void testBuildMessageSignature() {
         assertEquals(
@@ -900,4 +912,52 @@ public class DefaultFunctionEncoderTest {
 
         assertEquals(expected, FunctionEncoder.encode(AbiV2TestFixture.setQuxFunction));
     }
+
+    @Test
+    public void testEncodeToBuffer() {
+        Function function =
+                new Function(
+                        "sam",
+                        Arrays.asList(
+                                new DynamicBytes("dave".getBytes()),
+                                new Bool(true),
+                                new Int256(BigInteger.valueOf(-2)),
+                                new Uint256(BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE)),
+                                new Utf8String("Hello, world!"),
+                                new DynamicArray<>(
+                                        Uint.class,
+                                        new Uint(BigInteger.ONE),
+                                        new Uint(BigInteger.valueOf(2)),
+                                        new Uint(BigInteger.valueOf(3)))),
+                        Collections.emptyList());
+
+        AbiBuffer buffer = new AbiBuffer(16);
+        FunctionEncoder.encode(function, buffer);
+        assertArrayEquals(
+                Numeric.hexStringToByteArray(FunctionEncoder.encode(function)),
+                buffer.toByteArray());
+
+        buffer.reset();
+        FunctionEncoder.encodeConstructor(function.getInputParameters(), buffer);
+        assertEquals(
+                FunctionEncoder.encodeConstructor(function.getInputParameters()),
+                Numeric.toHexStringNoPrefix(buffer.toByteArray()));
+    }
+
+    @Test
+    public void testEncodeFixtureFunctionsToBuffer() throws IllegalAccessException {
+        AbiBuffer buffer = new AbiBuffer();
+        for (Field field : AbiV2TestFixture.class.getFields()) {
+            if (field.getType() == Function.class) {
+                Function function = (Function) field.get(null);
+
+                buffer.reset();
+                FunctionEncoder.encode(function, buffer);
+                assertEquals(
+                        FunctionEncoder.encode(function),
+                        Numeric.toHexString(buffer.toByteArray()),
+                        field.getName());
+            }
+        }
+    }
 }
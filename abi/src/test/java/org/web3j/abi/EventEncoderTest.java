@@ -21,6 +21,7 @@ import org.web3j.abi.datatypes.Event;
 import org.web3j.abi.datatypes.generated.Uint256;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.web3j.abi.Utils.convert;
 
 public class EventEncoderTest {
@@ -49,6 +50,20 @@ public class EventEncoderTest {
                 "0x71e71a8458267085d5ab16980fd5f114d2d37f232479c245d523ce8d23ca40ed");
     }
 
+    @Test
+    public void testEncodeIsMemoized() {
+        Event event =
+                new Event(
+                        "Notify",
+                        Arrays.<TypeReference<?>>asList(
+                                new TypeReference<Uint256>() {}, new TypeReference<Uint256>() {}));
+
+        assertSame(EventEncoder.encode(event), EventEncoder.encode(event));
+        assertSame(
+                EventEncoder.buildEventSignature("Notify(uint256,uint256)"),
+                EventEncoder.buildEventSignature("Notify(uint256,uint256)"));
+    }
+
     @Test
     public void testBuildMethodSignature() {
         List<TypeReference<?>> parameters =
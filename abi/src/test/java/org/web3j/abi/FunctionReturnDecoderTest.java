@@ -13,6 +13,7 @@
 package org.web3j.abi;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -20,6 +21,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
 import org.web3j.abi.datatypes.DynamicArray;
 import org.web3j.abi.datatypes.DynamicBytes;
 import org.web3j.abi.datatypes.DynamicStruct;
@@ -31,6 +34,7 @@ import org.web3j.abi.datatypes.Uint;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.abi.datatypes.generated.Bytes16;
 import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Int8;
 import org.web3j.abi.datatypes.generated.StaticArray2;
 import org.web3j.abi.datatypes.generated.StaticArray3;
 import org.web3j.abi.datatypes.generated.StaticArray4;
@@ -253,6 +257,86 @@ public class FunctionReturnDecoderTest {
                 (new Bytes32(Numeric.hexStringToByteArray(hash))));
     }
 
+    @Test
+    public void testDecodeFromBytes() {
+        List<Type> values =
+                Arrays.asList(
+                        new Uint256(BigInteger.valueOf(55)),
+                        new Address("0xbe5422d15f39373eb0a97ff8c10fbd0e40e29338"),
+                        new Bool(true),
+                        new Bytes32(Numeric.hexStringToByteArray(Hash.sha3String("web3j"))),
+                        new Utf8String("one more time"),
+                        new DynamicBytes(new byte[] {1, 2, 3}),
+                        new Int8(BigInteger.valueOf(-3)),
+                        new DynamicArray<>(
+                                Uint256.class,
+                                new Uint256(BigInteger.ONE),
+                                new Uint256(BigInteger.TEN)),
+                        new DynamicArray<>(
+                                Utf8String.class, new Utf8String("a"), new Utf8String("bcd")),
+                        new StaticArray3<>(
+                                Uint256.class,
+                                new Uint256(BigInteger.ONE),
+                                new Uint256(BigInteger.TWO),
+                                new Uint256(BigInteger.TEN)));
+        List<TypeReference<?>> outputParameters =
+                Arrays.asList(
+                        new TypeReference<Uint256>() {},
+                        new TypeReference<Address>() {},
+                        new TypeReference<Bool>() {},
+                        new TypeReference<Bytes32>() {},
+                        new TypeReference<Utf8String>() {},
+                        new TypeReference<DynamicBytes>() {},
+                        new TypeReference<Int8>() {},
+                        new TypeReference<DynamicArray<Uint256>>() {},
+                        new TypeReference<DynamicArray<Utf8String>>() {},
+                        new TypeReference<StaticArray3<Uint256>>() {});
+        Function function = new Function("test", Collections.emptyList(), outputParameters);
+        String encoded = FunctionEncoder.encodeConstructor(values);
+
+        List<Type> decoded =
+                FunctionReturnDecoder.decode(
+                        Numeric.hexStringToByteArray(encoded), function.getOutputParameters());
+
+        assertEquals(values, decoded);
+        assertEquals(
+                FunctionReturnDecoder.decode(encoded, function.getOutputParameters()), decoded);
+    }
+
+    @Test
+    public void testDecodeStructFromBytes() {
+        String rawInput =
+                "0x0000000000000000000000000000000000000000000000000000000000000001"
+                        + "0000000000000000000000000000000000000000000000000000000000000064";
+
+        assertEquals(
+                FunctionReturnDecoder.decode(
+                        Numeric.hexStringToByteArray(rawInput),
+                        AbiV2TestFixture.getBarFunction.getOutputParameters()),
+                Collections.singletonList(
+                        new AbiV2TestFixture.Bar(BigInteger.ONE, BigInteger.valueOf(100))));
+    }
+
+    @Test
+    public void testDecodeFromByteBuffer() {
+        Function function =
+                new Function(
+                        "test",
+                        Collections.<Type>emptyList(),
+                        Collections.singletonList(new TypeReference<Uint>() {}));
+        ByteBuffer buffer = ByteBuffer.allocate(40);
+        buffer.position(8);
+        buffer.put(31 + 8, (byte) 0x37);
+
+        assertEquals(
+                FunctionReturnDecoder.decode(buffer, function.getOutputParameters()),
+                Collections.singletonList(new Uint(BigInteger.valueOf(55))));
+        assertEquals(8, buffer.position());
+        assertEquals(
+                FunctionReturnDecoder.decode(new byte[0], function.getOutputParameters()),
+                Collections.emptyList());
+    }
+
     @Test
     public void testDecodeStaticStruct() {
         String rawInput =
@@ -12,6 +12,7 @@
  */
 package org.web3j.abi;
 
+import java.lang.reflect.Constructor;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -35,6 +36,7 @@ import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.abi.datatypes.generated.Uint64;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.web3j.abi.Utils.typeMap;
 
 public class UtilsTest {
@@ -61,6 +63,17 @@ public class UtilsTest {
         assertEquals(Utils.getTypeName(new TypeReference<DynamicArray<Uint>>() {}), ("uint256[]"));
     }
 
+    @Test
+    public void testFindStructConstructorReturnsCopy() {
+        Utils.structFactory(AbiV2TestFixture.Foo.class);
+
+        Constructor<?> constructor = Utils.findStructConstructor(AbiV2TestFixture.Foo.class);
+
+        assertEquals(Utils.structConstructor(AbiV2TestFixture.Foo.class), constructor);
+        assertNotSame(Utils.structConstructor(AbiV2TestFixture.Foo.class), constructor);
+        assertNotSame(Utils.findStructConstructor(AbiV2TestFixture.Foo.class), constructor);
+    }
+
     @Test
     public void testTypeMap() {
         final List<BigInteger> input =
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.Utils;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+
+/** {@link FunctionEncoder#encode(Function)} and {@link FunctionReturnDecoder#decode}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AbiBenchmark {
+
+    private static final String ADDRESS = "0xef678007d18427e6022059dbc264f27507cd1ffc";
+
+    private Function transfer;
+    private Function multicall;
+    private List<TypeReference<Type>> uint256Output;
+    private List<TypeReference<Type>> mixedOutput;
+    private String encodedUint256;
+    private String encodedMixed;
+
+    @Setup
+    public void setUp() {
+        transfer =
+                new Function(
+                        "transfer",
+                        Arrays.asList(new Address(ADDRESS), new Uint256(BigInteger.TEN.pow(18))),
+                        Collections.singletonList(new TypeReference<Uint256>() {}));
+
+        multicall =
+                new Function(
+                        "multicall",
+                        Arrays.asList(
+                                new Address(ADDRESS),
+                                new Utf8String("web3j benchmark payload"),
+                                new DynamicBytes(new byte[100]),
+                                new DynamicArray<>(
+                                        Uint256.class,
+                                        Collections.nCopies(
+                                                16, new Uint256(BigInteger.valueOf(42))))),
+                        Collections.emptyList());
+
+        uint256Output = transfer.getOutputParameters();
+        encodedUint256 =
+                FunctionEncoder.encodeConstructor(
+                        Collections.singletonList(new Uint256(BigInteger.TEN.pow(18))));
+
+        mixedOutput =
+                Utils.convert(
+                        Arrays.asList(
+                                new TypeReference<Address>() {},
+                                new TypeReference<Utf8String>() {},
+                                new TypeReference<DynamicBytes>() {},
+                                new TypeReference<DynamicArray<Uint256>>() {}));
+        encodedMixed = FunctionEncoder.encodeConstructor(multicall.getInputParameters());
+    }
+
+    @Benchmark
+    public String encodeStaticFunction() {
+        return FunctionEncoder.encode(transfer);
+    }
+
+    @Benchmark
+    public String encodeDynamicFunction() {
+        return FunctionEncoder.encode(multicall);
+    }
+
+    @Benchmark
+    public List<Type> decodeStaticReturn() {
+        return FunctionReturnDecoder.decode(encodedUint256, uint256Output);
+    }
+
+    @Benchmark
+    public List<Type> decodeDynamicReturn() {
+        return FunctionReturnDecoder.decode(encodedMixed, mixedOutput);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.crypto.Bip32ECKeyPair;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Keys;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.Sign;
+import org.web3j.crypto.Signer;
+import org.web3j.crypto.TransactionEncoder;
+
+/**
+ * {@link Sign#signMessage(byte[], org.web3j.crypto.ECKeyPair)}, {@link Signer} and transaction
+ * signing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CryptoBenchmark {
+
+    private static final String PRIVATE_KEY =
+            "a392604efc2fad9c0b3da43b5f698a2e3f270f170d859912be0d54742275c5f6";
+
+    private static final int BATCH_SIZE = 256;
+
+    private Credentials credentials;
+    private Signer signer;
+    private RawTransaction transaction;
+    private byte[] messageHash;
+    private Sign.SignatureData signature;
+    private List<byte[]> batchHashes;
+    private List<Sign.SignatureData> batchSignatures;
+    private Bip32ECKeyPair accountKeyPair;
+
+    @Setup
+    public void setUp() {
+        credentials = Credentials.create(PRIVATE_KEY);
+        signer = new Signer(credentials);
+        transaction =
+                RawTransaction.createTransaction(
+                        1L,
+                        BigInteger.valueOf(42),
+                        BigInteger.valueOf(100_000),
+                        "0xef678007d18427e6022059dbc264f27507cd1ffc",
+                        BigInteger.ZERO,
+                        "0xa9059cbb000000000000000000000000ef678007d18427e6022059dbc264f27507cd1ffc"
+                            + "0000000000000000000000000000000000000000000000000de0b6b3a7640000",
+                        BigInteger.valueOf(1_000_000_000L),
+                        BigInteger.valueOf(30_000_000_000L));
+        messageHash = Payloads.word(7);
+        signature = Sign.signMessage(messageHash, credentials.getEcKeyPair(), false);
+
+        batchHashes = new ArrayList<>(BATCH_SIZE);
+        batchSignatures = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            byte[] hash = Payloads.word(i);
+            batchHashes.add(hash);
+            batchSignatures.add(Sign.signMessage(hash, credentials.getEcKeyPair(), false));
+        }
+
+        accountKeyPair =
+                Bip32ECKeyPair.deriveKeyPair(
+                        Bip32ECKeyPair.generateKeyPair(Payloads.word(1)),
+                        new int[] {
+                            44 | Bip32ECKeyPair.HARDENED_BIT,
+                            60 | Bip32ECKeyPair.HARDENED_BIT,
+                            Bip32ECKeyPair.HARDENED_BIT,
+                            0
+                        });
+    }
+
+    @Benchmark
+    public Sign.SignatureData signMessage() {
+        return Sign.signMessage(messageHash, credentials.getEcKeyPair(), false);
+    }
+
+    @Benchmark
+    public Sign.SignatureData signMessageWithSigner() {
+        return signer.signMessage(messageHash, false);
+    }
+
+    @Benchmark
+    public byte[] signTransaction() {
+        return TransactionEncoder.signMessage(transaction, credentials);
+    }
+
+    @Benchmark
+    public byte[] signTransactionWithSigner() {
+        return TransactionEncoder.signMessage(transaction, signer);
+    }
+
+    @Benchmark
+    public BigInteger recoverSigner() throws Exception {
+        return Sign.signedMessageHashToKey(messageHash, signature);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<byte[]> recoverBatch() {
+        return Sign.recoverBatch(batchHashes, batchSignatures);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public String[] deriveAddressesOneByOne() {
+        String[] addresses = new String[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            addresses[i] =
+                    Keys.getAddress(Bip32ECKeyPair.deriveKeyPair(accountKeyPair, new int[] {i}));
+        }
+        return addresses;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public byte[] deriveAddresses() {
+        return Bip32ECKeyPair.deriveAddresses(accountKeyPair, 0, BATCH_SIZE);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+/**
+ * Keccak-256 through {@link Hash#sha3(byte[])}, its hex variant and {@link Hash#sha3Into(byte[],
+ * int, int, byte[], int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HashBenchmark {
+
+    @Param({"32", "136", "4096"})
+    public int size;
+
+    private byte[] input;
+    private String hexInput;
+    private final byte[] output = new byte[Hash.SHA3_LENGTH];
+
+    @Setup
+    public void setUp() {
+        input = new byte[size];
+        for (int i = 0; i < size; i++) {
+            input[i] = (byte) i;
+        }
+        hexInput = Numeric.toHexString(input);
+    }
+
+    @Benchmark
+    public byte[] sha3() {
+        return Hash.sha3(input);
+    }
+
+    @Benchmark
+    public byte[] sha3Into() {
+        Hash.sha3Into(input, 0, input.length, output, 0);
+        return output;
+    }
+
+    @Benchmark
+    public String sha3Hex() {
+        return Hash.sha3(hexInput);
+    }
+}
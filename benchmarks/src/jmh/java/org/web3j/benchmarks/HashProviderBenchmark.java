@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.crypto.BouncyCastleHashProvider;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.PureJavaHashProvider;
+import org.web3j.crypto.spi.HashProvider;
+
+/**
+ * Keccak-256 {@link HashProvider} implementations side by side. {@code default} is the provider
+ * {@link Hash} picked, which differs from the built-in one when another is on the classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HashProviderBenchmark {
+
+    @Param({"default", "pure-java", "bouncycastle"})
+    public String provider;
+
+    @Param({"32", "136", "4096"})
+    public int size;
+
+    private HashProvider hashProvider;
+    private byte[] input;
+    private final byte[] output = new byte[Hash.SHA3_LENGTH];
+
+    @Setup
+    public void setUp() {
+        switch (provider) {
+            case "pure-java":
+                hashProvider = new PureJavaHashProvider();
+                break;
+            case "bouncycastle":
+                hashProvider = new BouncyCastleHashProvider();
+                break;
+            default:
+                hashProvider = Hash.getProvider();
+        }
+        input = new byte[size];
+        for (int i = 0; i < size; i++) {
+            input[i] = (byte) i;
+        }
+    }
+
+    @Benchmark
+    public byte[] keccak256() {
+        hashProvider.keccak256(input, 0, input.length, output, 0);
+        return output;
+    }
+}
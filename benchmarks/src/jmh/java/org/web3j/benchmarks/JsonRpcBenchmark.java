@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.protocol.Service;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+
+/**
+ * {@link Service#send} request serialization and response deserialization against canned {@code
+ * eth_getBlockByNumber} and {@code eth_getLogs} payloads, with no network in the way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonRpcBenchmark {
+
+    @Param({"10", "200"})
+    public int items;
+
+    private CannedService blockService;
+    private CannedService logService;
+    private Request<?, EthBlock> blockRequest;
+    private Request<?, EthLog> logRequest;
+
+    @Setup
+    public void setUp() {
+        blockService = new CannedService(Payloads.ethBlock(items));
+        logService = new CannedService(Payloads.ethLogs(items * 10));
+        blockRequest =
+                new Request<>(
+                        "eth_getBlockByNumber",
+                        Arrays.asList("0x1312d00", true),
+                        blockService,
+                        EthBlock.class);
+        logRequest =
+                new Request<>(
+                        "eth_getLogs",
+                        Collections.singletonList(Collections.emptyMap()),
+                        logService,
+                        EthLog.class);
+    }
+
+    @Benchmark
+    public EthBlock ethGetBlockByNumber() throws IOException {
+        return blockService.send(blockRequest, EthBlock.class);
+    }
+
+    @Benchmark
+    public EthLog ethGetLogs() throws IOException {
+        return logService.send(logRequest, EthLog.class);
+    }
+
+    /** Replays the same response for every request. */
+    static class CannedService extends Service {
+
+        private final byte[] response;
+
+        CannedService(byte[] response) {
+            super(false);
+            this.response = response;
+        }
+
+        @Override
+        protected InputStream performIO(String payload) {
+            return new ByteArrayInputStream(response);
+        }
+
+        @Override
+        public void close() {}
+    }
+}
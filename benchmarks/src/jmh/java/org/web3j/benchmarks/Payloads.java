@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+/**
+ * Deterministic canned JSON-RPC payloads and byte fixtures, so that benchmark runs are reproducible
+ * without a live node.
+ */
+final class Payloads {
+
+    private Payloads() {}
+
+    static byte[] word(int seed) {
+        return Hash.sha3(Numeric.toBytesPadded(BigInteger.valueOf(seed), 32));
+    }
+
+    static byte[] address(int seed) {
+        byte[] address = new byte[20];
+        System.arraycopy(word(seed), 12, address, 0, 20);
+        return address;
+    }
+
+    private static String hexWord(int seed) {
+        return Numeric.toHexString(word(seed));
+    }
+
+    private static String hexAddress(int seed) {
+        return Numeric.toHexString(address(seed));
+    }
+
+    private static String quantity(long value) {
+        return Numeric.encodeQuantity(BigInteger.valueOf(value));
+    }
+
+    /**
+     * An {@code eth_getBlockByNumber} response with full EIP-1559 transaction objects.
+     *
+     * @param transactions number of transactions in the block
+     * @return UTF-8 encoded response
+     */
+    static byte[] ethBlock(int transactions) {
+        StringBuilder json = new StringBuilder(1024 + transactions * 1024);
+        json.append("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{")
+                .append("\"number\":\"0x1312d00\",")
+                .append("\"hash\":\"")
+                .append(hexWord(-1))
+                .append("\",\"parentHash\":\"")
+                .append(hexWord(-2))
+                .append("\",\"nonce\":\"0x0000000000000000\",")
+                .append("\"sha3Uncles\":\"")
+                .append(hexWord(-3))
+                .append("\",\"logsBloom\":\"0x")
+                .append("00".repeat(256))
+                .append("\",\"transactionsRoot\":\"")
+                .append(hexWord(-4))
+                .append("\",\"stateRoot\":\"")
+                .append(hexWord(-5))
+                .append("\",\"receiptsRoot\":\"")
+                .append(hexWord(-6))
+                .append("\",\"miner\":\"")
+                .append(hexAddress(-7))
+                .append("\",\"mixHash\":\"")
+                .append(hexWord(-8))
+                .append("\",\"difficulty\":\"0x0\",\"totalDifficulty\":\"0xc70d815d562d3cfa955\",")
+                .append("\"extraData\":\"0x6265617665726275696c642e6f7267\",")
+                .append(
+                        "\"size\":\"0x2a3b5\",\"gasLimit\":\"0x1c9c380\",\"gasUsed\":\"0x1c9a6f1\",")
+                .append("\"timestamp\":\"0x6553f100\",\"baseFeePerGas\":\"0x6fc23ac00\",")
+                .append("\"uncles\":[],\"withdrawals\":[],\"transactions\":[");
+        for (int i = 0; i < transactions; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"hash\":\"")
+                    .append(hexWord(i))
+                    .append("\",\"nonce\":\"")
+                    .append(quantity(i))
+                    .append("\",\"blockHash\":\"")
+                    .append(hexWord(-1))
+                    .append("\",\"blockNumber\":\"0x1312d00\",\"chainId\":\"0x1\",")
+                    .append("\"transactionIndex\":\"")
+                    .append(quantity(i))
+                    .append("\",\"from\":\"")
+                    .append(hexAddress(i))
+                    .append("\",\"to\":\"")
+                    .append(hexAddress(i + 1))
+                    .append("\",\"value\":\"0x0\",\"gasPrice\":\"0x7a308480\",\"gas\":\"0x186a0\",")
+                    .append("\"input\":\"0xa9059cbb000000000000000000000000")
+                    .append(Numeric.cleanHexPrefix(hexAddress(i + 2)))
+                    .append("0000000000000000000000000000000000000000000000000de0b6b3a7640000\",")
+                    .append("\"r\":\"")
+                    .append(hexWord(i + 3))
+                    .append("\",\"s\":\"")
+                    .append(hexWord(i + 4))
+                    .append("\",\"v\":\"0x1\",\"yParity\":\"0x1\",\"type\":\"0x2\",")
+                    .append(
+                            "\"maxFeePerGas\":\"0x9502f9000\",\"maxPriorityFeePerGas\":\"0x3b9aca00\",")
+                    .append("\"accessList\":[]}");
+        }
+        json.append("]}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * An {@code eth_getLogs} response of ERC-20 {@code Transfer} events.
+     *
+     * @param logs number of log entries
+     * @return UTF-8 encoded response
+     */
+    static byte[] ethLogs(int logs) {
+        String transferTopic = Hash.sha3String("Transfer(address,address,uint256)");
+        StringBuilder json = new StringBuilder(256 + logs * 768);
+        json.append("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":[");
+        for (int i = 0; i < logs; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"removed\":false,\"logIndex\":\"")
+                    .append(quantity(i))
+                    .append("\",\"transactionIndex\":\"")
+                    .append(quantity(i / 4))
+                    .append("\",\"transactionHash\":\"")
+                    .append(hexWord(i / 4))
+                    .append("\",\"blockHash\":\"")
+                    .append(hexWord(-1))
+                    .append("\",\"blockNumber\":\"0x1312d00\",\"address\":\"")
+                    .append(hexAddress(i % 16))
+                    .append("\",\"data\":\"")
+                    .append(hexWord(i + 5))
+                    .append("\",\"topics\":[\"")
+                    .append(transferTopic)
+                    .append("\",\"0x000000000000000000000000")
+                    .append(Numeric.cleanHexPrefix(hexAddress(i)))
+                    .append("\",\"0x000000000000000000000000")
+                    .append(Numeric.cleanHexPrefix(hexAddress(i + 1)))
+                    .append("\"]}");
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.rlp.RlpDecoder;
+import org.web3j.rlp.RlpEncoder;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.rlp.RlpView;
+
+/**
+ * {@link RlpEncoder}, {@link RlpDecoder} and {@link RlpView} over an access-list shaped structure,
+ * where each entry is an address followed by a list of storage keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RlpBenchmark {
+
+    @Param({"1", "32", "256"})
+    public int entries;
+
+    private RlpList accessList;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        List<RlpType> values = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            List<RlpType> storageKeys = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                storageKeys.add(RlpString.create(Payloads.word(i * 4 + j)));
+            }
+            List<RlpType> entry = new ArrayList<>();
+            entry.add(RlpString.create(Payloads.address(i)));
+            entry.add(new RlpList(storageKeys));
+            values.add(new RlpList(entry));
+        }
+        accessList = new RlpList(values);
+        encoded = RlpEncoder.encode(accessList);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return RlpEncoder.encode(accessList);
+    }
+
+    @Benchmark
+    public RlpList decode() {
+        return RlpDecoder.decode(encoded);
+    }
+
+    @Benchmark
+    public int view() {
+        int storageKeys = 0;
+        for (RlpView entry : RlpView.of(encoded)) {
+            storageKeys += entry.get(1).size();
+        }
+        return storageKeys;
+    }
+}
@@ -78,6 +78,22 @@ public class Bip44WalletUtils extends WalletUtils {
         }
     }
 
+    /**
+     * Generates the addresses of the BIP-44 Ethereum accounts m/44'/60'/0'/0/i for i from {@code
+     * from} (inclusive) to {@code to} (exclusive), in parallel.
+     *
+     * @param master the BIP-32 master key pair
+     * @param from index of the first address
+     * @param to index after the last address
+     * @return the 20 byte addresses, one after the other
+     * @see Bip32ECKeyPair#deriveAddresses(Bip32ECKeyPair, int, int)
+     */
+    public static byte[] generateBip44Addresses(Bip32ECKeyPair master, int from, int to) {
+        // m/44'/60'/0'/0
+        final int[] path = {44 | HARDENED_BIT, 60 | HARDENED_BIT, 0 | HARDENED_BIT, 0};
+        return Bip32ECKeyPair.deriveAddresses(Bip32ECKeyPair.deriveKeyPair(master, path), from, to);
+    }
+
     public static Credentials loadBip44Credentials(String password, String mnemonic) {
         return loadBip44Credentials(password, mnemonic, false);
     }
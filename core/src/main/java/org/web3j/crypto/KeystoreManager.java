@@ -0,0 +1,445 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.macs.HMac;
+import org.bouncycastle.crypto.params.KeyParameter;
+
+import org.web3j.crypto.exception.CipherException;
+import org.web3j.utils.Numeric;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Unlocks wallet files, in parallel and with a cache of their keys.
+ *
+ * <p>Decrypting a standard wallet file runs scrypt with N = 2<sup>18</sup>, which takes a fraction
+ * of a second and 256 MiB of memory. {@link #unlockAll(Map)} decrypts many files on up to {@code
+ * parallelism} threads, while decryptions of all the calls of a manager share a memory budget:
+ * those that would exceed it wait for others to complete.
+ *
+ * <p>The private key of every unlocked file is cached for a time to live, so that unlocking it
+ * again with the same password does not repeat the key derivation. Entries are looked up by the MAC
+ * of the file and only used if a fingerprint of the password and of every field of the file that
+ * decryption depends on matches, so that another or an edited file reusing the MAC does not get the
+ * key. Files are validated as for decryption before the cache is looked up. The fingerprint is
+ * keyed with a random secret of the manager, so the cache never holds the password itself. Expired
+ * entries are evicted on every unlock, or with {@link #evictExpired()}, and all entries on {@link
+ * #clear()} or {@link #close()}; evicted keys are overwritten with zeros. This only covers the
+ * copies held by the cache: the returned {@link Credentials} keep their key until garbage
+ * collected.
+ */
+public class KeystoreManager implements AutoCloseable {
+
+    private static final int BYTES_PER_PERMIT = 1024;
+
+    private final long timeToLiveNanos;
+    private final int parallelism;
+    private final int memoryPermits;
+    private final Semaphore memory;
+    private final byte[] fingerprintKey = Wallet.generateRandomBytes(32);
+    private final Map<String, CachedKey> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a manager that decrypts on as many threads as there are processors, within half of
+     * the maximum heap size.
+     *
+     * @param timeToLive how long unlocked keys are cached
+     */
+    public KeystoreManager(Duration timeToLive) {
+        this(
+                timeToLive,
+                Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().maxMemory() / 2);
+    }
+
+    /**
+     * @param timeToLive how long unlocked keys are cached
+     * @param parallelism maximum number of files decrypted at once by {@link #unlockAll(Map)}
+     * @param maxMemory number of bytes that concurrent key derivations may use together. A single
+     *     derivation that needs more still runs, alone.
+     */
+    public KeystoreManager(Duration timeToLive, int parallelism, long maxMemory) {
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("timeToLive must not be negative");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        if (maxMemory < BYTES_PER_PERMIT) {
+            throw new IllegalArgumentException("maxMemory must be at least " + BYTES_PER_PERMIT);
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.parallelism = parallelism;
+        this.memoryPermits = (int) Math.min(maxMemory / BYTES_PER_PERMIT, Integer.MAX_VALUE);
+        this.memory = new Semaphore(memoryPermits, true);
+    }
+
+    /**
+     * Loads the credentials of a wallet file, from the cache if it was unlocked with the same
+     * password within the time to live.
+     *
+     * @param password the password of the wallet file
+     * @param source the wallet file
+     * @return the credentials of the wallet file
+     * @throws IOException if the file cannot be read
+     * @throws CipherException if the password is wrong or the file is not supported
+     */
+    public Credentials unlock(String password, File source) throws IOException, CipherException {
+        return unlock(password, WalletUtils.readWalletFile(source));
+    }
+
+    /**
+     * Same as {@link #unlock(String, File)}, for a wallet file that has already been read.
+     *
+     * @param password the password of the wallet file
+     * @param walletFile the wallet file
+     * @return the credentials of the wallet file
+     * @throws CipherException if the password is wrong or the file is not supported
+     */
+    public Credentials unlock(String password, WalletFile walletFile) throws CipherException {
+        evictExpired();
+        String mac = validate(walletFile);
+        byte[] fingerprint = fingerprint(password, walletFile);
+        Credentials credentials = getCached(mac, fingerprint);
+        if (credentials == null) {
+            int permits = acquireMemory(walletFile);
+            try {
+                credentials = decrypt(password, walletFile, mac, fingerprint);
+            } finally {
+                memory.release(permits);
+            }
+        }
+        return credentials;
+    }
+
+    /**
+     * Unlocks wallet files that share a password in parallel.
+     *
+     * @param sources the wallet files
+     * @param password the password of every wallet file
+     * @return the result of every file, in the order of {@code sources}
+     * @see #unlockAll(Map)
+     */
+    public List<UnlockResult> unlockAll(Collection<File> sources, String password) {
+        Map<File, String> passwords = new LinkedHashMap<>();
+        for (File source : sources) {
+            passwords.put(source, password);
+        }
+        return unlockAll(passwords);
+    }
+
+    /**
+     * Unlocks wallet files in parallel, on up to {@code parallelism} threads created for the call.
+     * Failing to unlock a file does not stop the others from being unlocked.
+     *
+     * @param passwords the password of every wallet file
+     * @return the result of every file, in the iteration order of {@code passwords}
+     */
+    public List<UnlockResult> unlockAll(Map<File, String> passwords) {
+        if (passwords.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        evictExpired();
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        Math.min(parallelism, passwords.size()),
+                        r -> {
+                            Thread t = new Thread(r);
+                            t.setName("web3j-keystore");
+                            t.setDaemon(true);
+                            return t;
+                        });
+        try {
+            List<CompletableFuture<UnlockResult>> futures = new ArrayList<>(passwords.size());
+            for (Map.Entry<File, String> entry : passwords.entrySet()) {
+                futures.add(
+                        CompletableFuture.supplyAsync(
+                                () -> unlockFile(entry.getKey(), entry.getValue()), executor));
+            }
+            List<UnlockResult> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<UnlockResult> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UnlockResult unlockFile(File source, String password) {
+        long start = System.nanoTime();
+        long waited = 0;
+        try {
+            WalletFile walletFile = WalletUtils.readWalletFile(source);
+            String mac = validate(walletFile);
+            byte[] fingerprint = fingerprint(password, walletFile);
+            Credentials credentials = getCached(mac, fingerprint);
+            if (credentials != null) {
+                return new UnlockResult(source, credentials, null, true, System.nanoTime() - start);
+            }
+
+            long waitStart = System.nanoTime();
+            int permits = acquireMemory(walletFile);
+            waited = System.nanoTime() - waitStart;
+            try {
+                credentials = decrypt(password, walletFile, mac, fingerprint);
+            } finally {
+                memory.release(permits);
+            }
+            return new UnlockResult(
+                    source, credentials, null, false, System.nanoTime() - start - waited);
+        } catch (IOException | CipherException | RuntimeException e) {
+            return new UnlockResult(source, null, e, false, System.nanoTime() - start - waited);
+        }
+    }
+
+    private int acquireMemory(WalletFile walletFile) {
+        long required = Wallet.getKdfMemory(walletFile) / BYTES_PER_PERMIT;
+        int permits = (int) Math.max(1, Math.min(required, memoryPermits));
+        memory.acquireUninterruptibly(permits);
+        return permits;
+    }
+
+    private Credentials decrypt(
+            String password, WalletFile walletFile, String mac, byte[] fingerprint)
+            throws CipherException {
+        ECKeyPair keyPair = Wallet.decrypt(password, walletFile);
+        if (timeToLiveNanos > 0) {
+            CachedKey cachedKey =
+                    new CachedKey(
+                            fingerprint,
+                            Numeric.toBytesPadded(keyPair.getPrivateKey(), Keys.PRIVATE_KEY_SIZE),
+                            System.nanoTime() + timeToLiveNanos);
+            CachedKey previous = cache.put(mac, cachedKey);
+            if (previous != null) {
+                previous.destroy();
+            }
+        }
+        return Credentials.create(keyPair);
+    }
+
+    private Credentials getCached(String mac, byte[] fingerprint) {
+        CachedKey cachedKey = cache.get(mac);
+        if (cachedKey == null) {
+            return null;
+        }
+        byte[] privateKey = cachedKey.getPrivateKey(fingerprint, System.nanoTime());
+        if (privateKey == null) {
+            return null;
+        }
+        try {
+            return Credentials.create(ECKeyPair.create(privateKey));
+        } finally {
+            Arrays.fill(privateKey, (byte) 0);
+        }
+    }
+
+    /** Rejects the files that {@link Wallet#decrypt} rejects up front, and returns the MAC. */
+    private static String validate(WalletFile walletFile) throws CipherException {
+        WalletFile.Crypto crypto = walletFile.getCrypto();
+        if (crypto == null || crypto.getMac() == null) {
+            throw new CipherException("Wallet file has no MAC");
+        }
+        Wallet.validate(walletFile);
+        return crypto.getMac();
+    }
+
+    private byte[] fingerprint(String password, WalletFile walletFile) {
+        WalletFile.Crypto crypto = walletFile.getCrypto();
+        WalletFile.CipherParams cipherParams = crypto.getCipherparams();
+        HMac hMac = new HMac(new SHA256Digest());
+        hMac.init(new KeyParameter(fingerprintKey));
+        update(hMac, password);
+        update(hMac, walletFile.getVersion());
+        update(hMac, walletFile.getAddress());
+        update(hMac, crypto.getMac());
+        update(hMac, crypto.getCipher());
+        update(hMac, crypto.getCiphertext());
+        update(hMac, cipherParams == null ? null : cipherParams.getIv());
+        update(hMac, crypto.getKdf());
+        WalletFile.KdfParams kdfParams = crypto.getKdfparams();
+        if (kdfParams instanceof WalletFile.ScryptKdfParams) {
+            WalletFile.ScryptKdfParams scryptKdfParams = (WalletFile.ScryptKdfParams) kdfParams;
+            update(hMac, scryptKdfParams.getDklen());
+            update(hMac, scryptKdfParams.getN());
+            update(hMac, scryptKdfParams.getP());
+            update(hMac, scryptKdfParams.getR());
+            update(hMac, scryptKdfParams.getSalt());
+        } else if (kdfParams instanceof WalletFile.Aes128CtrKdfParams) {
+            WalletFile.Aes128CtrKdfParams aes128CtrKdfParams =
+                    (WalletFile.Aes128CtrKdfParams) kdfParams;
+            update(hMac, aes128CtrKdfParams.getDklen());
+            update(hMac, aes128CtrKdfParams.getC());
+            update(hMac, aes128CtrKdfParams.getPrf());
+            update(hMac, aes128CtrKdfParams.getSalt());
+        }
+        byte[] fingerprint = new byte[hMac.getMacSize()];
+        hMac.doFinal(fingerprint, 0);
+        return fingerprint;
+    }
+
+    /** Adds a length prefixed value, so that no two sequences of values hash the same input. */
+    private static void update(HMac hMac, String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(UTF_8);
+        update(hMac, value == null ? -1 : bytes.length);
+        hMac.update(bytes, 0, bytes.length);
+    }
+
+    private static void update(HMac hMac, int value) {
+        for (int i = Integer.BYTES - 1; i >= 0; i--) {
+            hMac.update((byte) (value >>> (i * 8)));
+        }
+    }
+
+    /** Removes the expired keys from the cache and overwrites them with zeros. */
+    public void evictExpired() {
+        long now = System.nanoTime();
+        cache.entrySet()
+                .removeIf(
+                        entry -> {
+                            if (entry.getValue().isExpired(now)) {
+                                entry.getValue().destroy();
+                                return true;
+                            }
+                            return false;
+                        });
+    }
+
+    /** Removes all keys from the cache and overwrites them with zeros. */
+    public void clear() {
+        cache.entrySet()
+                .removeIf(
+                        entry -> {
+                            entry.getValue().destroy();
+                            return true;
+                        });
+    }
+
+    /** Returns the number of keys in the cache, including expired ones not yet evicted. */
+    public int size() {
+        return cache.size();
+    }
+
+    /** Same as {@link #clear()}. */
+    @Override
+    public void close() {
+        clear();
+    }
+
+    private static final class CachedKey {
+
+        private final byte[] fingerprint;
+        private final byte[] privateKey;
+        private final long expiresAt;
+        private boolean destroyed;
+
+        CachedKey(byte[] fingerprint, byte[] privateKey, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.privateKey = privateKey;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        /** Returns a copy of the key if the fingerprint matches and the key is still valid. */
+        synchronized byte[] getPrivateKey(byte[] fingerprint, long now) {
+            if (destroyed
+                    || isExpired(now)
+                    || !MessageDigest.isEqual(this.fingerprint, fingerprint)) {
+                return null;
+            }
+            return privateKey.clone();
+        }
+
+        synchronized void destroy() {
+            destroyed = true;
+            Arrays.fill(privateKey, (byte) 0);
+            Arrays.fill(fingerprint, (byte) 0);
+        }
+    }
+
+    /** Outcome of unlocking one wallet file with {@link #unlockAll(Map)}. */
+    public static final class UnlockResult {
+
+        private final File source;
+        private final Credentials credentials;
+        private final Exception error;
+        private final boolean cached;
+        private final long nanos;
+
+        UnlockResult(
+                File source, Credentials credentials, Exception error, boolean cached, long nanos) {
+            this.source = source;
+            this.credentials = credentials;
+            this.error = error;
+            this.cached = cached;
+            this.nanos = nanos;
+        }
+
+        public File getSource() {
+            return source;
+        }
+
+        public boolean isSuccessful() {
+            return error == null;
+        }
+
+        /** Returns the credentials of the file, or {@code null} if it could not be unlocked. */
+        public Credentials getCredentials() {
+            return credentials;
+        }
+
+        /**
+         * Returns why the file could not be unlocked: a {@link CipherException} if the password is
+         * wrong or the file is not supported, otherwise the exception thrown reading the file.
+         */
+        public Exception getError() {
+            return error;
+        }
+
+        /** Whether the credentials came from the cache, without decrypting the file. */
+        public boolean isCached() {
+            return cached;
+        }
+
+        /**
+         * Returns the time spent reading and decrypting the file, not including any wait for memory
+         * used by other decryptions.
+         */
+        public Duration getDuration() {
+            return Duration.ofNanos(nanos);
+        }
+    }
+}
@@ -229,12 +229,32 @@ public class Wallet {
         byte[] derivedMac = generateMac(derivedKey, cipherText);
 
         if (!Arrays.equals(derivedMac, mac)) {
+            Arrays.fill(derivedKey, (byte) 0);
             throw new CipherException("Invalid password provided");
         }
 
         byte[] encryptKey = Arrays.copyOfRange(derivedKey, 0, 16);
+        Arrays.fill(derivedKey, (byte) 0);
         byte[] privateKey = performCipherOperation(Cipher.DECRYPT_MODE, iv, encryptKey, cipherText);
-        return ECKeyPair.create(privateKey);
+        Arrays.fill(encryptKey, (byte) 0);
+        ECKeyPair keyPair = ECKeyPair.create(privateKey);
+        Arrays.fill(privateKey, (byte) 0);
+        return keyPair;
+    }
+
+    /**
+     * Returns the number of bytes of memory the key derivation function of a wallet file needs.
+     *
+     * @param walletFile the wallet file
+     * @return 128 * r * n bytes for scrypt, 0 for the other functions
+     */
+    static long getKdfMemory(WalletFile walletFile) {
+        WalletFile.KdfParams kdfParams = walletFile.getCrypto().getKdfparams();
+        if (kdfParams instanceof WalletFile.ScryptKdfParams) {
+            WalletFile.ScryptKdfParams scryptKdfParams = (WalletFile.ScryptKdfParams) kdfParams;
+            return 128L * scryptKdfParams.getR() * scryptKdfParams.getN();
+        }
+        return 0;
     }
 
     static void validate(WalletFile walletFile) throws CipherException {
@@ -244,11 +264,11 @@ public class Wallet {
             throw new CipherException("Wallet version is not supported");
         }
 
-        if (!crypto.getCipher().equals(CIPHER)) {
+        if (!CIPHER.equals(crypto.getCipher())) {
             throw new CipherException("Wallet cipher is not supported");
         }
 
-        if (!crypto.getKdf().equals(AES_128_CTR) && !crypto.getKdf().equals(SCRYPT)) {
+        if (!AES_128_CTR.equals(crypto.getKdf()) && !SCRYPT.equals(crypto.getKdf())) {
             throw new CipherException("KDF type is not supported");
         }
     }
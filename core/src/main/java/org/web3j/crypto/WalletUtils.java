@@ -161,8 +161,11 @@ public class WalletUtils {
 
     public static Credentials loadCredentials(String password, File source)
             throws IOException, CipherException {
-        WalletFile walletFile = objectMapper.readValue(source, WalletFile.class);
-        return Credentials.create(Wallet.decrypt(password, walletFile));
+        return Credentials.create(Wallet.decrypt(password, readWalletFile(source)));
+    }
+
+    static WalletFile readWalletFile(File source) throws IOException {
+        return objectMapper.readValue(source, WalletFile.class);
     }
 
     public static Credentials loadBip39Credentials(String password, String mnemonic) {
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * {@link Web3jService} decorator that coalesces concurrent {@link #sendAsync(Request, Class)} calls
+ * into JSON-RPC batch requests.
+ *
+ * <p>Requests are collected until either {@code maxBatchSize} requests are pending or {@code
+ * maxDelay} has elapsed since the first request of the window was queued. The collected requests
+ * are then sent as a single batch through {@link Web3jService#sendBatchAsync(BatchRequest)} of the
+ * underlying service, and each caller's future is completed with its own response.
+ *
+ * <p>Synchronous {@link #send(Request, Class)}, explicit batches and subscriptions are passed
+ * straight through to the underlying service.
+ */
+public class BatchingWeb3jService implements Web3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingWeb3jService.class);
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 5;
+
+    private final Web3jService web3jService;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+
+    private final Object lock = new Object();
+    private List<PendingRequest<?>> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public BatchingWeb3jService(Web3jService web3jService) {
+        this(web3jService, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public BatchingWeb3jService(
+            Web3jService web3jService, int maxBatchSize, long maxDelay, TimeUnit unit) {
+        this(web3jService, maxBatchSize, maxDelay, unit, createScheduler(), true);
+    }
+
+    public BatchingWeb3jService(
+            Web3jService web3jService,
+            int maxBatchSize,
+            long maxDelay,
+            TimeUnit unit,
+            ScheduledExecutorService scheduler) {
+        this(web3jService, maxBatchSize, maxDelay, unit, scheduler, false);
+    }
+
+    private BatchingWeb3jService(
+            Web3jService web3jService,
+            int maxBatchSize,
+            long maxDelay,
+            TimeUnit unit,
+            ScheduledExecutorService scheduler,
+            boolean ownsScheduler) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        if (maxDelay < 0) {
+            throw new IllegalArgumentException("maxDelay must not be negative");
+        }
+        this.web3jService = web3jService;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+        this.scheduler = scheduler;
+        this.ownsScheduler = ownsScheduler;
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(
+                r -> {
+                    Thread t = new Thread(r);
+                    t.setName("web3j-batching");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return web3jService.send(request, responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        if (request.getResponseType() != responseType) {
+            // batch replies are bound to Request#getResponseType, so anything else can't be batched
+            return web3jService.sendAsync(request, responseType);
+        }
+
+        // Web3jService hands over raw requests, the responses of which are all Response<?>
+        @SuppressWarnings("unchecked")
+        Request<?, ? extends Response<?>> typedRequest = request;
+        PendingRequest<T> pendingRequest = new PendingRequest<>(typedRequest, responseType);
+        List<PendingRequest<?>> ready = null;
+        synchronized (lock) {
+            pending.add(pendingRequest);
+            if (pending.size() >= maxBatchSize) {
+                ready = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush =
+                        scheduler.schedule(this::flush, maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return pendingRequest.result;
+    }
+
+    /** Sends all currently queued requests without waiting for the batching window to elapse. */
+    public void flush() {
+        List<PendingRequest<?>> ready;
+        synchronized (lock) {
+            ready = drain();
+        }
+        dispatch(ready);
+    }
+
+    private List<PendingRequest<?>> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<PendingRequest<?>> ready = pending;
+        pending = new ArrayList<>();
+        return ready;
+    }
+
+    private void dispatch(List<PendingRequest<?>> ready) {
+        if (ready.isEmpty()) {
+            return;
+        }
+        if (ready.size() == 1) {
+            ready.get(0).sendAlone(web3jService);
+            return;
+        }
+
+        BatchRequest batchRequest = new BatchRequest(web3jService);
+        for (PendingRequest<?> pendingRequest : ready) {
+            batchRequest.add(pendingRequest.request);
+        }
+
+        log.debug("Sending {} coalesced requests as a single batch", ready.size());
+        CompletableFuture<BatchResponse> batchResult;
+        try {
+            batchResult = web3jService.sendBatchAsync(batchRequest);
+        } catch (RuntimeException e) {
+            batchResult = new CompletableFuture<>();
+            batchResult.completeExceptionally(e);
+        }
+
+        batchResult.whenComplete(
+                (batchResponse, throwable) -> {
+                    if (throwable != null) {
+                        ready.forEach(p -> p.result.completeExceptionally(throwable));
+                    } else if (batchResponse == null) {
+                        IOException e = new IOException("No response received for batch request");
+                        ready.forEach(p -> p.result.completeExceptionally(e));
+                    } else {
+                        complete(ready, batchResponse.getResponses());
+                    }
+                });
+    }
+
+    private static void complete(
+            List<PendingRequest<?>> ready, List<? extends Response<?>> responses) {
+        for (int i = 0; i < ready.size(); i++) {
+            PendingRequest<?> pendingRequest = ready.get(i);
+            Response<?> response = i < responses.size() ? responses.get(i) : null;
+            if (response == null) {
+                pendingRequest.result.completeExceptionally(
+                        new IOException(
+                                String.format(
+                                        "No response received for request with id %d",
+                                        pendingRequest.request.getId())));
+            } else {
+                pendingRequest.complete(response);
+            }
+        }
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return web3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return web3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    /**
+     * Sends any queued requests and closes the underlying service.
+     *
+     * @throws IOException thrown if the underlying service failed to close
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (ownsScheduler) {
+            scheduler.shutdown();
+        }
+        web3jService.close();
+    }
+
+    private static class PendingRequest<T extends Response> {
+        private final Request<?, ? extends Response<?>> request;
+        private final Class<T> responseType;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        PendingRequest(Request<?, ? extends Response<?>> request, Class<T> responseType) {
+            this.request = request;
+            this.responseType = responseType;
+        }
+
+        void sendAlone(Web3jService web3jService) {
+            try {
+                web3jService
+                        .sendAsync(request, responseType)
+                        .whenComplete(
+                                (response, throwable) -> {
+                                    if (throwable != null) {
+                                        result.completeExceptionally(throwable);
+                                    } else {
+                                        result.complete(response);
+                                    }
+                                });
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void complete(Response<?> response) {
+            try {
+                result.complete(responseType.cast(response));
+            } catch (ClassCastException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
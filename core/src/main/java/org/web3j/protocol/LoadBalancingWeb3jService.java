@@ -0,0 +1,646 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.reactivex.Flowable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * {@link Web3jService} that spreads requests across several underlying services, typically one per
+ * node.
+ *
+ * <p>Each request goes to the available endpoint that scores best under the configured {@link
+ * Policy}. An endpoint is taken out of rotation while its circuit breaker is open, which happens
+ * after a number of consecutive transport failures, or while health checks find it lagging behind
+ * the highest {@code eth_blockNumber} reported by the other endpoints. Once the breaker's open
+ * period has elapsed a single trial request is let through to decide whether to close it again.
+ *
+ * <p>Read-only requests (see {@link #isIdempotent(String)}) fail over to the next endpoint when a
+ * transport error occurs, and may be hedged: if no reply has arrived within the hedge delay, the
+ * same request is also sent to the next best endpoint and whichever reply comes first is used. Any
+ * other request is sent to exactly one endpoint, as repeating it could have side effects.
+ *
+ * <p>A filter only exists on the node that installed it, and polling it consumes that node's state,
+ * so the filter methods (see {@link #isFilterMethod(String)}) all go to a single filter endpoint
+ * and are never hedged or failed over. The filter endpoint is the best endpoint at the time of the
+ * first filter request, and is only replaced once it is out of rotation; the filters installed on
+ * it are then reported as not found, and reinstalled on the new one by {@code Filter}.
+ *
+ * <p>Subscriptions are opened on the best endpoint at the time of subscribing.
+ */
+public class LoadBalancingWeb3jService implements Web3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadBalancingWeb3jService.class);
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    // weight of the newest sample in each endpoint's moving average latency
+    private static final double LATENCY_WEIGHT = 0.3;
+
+    private static final Set<String> READ_METHODS =
+            Set.of(
+                    "web3_clientVersion",
+                    "web3_sha3",
+                    "net_version",
+                    "net_listening",
+                    "net_peerCount",
+                    "eth_protocolVersion",
+                    "eth_syncing",
+                    "eth_chainId",
+                    "eth_blockNumber",
+                    "eth_gasPrice",
+                    "eth_maxPriorityFeePerGas",
+                    "eth_blobBaseFee",
+                    "eth_feeHistory",
+                    "eth_call",
+                    "eth_estimateGas");
+
+    private static final Set<String> FILTER_METHODS =
+            Set.of(
+                    "eth_newFilter",
+                    "eth_newBlockFilter",
+                    "eth_newPendingTransactionFilter",
+                    "eth_getFilterChanges",
+                    "eth_getFilterLogs",
+                    "eth_uninstallFilter");
+
+    /** How the endpoint for a request is chosen among the available ones. */
+    public enum Policy {
+        /** Prefer the endpoint with the fewest requests in flight. */
+        LEAST_OUTSTANDING,
+        /** Prefer the endpoint with the lowest recent latency, scaled by its requests in flight. */
+        LATENCY_AWARE
+    }
+
+    private final List<Endpoint> endpoints;
+    private final Policy policy;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final AtomicInteger nextStart = new AtomicInteger();
+
+    private volatile int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+    private volatile long openDurationNanos = DEFAULT_OPEN_DURATION.toNanos();
+    private volatile long hedgeDelayNanos = -1;
+    private ScheduledFuture<?> healthChecks;
+
+    // guarded by this
+    private Endpoint filterEndpoint;
+
+    public LoadBalancingWeb3jService(List<? extends Web3jService> services) {
+        this(services, Policy.LEAST_OUTSTANDING);
+    }
+
+    public LoadBalancingWeb3jService(List<? extends Web3jService> services, Policy policy) {
+        this(services, policy, createScheduler(), true);
+    }
+
+    public LoadBalancingWeb3jService(
+            List<? extends Web3jService> services,
+            Policy policy,
+            ScheduledExecutorService scheduler) {
+        this(services, policy, scheduler, false);
+    }
+
+    private LoadBalancingWeb3jService(
+            List<? extends Web3jService> services,
+            Policy policy,
+            ScheduledExecutorService scheduler,
+            boolean ownsScheduler) {
+        if (services.isEmpty()) {
+            throw new IllegalArgumentException("At least one service is required");
+        }
+        List<Endpoint> endpoints = new ArrayList<>(services.size());
+        for (Web3jService service : services) {
+            endpoints.add(new Endpoint(endpoints.size(), service));
+        }
+        this.endpoints = Collections.unmodifiableList(endpoints);
+        this.policy = policy;
+        this.scheduler = scheduler;
+        this.ownsScheduler = ownsScheduler;
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(
+                r -> {
+                    Thread t = new Thread(r);
+                    t.setName("web3j-load-balancing");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * Configures the circuit breaker of every endpoint.
+     *
+     * @param failureThreshold consecutive transport failures after which an endpoint is taken out
+     *     of rotation
+     * @param openDuration how long an endpoint stays out of rotation before a trial request is sent
+     */
+    public void setCircuitBreaker(int failureThreshold, Duration openDuration) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Enables hedging of read-only requests.
+     *
+     * @param hedgeDelay how long to wait for a reply before also sending the request to the next
+     *     best endpoint, or {@code null} to disable hedging
+     */
+    public void setHedgeDelay(Duration hedgeDelay) {
+        this.hedgeDelayNanos = hedgeDelay == null ? -1 : hedgeDelay.toNanos();
+    }
+
+    /**
+     * Starts polling {@code eth_blockNumber} on every endpoint. An endpoint that fails to answer
+     * within the interval, or whose block number is more than {@code maxBlockLag} behind the
+     * highest one reported, is taken out of rotation until a later check finds it caught up.
+     *
+     * @param interval delay between two checks
+     * @param maxBlockLag number of blocks an endpoint may be behind and still receive requests
+     */
+    public synchronized void startHealthChecks(Duration interval, long maxBlockLag) {
+        stopHealthChecks();
+        long intervalNanos = interval.toNanos();
+        healthChecks =
+                scheduler.scheduleWithFixedDelay(
+                        () -> checkHealth(maxBlockLag, interval),
+                        0,
+                        intervalNanos,
+                        TimeUnit.NANOSECONDS);
+    }
+
+    /** Stops the health checks started by {@link #startHealthChecks(Duration, long)}. */
+    public synchronized void stopHealthChecks() {
+        if (healthChecks != null) {
+            healthChecks.cancel(false);
+            healthChecks = null;
+        }
+    }
+
+    CompletableFuture<Void> checkHealth(long maxBlockLag, Duration timeout) {
+        List<CompletableFuture<BigInteger>> blockNumbers = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            blockNumbers.add(
+                    endpoint.blockNumber()
+                            .completeOnTimeout(null, timeout.toNanos(), TimeUnit.NANOSECONDS));
+        }
+        return CompletableFuture.allOf(blockNumbers.toArray(new CompletableFuture<?>[0]))
+                .thenRun(() -> updateHealth(blockNumbers, BigInteger.valueOf(maxBlockLag)));
+    }
+
+    private void updateHealth(
+            List<CompletableFuture<BigInteger>> blockNumbers, BigInteger maxBlockLag) {
+        BigInteger highest = null;
+        for (CompletableFuture<BigInteger> blockNumber : blockNumbers) {
+            BigInteger value = blockNumber.join();
+            if (value != null && (highest == null || value.compareTo(highest) > 0)) {
+                highest = value;
+            }
+        }
+        for (int i = 0; i < endpoints.size(); i++) {
+            BigInteger value = blockNumbers.get(i).join();
+            endpoints
+                    .get(i)
+                    .setHealthy(
+                            value != null && highest.subtract(value).compareTo(maxBlockLag) <= 0);
+        }
+    }
+
+    /**
+     * Whether a request for the given method can safely be sent more than once, which allows it to
+     * fail over to another endpoint and to be hedged. All {@code eth_get*} methods other than the
+     * filter methods, and the read-only {@code web3_}, {@code net_} and {@code eth_} methods are
+     * treated as idempotent.
+     *
+     * @param method JSON-RPC method name
+     * @return true if the request may be sent to more than one endpoint
+     */
+    protected boolean isIdempotent(String method) {
+        return method != null
+                && !isFilterMethod(method)
+                && (method.startsWith("eth_get") || READ_METHODS.contains(method));
+    }
+
+    /**
+     * Whether a request for the given method installs, polls or uninstalls a filter, and so has to
+     * be sent to the endpoint holding the filters.
+     *
+     * @param method JSON-RPC method name
+     * @return true if the request must go to the filter endpoint
+     */
+    protected boolean isFilterMethod(String method) {
+        return FILTER_METHODS.contains(method);
+    }
+
+    private boolean isIdempotent(BatchRequest batchRequest) {
+        for (Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+            if (!isIdempotent(request.getMethod())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isFilterRequest(BatchRequest batchRequest) {
+        for (Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+            if (isFilterMethod(request.getMethod())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Endpoints to send a request to: the filter endpoint alone for a filter request. */
+    private List<Endpoint> candidates(boolean filterRequest) {
+        return filterRequest ? Collections.singletonList(filterEndpoint()) : candidates();
+    }
+
+    private synchronized Endpoint filterEndpoint() {
+        if (filterEndpoint == null || !filterEndpoint.isAvailable(System.nanoTime())) {
+            Endpoint best = candidates().get(0);
+            if (filterEndpoint != null && best != filterEndpoint) {
+                log.warn(
+                        "Moving filters from endpoint {} to endpoint {}",
+                        filterEndpoint.index,
+                        best.index);
+            }
+            filterEndpoint = best;
+        }
+        return filterEndpoint;
+    }
+
+    /** Available endpoints, best first; all of them if none is available. */
+    private List<Endpoint> candidates() {
+        int size = endpoints.size();
+        // rotating the starting point spreads requests across endpoints that score the same
+        int start = Math.floorMod(nextStart.getAndIncrement(), size);
+        long now = System.nanoTime();
+        List<Endpoint> available = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Endpoint endpoint = endpoints.get((start + i) % size);
+            if (endpoint.isAvailable(now)) {
+                available.add(endpoint);
+            }
+        }
+        if (available.isEmpty()) {
+            for (int i = 0; i < size; i++) {
+                available.add(endpoints.get((start + i) % size));
+            }
+        }
+        available.sort(Comparator.comparingDouble(this::score));
+        return available;
+    }
+
+    private double score(Endpoint endpoint) {
+        int outstanding = endpoint.outstanding.get();
+        if (policy == Policy.LATENCY_AWARE) {
+            return endpoint.latencyNanos * (outstanding + 1);
+        }
+        return outstanding;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        if (hedgeDelayNanos >= 0 && isIdempotent(request.getMethod())) {
+            return join(sendAsync(request, responseType));
+        }
+        return sendWithFailover(
+                isIdempotent(request.getMethod()),
+                candidates(isFilterMethod(request.getMethod())),
+                s -> s.send(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        return new Dispatch<T>(
+                        isIdempotent(request.getMethod()),
+                        candidates(isFilterMethod(request.getMethod())),
+                        s -> s.sendAsync(request, responseType))
+                .start();
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        if (hedgeDelayNanos >= 0 && isIdempotent(batchRequest)) {
+            return join(sendBatchAsync(batchRequest));
+        }
+        return sendWithFailover(
+                isIdempotent(batchRequest),
+                candidates(isFilterRequest(batchRequest)),
+                s -> s.sendBatch(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return new Dispatch<BatchResponse>(
+                        isIdempotent(batchRequest),
+                        candidates(isFilterRequest(batchRequest)),
+                        s -> s.sendBatchAsync(batchRequest))
+                .start();
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return candidates().get(0).service.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    /**
+     * Stops the health checks and closes every underlying service.
+     *
+     * @throws IOException thrown if any of the underlying services failed to close
+     */
+    @Override
+    public void close() throws IOException {
+        stopHealthChecks();
+        if (ownsScheduler) {
+            scheduler.shutdown();
+        }
+        IOException failure = null;
+        for (Endpoint endpoint : endpoints) {
+            try {
+                endpoint.service.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private <R> R sendWithFailover(boolean idempotent, List<Endpoint> candidates, Call<R> call)
+            throws IOException {
+        Exception failure = null;
+        for (Endpoint endpoint : candidates) {
+            long start = endpoint.begin();
+            try {
+                R result = call.call(endpoint.service);
+                endpoint.succeeded(start);
+                return result;
+            } catch (IOException | RuntimeException e) {
+                endpoint.failed();
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+                if (!idempotent) {
+                    break;
+                }
+            }
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        throw (RuntimeException) failure;
+    }
+
+    private static <R> R join(CompletableFuture<R> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a reply", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private interface Call<R> {
+        R call(Web3jService service) throws IOException;
+    }
+
+    /** One asynchronous request, sent to one or, when failing over or hedging, more endpoints. */
+    private final class Dispatch<R> {
+        private final boolean idempotent;
+        private final Function<Web3jService, CompletableFuture<R>> call;
+        private final Iterator<Endpoint> remaining;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+
+        // guarded by this
+        private int inFlight;
+        private Throwable failure;
+
+        Dispatch(
+                boolean idempotent,
+                List<Endpoint> candidates,
+                Function<Web3jService, CompletableFuture<R>> call) {
+            this.idempotent = idempotent;
+            this.call = call;
+            this.remaining = candidates.iterator();
+        }
+
+        CompletableFuture<R> start() {
+            sendToNext();
+            long hedgeDelay = hedgeDelayNanos;
+            if (idempotent && hedgeDelay >= 0 && !result.isDone()) {
+                ScheduledFuture<?> hedge =
+                        scheduler.schedule(this::sendToNext, hedgeDelay, TimeUnit.NANOSECONDS);
+                result.whenComplete((r, t) -> hedge.cancel(false));
+            }
+            return result;
+        }
+
+        private boolean sendToNext() {
+            Endpoint endpoint;
+            synchronized (this) {
+                if (result.isDone() || !remaining.hasNext()) {
+                    return false;
+                }
+                endpoint = remaining.next();
+                inFlight++;
+            }
+
+            long start = endpoint.begin();
+            CompletableFuture<R> reply;
+            try {
+                reply = call.apply(endpoint.service);
+            } catch (RuntimeException e) {
+                reply = CompletableFuture.failedFuture(e);
+            }
+            reply.whenComplete(
+                    (response, throwable) -> {
+                        if (throwable == null) {
+                            endpoint.succeeded(start);
+                            result.complete(response);
+                        } else {
+                            endpoint.failed();
+                            onFailure(unwrap(throwable));
+                        }
+                    });
+            return true;
+        }
+
+        private void onFailure(Throwable throwable) {
+            synchronized (this) {
+                inFlight--;
+                if (failure == null) {
+                    failure = throwable;
+                } else {
+                    failure.addSuppressed(throwable);
+                }
+            }
+            if (idempotent && sendToNext()) {
+                return;
+            }
+            synchronized (this) {
+                // a hedged request may still be on its way
+                if (inFlight == 0) {
+                    result.completeExceptionally(failure);
+                }
+            }
+        }
+    }
+
+    private final class Endpoint {
+        private final int index;
+        private final Web3jService service;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile double latencyNanos;
+        private volatile boolean healthy = true;
+
+        // guarded by this
+        private int consecutiveFailures;
+        private long openUntil;
+
+        Endpoint(int index, Web3jService service) {
+            this.index = index;
+            this.service = service;
+        }
+
+        synchronized boolean isAvailable(long now) {
+            return healthy && (consecutiveFailures < failureThreshold || now - openUntil >= 0);
+        }
+
+        long begin() {
+            outstanding.incrementAndGet();
+            long now = System.nanoTime();
+            synchronized (this) {
+                if (consecutiveFailures >= failureThreshold) {
+                    // half-open: keep everything else away until this trial request completes
+                    openUntil = now + openDurationNanos;
+                }
+            }
+            return now;
+        }
+
+        void succeeded(long start) {
+            outstanding.decrementAndGet();
+            long elapsed = System.nanoTime() - start;
+            double latency = latencyNanos;
+            latencyNanos = latency == 0 ? elapsed : latency + LATENCY_WEIGHT * (elapsed - latency);
+            synchronized (this) {
+                consecutiveFailures = 0;
+            }
+        }
+
+        void failed() {
+            outstanding.decrementAndGet();
+            synchronized (this) {
+                if (++consecutiveFailures >= failureThreshold) {
+                    openUntil = System.nanoTime() + openDurationNanos;
+                    if (consecutiveFailures == failureThreshold) {
+                        log.warn(
+                                "Taking endpoint {} out of rotation after {} consecutive failures",
+                                index,
+                                consecutiveFailures);
+                    }
+                }
+            }
+        }
+
+        void setHealthy(boolean healthy) {
+            if (this.healthy != healthy) {
+                log.info("Endpoint {} is now {}", index, healthy ? "healthy" : "unhealthy");
+            }
+            this.healthy = healthy;
+        }
+
+        CompletableFuture<BigInteger> blockNumber() {
+            Request<?, EthBlockNumber> request =
+                    new Request<>(
+                            "eth_blockNumber",
+                            Collections.<String>emptyList(),
+                            service,
+                            EthBlockNumber.class);
+            CompletableFuture<EthBlockNumber> reply;
+            try {
+                reply = service.sendAsync(request, EthBlockNumber.class);
+            } catch (RuntimeException e) {
+                reply = CompletableFuture.failedFuture(e);
+            }
+            return reply.handle(
+                    (response, throwable) -> {
+                        if (throwable != null || response == null || response.hasError()) {
+                            return null;
+                        }
+                        try {
+                            return response.getBlockNumber();
+                        } catch (RuntimeException e) {
+                            return null;
+                        }
+                    });
+        }
+    }
+}
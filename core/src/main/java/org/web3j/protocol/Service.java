@@ -15,17 +15,18 @@ package org.web3j.protocol;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import io.reactivex.Flowable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.node.ArrayNode;
 
 import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.BatchResponseMatcher;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
 import org.web3j.protocol.websocket.events.Notification;
@@ -42,22 +43,52 @@ public abstract class Service implements Web3jService {
         objectMapper = ObjectMapperFactory.getObjectMapper();
     }
 
+    /**
+     * Sends a serialized request and returns the reply. Callers close the returned stream once the
+     * reply has been read, so implementations may stream it straight from the transport.
+     *
+     * @param payload serialized JSON-RPC request or batch
+     * @return reply stream, or null if there was no reply
+     * @throws IOException thrown if failed to perform the request
+     */
     protected abstract InputStream performIO(String payload) throws IOException;
 
+    /**
+     * Sends a serialized request without waiting for the reply on the calling thread. The default
+     * implementation runs {@link #performIO(String)} on the {@link Async} executor, transports with
+     * an asynchronous API of their own override it so that no thread is held while the request is
+     * in flight. It is only used by {@link #performAsync(Request, Class)} and {@link
+     * #performBatchAsync(BatchRequest)}.
+     *
+     * @param payload serialized JSON-RPC request or batch
+     * @return CompletableFuture that will be completed with the reply stream, or null if there was
+     *     no reply
+     */
+    protected CompletableFuture<InputStream> performIOAsync(String payload) {
+        return Async.run(() -> performIO(payload));
+    }
+
     @Override
     public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
         String payload = objectMapper.writeValueAsString(request);
+        return readResponse(performIO(payload), responseType);
+    }
 
-        try (InputStream result = performIO(payload)) {
-            if (result != null) {
+    private <T extends Response> T readResponse(InputStream stream, Class<T> responseType)
+            throws IOException {
+        try (InputStream result = stream) {
+            if (result == null) {
+                return null;
+            } else if (includeRawResponses) {
                 byte[] responseBytes = result.readAllBytes();
                 T response = objectMapper.readValue(responseBytes, responseType);
-                if (includeRawResponses && response != null) {
+                if (response != null) {
                     response.setRawResponse(new String(responseBytes, StandardCharsets.UTF_8));
                 }
                 return response;
             } else {
-                return null;
+                // parse straight from the transport, without buffering the whole response first
+                return objectMapper.readValue(result, responseType);
             }
         }
     }
@@ -68,6 +99,29 @@ public abstract class Service implements Web3jService {
         return Async.run(() -> send(jsonRpc20Request, responseType));
     }
 
+    /**
+     * Same as {@link #sendAsync(Request, Class)}, sending the request with {@link
+     * #performIOAsync(String)} rather than {@link #send(Request, Class)}. The reply is read on the
+     * {@link Async} executor. Meant for transports whose {@link #performIOAsync(String)} does not
+     * hold a thread while the request is in flight, as long as {@link #send(Request, Class)} and
+     * {@link #performIO(String)} are not overridden.
+     *
+     * @param jsonRpc20Request the request to send
+     * @param responseType the type of the response
+     * @param <T> the type of the response
+     * @return CompletableFuture that will be completed with the response
+     */
+    protected <T extends Response> CompletableFuture<T> performAsync(
+            Request jsonRpc20Request, Class<T> responseType) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(jsonRpc20Request);
+        } catch (JacksonException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return thenRead(performIOAsync(payload), reply -> readResponse(reply, responseType));
+    }
+
     @Override
     public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
         if (batchRequest.getRequests().isEmpty()) {
@@ -75,31 +129,36 @@ public abstract class Service implements Web3jService {
         }
 
         String payload = objectMapper.writeValueAsString(batchRequest.getRequests());
+        return readBatchResponse(batchRequest, performIO(payload));
+    }
 
-        try (InputStream result = performIO(payload)) {
-            if (result != null) {
-                byte[] responseBytes = result.readAllBytes();
-                String rawResponse =
-                        includeRawResponses
-                                ? new String(responseBytes, StandardCharsets.UTF_8)
-                                : null;
-                ArrayNode nodes = (ArrayNode) objectMapper.readTree(responseBytes);
-                List<Response<?>> responses = new ArrayList<>(nodes.size());
-
-                for (int i = 0; i < nodes.size(); i++) {
-                    Request<?, ? extends Response<?>> request = batchRequest.getRequests().get(i);
-                    Response<?> response =
-                            objectMapper.treeToValue(nodes.get(i), request.getResponseType());
-                    if (rawResponse != null) {
-                        response.setRawResponse(rawResponse);
-                    }
-                    responses.add(response);
-                }
+    private BatchResponse readBatchResponse(BatchRequest batchRequest, InputStream stream)
+            throws IOException {
+        try (InputStream result = stream) {
+            if (result == null) {
+                return null;
+            }
 
-                return new BatchResponse(batchRequest.getRequests(), responses);
+            JsonNode reply;
+            String rawResponse = null;
+            if (includeRawResponses) {
+                byte[] responseBytes = result.readAllBytes();
+                rawResponse = new String(responseBytes, StandardCharsets.UTF_8);
+                reply = objectMapper.readTree(responseBytes);
             } else {
-                return null;
+                reply = objectMapper.readTree(result);
+            }
+
+            List<Response<?>> responses =
+                    BatchResponseMatcher.match(
+                            batchRequest.getRequests(), reply, objectMapper, false);
+            if (rawResponse != null) {
+                for (Response<?> response : responses) {
+                    response.setRawResponse(rawResponse);
+                }
             }
+
+            return new BatchResponse(batchRequest.getRequests(), responses);
         }
     }
 
@@ -108,6 +167,44 @@ public abstract class Service implements Web3jService {
         return Async.run(() -> sendBatch(batchRequest));
     }
 
+    /**
+     * Same as {@link #sendBatchAsync(BatchRequest)}, sending the batch with {@link
+     * #performIOAsync(String)} rather than {@link #sendBatch(BatchRequest)}.
+     *
+     * @param batchRequest the batch to send
+     * @return CompletableFuture that will be completed with the batch response
+     * @see #performAsync(Request, Class)
+     */
+    protected CompletableFuture<BatchResponse> performBatchAsync(BatchRequest batchRequest) {
+        if (batchRequest.getRequests().isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(Collections.emptyList(), Collections.emptyList()));
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(batchRequest.getRequests());
+        } catch (JacksonException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return thenRead(performIOAsync(payload), reply -> readBatchResponse(batchRequest, reply));
+    }
+
+    private static <R> CompletableFuture<R> thenRead(
+            CompletableFuture<InputStream> reply, ReplyReader<R> reader) {
+        // the reply is read off the transport's own threads, e.g. the OkHttp dispatcher
+        CompletableFuture<R> result =
+                reply.thenCompose(stream -> Async.run(() -> reader.read(stream)));
+        // cancelling the result cancels the request in flight
+        result.whenComplete(
+                (response, throwable) -> {
+                    if (result.isCancelled()) {
+                        reply.cancel(true);
+                    }
+                });
+        return result;
+    }
+
     @Override
     public <T extends Notification<?>> Flowable<T> subscribe(
             Request request, String unsubscribeMethod, Class<T> responseType) {
@@ -116,4 +213,8 @@ public abstract class Service implements Web3jService {
                         "Service %s does not support subscriptions",
                         this.getClass().getSimpleName()));
     }
+
+    private interface ReplyReader<R> {
+        R read(InputStream reply) throws IOException;
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.web3j.protocol.core;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class BatchResponse {
@@ -34,4 +35,31 @@ public class BatchResponse {
     public List<Request<?, ? extends Response<?>>> getRequests() {
         return requests;
     }
+
+    /**
+     * Whether any element of the batch failed, either because the server returned an error for it
+     * or because no usable reply was received for it.
+     *
+     * @return true if at least one response carries an error
+     */
+    public boolean hasErrors() {
+        return responses.stream().anyMatch(response -> response == null || response.hasError());
+    }
+
+    /**
+     * Returns the requests of this batch that failed. The error of each one is available from its
+     * response at the same position in {@link #getResponses()}.
+     *
+     * @return failed requests, in batch order
+     */
+    public List<Request<?, ? extends Response<?>>> getFailedRequests() {
+        List<Request<?, ? extends Response<?>>> failed = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Response<?> response = i < responses.size() ? responses.get(i) : null;
+            if (response == null || response.hasError()) {
+                failed.add(requests.get(i));
+            }
+        }
+        return failed;
+    }
 }
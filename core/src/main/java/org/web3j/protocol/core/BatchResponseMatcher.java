@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Pairs the elements of a JSON-RPC batch reply with the requests that produced them.
+ *
+ * <p>The JSON-RPC 2.0 specification allows a server to return batch replies in any order, so
+ * replies are matched to requests by their {@code id}. Replies whose {@code id} does not identify
+ * an outstanding request (for instance servers that do not echo ids, or batches that reuse an id)
+ * fall back to the request at the same position.
+ *
+ * <p>Failures are reported per element: a request that received no reply, or whose reply could not
+ * be parsed, is given a response of its own type carrying an {@link Response.Error}, so that the
+ * rest of the batch is still usable.
+ */
+public final class BatchResponseMatcher {
+
+    static final String NO_RESPONSE_MESSAGE = "No response received for request with id %d";
+
+    private BatchResponseMatcher() {}
+
+    /**
+     * Deserialize a batch reply.
+     *
+     * @param requests requests of the batch, in the order they were sent
+     * @param reply parsed reply, normally an array but a single error object is also accepted
+     * @param objectMapper mapper used to bind each element to its request's response type
+     * @param includeRawResponses whether to store each element's JSON as its raw response
+     * @return one response per request, in the order of {@code requests}
+     */
+    public static List<Response<?>> match(
+            List<Request<?, ? extends Response<?>>> requests,
+            JsonNode reply,
+            ObjectMapper objectMapper,
+            boolean includeRawResponses) {
+        int size = requests.size();
+        Response<?>[] responses = new Response<?>[size];
+
+        if (!reply.isArray()) {
+            // servers reply with a single error object if they reject the batch as a whole
+            Response.Error error = batchError(reply, objectMapper);
+            for (int i = 0; i < size; i++) {
+                responses[i] = errorResponse(requests.get(i), error);
+            }
+            return Arrays.asList(responses);
+        }
+
+        LongIntMap indexForId = new LongIntMap(size);
+        for (int i = 0; i < size; i++) {
+            indexForId.putIfAbsent(requests.get(i).getId(), i);
+        }
+
+        List<Integer> unmatched = new ArrayList<>();
+        for (int position = 0; position < reply.size(); position++) {
+            JsonNode element = reply.get(position);
+            int index = indexOf(element, indexForId);
+            if (index != LongIntMap.NO_VALUE && responses[index] == null) {
+                responses[index] =
+                        parse(requests.get(index), element, objectMapper, includeRawResponses);
+            } else {
+                unmatched.add(position);
+            }
+        }
+
+        for (int position : unmatched) {
+            if (position < size && responses[position] == null) {
+                responses[position] =
+                        parse(
+                                requests.get(position),
+                                reply.get(position),
+                                objectMapper,
+                                includeRawResponses);
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (responses[i] == null) {
+                Request<?, ? extends Response<?>> request = requests.get(i);
+                responses[i] =
+                        errorResponse(
+                                request,
+                                new Response.Error(
+                                        RpcErrors.INTERNAL_ERROR,
+                                        String.format(NO_RESPONSE_MESSAGE, request.getId())));
+            }
+        }
+        return Arrays.asList(responses);
+    }
+
+    private static int indexOf(JsonNode element, LongIntMap indexForId) {
+        JsonNode id = element.get("id");
+        if (id == null) {
+            return LongIntMap.NO_VALUE;
+        }
+        if (id.isIntegralNumber()) {
+            return indexForId.get(id.longValue());
+        }
+        if (id.isString()) {
+            try {
+                return indexForId.get(Long.parseLong(id.asString()));
+            } catch (NumberFormatException e) {
+                return LongIntMap.NO_VALUE;
+            }
+        }
+        return LongIntMap.NO_VALUE;
+    }
+
+    private static Response<?> parse(
+            Request<?, ? extends Response<?>> request,
+            JsonNode element,
+            ObjectMapper objectMapper,
+            boolean includeRawResponses) {
+        Response<?> response;
+        try {
+            response = objectMapper.treeToValue(element, request.getResponseType());
+        } catch (RuntimeException e) {
+            response =
+                    errorResponse(
+                            request,
+                            new Response.Error(
+                                    RpcErrors.PARSE_ERROR,
+                                    String.format(
+                                            "Failed to parse response as type %s: %s",
+                                            request.getResponseType().getSimpleName(),
+                                            e.getMessage())));
+        }
+        if (includeRawResponses) {
+            response.setRawResponse(element.toString());
+        }
+        return response;
+    }
+
+    private static Response.Error batchError(JsonNode reply, ObjectMapper objectMapper) {
+        JsonNode error = reply.get("error");
+        if (error != null && error.isObject()) {
+            try {
+                return objectMapper.treeToValue(error, Response.Error.class);
+            } catch (RuntimeException e) {
+                // fall through to the generic error below
+            }
+        }
+        return new Response.Error(
+                RpcErrors.INTERNAL_ERROR, "Expected an array of batch responses but got: " + reply);
+    }
+
+    private static Response<?> errorResponse(
+            Request<?, ? extends Response<?>> request, Response.Error error) {
+        Response<?> response;
+        try {
+            response = request.getResponseType().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            response = new Response<>();
+        }
+        response.setId(request.getId());
+        response.setJsonrpc("2.0");
+        response.setError(error);
+        return response;
+    }
+}
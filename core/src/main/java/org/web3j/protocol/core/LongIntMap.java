@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.util.Arrays;
+
+/**
+ * Minimal open-addressing hash map from primitive {@code long} keys to non-negative {@code int}
+ * values, avoiding the boxing of a {@code Map<Long, Integer>}.
+ */
+final class LongIntMap {
+
+    static final int NO_VALUE = -1;
+
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+
+    LongIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(values, NO_VALUE);
+    }
+
+    /**
+     * Associates {@code value} with {@code key} unless the key is already present.
+     *
+     * @param key key
+     * @param value non-negative value
+     * @return the value already associated with the key, or {@link #NO_VALUE} if it was added
+     */
+    int putIfAbsent(long key, int value) {
+        int slot = slot(key);
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        return NO_VALUE;
+    }
+
+    int get(long key) {
+        int slot = slot(key);
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
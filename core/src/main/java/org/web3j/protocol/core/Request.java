@@ -13,6 +13,7 @@
 package org.web3j.protocol.core;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -35,6 +36,8 @@ public class Request<S, T extends Response> {
     // http://stackoverflow.com/a/3437930/3211687
     private Class<T> responseType;
 
+    private Duration timeout;
+
     public Request() {}
 
     public Request(String method, List<S> params, Web3jService web3jService, Class<T> type) {
@@ -82,6 +85,21 @@ public class Request<S, T extends Response> {
         return responseType;
     }
 
+    /**
+     * Timeout for this request, overriding the default of services that time requests out, such as
+     * {@link org.web3j.protocol.websocket.WebSocketService}.
+     *
+     * @return timeout, or null to use the service's default
+     */
+    @JsonIgnore
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
     public T send() throws IOException {
         return web3jService.send(this, responseType);
     }
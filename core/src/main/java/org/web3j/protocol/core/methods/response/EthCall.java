@@ -12,6 +12,7 @@
  */
 package org.web3j.protocol.core.methods.response;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -22,6 +23,7 @@ import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.protocol.core.Response;
 import org.web3j.utils.EnsUtils;
+import org.web3j.utils.Numeric;
 
 /** eth_call. */
 public class EthCall extends Response<String> {
@@ -29,6 +31,8 @@ public class EthCall extends Response<String> {
     // Numeric.toHexString(Hash.sha3("Error(string)".getBytes())).substring(0, 10)
     private static final String ERROR_METHOD_ID = "0x08c379a0";
 
+    private static final int METHOD_ID_LENGTH = 4;
+
     @SuppressWarnings("unchecked")
     private static final List<TypeReference<Type>> revertReasonType =
             Collections.singletonList(
@@ -38,6 +42,31 @@ public class EthCall extends Response<String> {
         return getResult();
     }
 
+    /**
+     * Returns the call result as raw bytes, suitable for {@link
+     * FunctionReturnDecoder#decode(byte[], List)}.
+     *
+     * @return the decoded result bytes, or {@code null} if there is no result
+     */
+    public byte[] getValueBytes() {
+        String value = getValue();
+        return value == null ? null : Numeric.hexStringToByteArray(value);
+    }
+
+    /**
+     * Decodes the call result with the byte based decoder.
+     *
+     * @param outputParameters the function output parameters
+     * @return the decoded values, {@link Collections#emptyList()} if there is no result
+     */
+    public List<Type> decodeValue(List<TypeReference<Type>> outputParameters) {
+        byte[] value = getValueBytes();
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        return FunctionReturnDecoder.decode(value, outputParameters);
+    }
+
     public boolean isReverted() {
         if (hasError() && getError().getCode() == 3 && getError().getData() != null) {
             return !EnsUtils.isEIP3668(getError().getData());
@@ -57,8 +86,10 @@ public class EthCall extends Response<String> {
 
     public String getRevertReason() {
         if (isErrorInResult()) {
-            String hexRevertReason = getValue().substring(ERROR_METHOD_ID.length());
-            List<Type> decoded = FunctionReturnDecoder.decode(hexRevertReason, revertReasonType);
+            byte[] value = getValueBytes();
+            byte[] encodedRevertReason = Arrays.copyOfRange(value, METHOD_ID_LENGTH, value.length);
+            List<Type> decoded =
+                    FunctionReturnDecoder.decode(encodedRevertReason, revertReasonType);
             Utf8String decodedRevertReason = (Utf8String) decoded.get(0);
             return decodedRevertReason.getValue();
         } else if (hasError()) {
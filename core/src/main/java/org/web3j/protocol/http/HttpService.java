@@ -12,16 +12,20 @@
  */
 package org.web3j.protocol.http;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.CipherSuite;
 import okhttp3.ConnectionSpec;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
@@ -32,7 +36,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.web3j.protocol.Service;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.utils.Async;
 
 import static okhttp3.ConnectionSpec.CLEARTEXT;
 
@@ -88,6 +97,26 @@ public class HttpService extends Service {
 
     private static final Logger log = LoggerFactory.getLogger(HttpService.class);
 
+    /**
+     * Whether a subclass overrides how requests are sent, in which case asynchronous requests go
+     * through its {@link #send(Request, Class)}, {@link #sendBatch(BatchRequest)} or {@link
+     * #performIO(String)} as well. Other methods that merely share one of these names do not count.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_SEND =
+            new ClassValue<>() {
+                @Override
+                protected Boolean computeValue(Class<?> type) {
+                    for (Class<?> c = type; c != HttpService.class; c = c.getSuperclass()) {
+                        if (declares(c, "send", Request.class, Class.class)
+                                || declares(c, "sendBatch", BatchRequest.class)
+                                || declares(c, "performIO", String.class)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+            };
+
     private OkHttpClient httpClient;
 
     private final String url;
@@ -130,11 +159,36 @@ public class HttpService extends Service {
 
     public static OkHttpClient.Builder getOkHttpClientBuilder() {
         final OkHttpClient.Builder builder =
-                new OkHttpClient.Builder().connectionSpecs(CONNECTION_SPEC_LIST);
+                new OkHttpClient.Builder()
+                        .connectionSpecs(CONNECTION_SPEC_LIST)
+                        .dispatcher(createDispatcher());
         configureLogging(builder);
         return builder;
     }
 
+    /**
+     * OkHttp runs each enqueued call on a dispatcher thread, which waits on the node like a
+     * synchronous call does, so these threads are virtual ones unless {@link Async} is configured
+     * otherwise. The dispatcher keeps OkHttp's limits of calls in flight; to allow more, pass a
+     * client with its own {@link Dispatcher}.
+     */
+    private static Dispatcher createDispatcher() {
+        return Async.useVirtualThreads()
+                ? new Dispatcher(
+                        Executors.newThreadPerTaskExecutor(
+                                Thread.ofVirtual().name("web3j-http-", 0).factory()))
+                : new Dispatcher();
+    }
+
+    private static boolean declares(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            type.getDeclaredMethod(name, parameterTypes);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     private static OkHttpClient createOkHttpClient() {
         return getOkHttpClientBuilder().build();
     }
@@ -149,18 +203,86 @@ public class HttpService extends Service {
 
     @Override
     protected InputStream performIO(String request) throws IOException {
+        okhttp3.Response response = httpClient.newCall(buildRequest(request)).execute();
+        return processResponse(response);
+    }
+
+    /**
+     * Enqueues the request with the {@link OkHttpClient}, so that no thread waits for the reply,
+     * unless a subclass overrides how requests are sent.
+     */
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request jsonRpc20Request, Class<T> responseType) {
+        if (OVERRIDES_SEND.get(getClass())) {
+            return super.sendAsync(jsonRpc20Request, responseType);
+        }
+        return performAsync(jsonRpc20Request, responseType);
+    }
+
+    /**
+     * Enqueues the batch with the {@link OkHttpClient}, so that no thread waits for the reply,
+     * unless a subclass overrides how requests are sent.
+     */
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        if (OVERRIDES_SEND.get(getClass())) {
+            return super.sendBatchAsync(batchRequest);
+        }
+        return performBatchAsync(batchRequest);
+    }
 
+    /**
+     * Enqueues the request with the {@link OkHttpClient}, whose dispatcher completes the returned
+     * future once the response headers have arrived. Cancelling the future cancels the call.
+     */
+    @Override
+    protected CompletableFuture<InputStream> performIOAsync(String request) {
+        CompletableFuture<InputStream> result = new CompletableFuture<>();
+        Call call = httpClient.newCall(buildRequest(request));
+        call.enqueue(
+                new Callback() {
+                    @Override
+                    public void onFailure(Call call, IOException e) {
+                        result.completeExceptionally(e);
+                    }
+
+                    @Override
+                    public void onResponse(Call call, okhttp3.Response response) {
+                        try {
+                            if (!result.complete(processResponse(response))) {
+                                // cancelled in the meantime
+                                response.close();
+                            }
+                        } catch (IOException | RuntimeException e) {
+                            result.completeExceptionally(e);
+                        }
+                    }
+                });
+        result.whenComplete(
+                (reply, throwable) -> {
+                    if (result.isCancelled()) {
+                        call.cancel();
+                    }
+                });
+        return result;
+    }
+
+    private okhttp3.Request buildRequest(String request) {
         RequestBody requestBody = RequestBody.create(request, JSON_MEDIA_TYPE);
         Headers headers = buildHeaders();
 
-        okhttp3.Request httpRequest =
-                new okhttp3.Request.Builder().url(url).headers(headers).post(requestBody).build();
+        return new okhttp3.Request.Builder().url(url).headers(headers).post(requestBody).build();
+    }
 
-        try (okhttp3.Response response = httpClient.newCall(httpRequest).execute()) {
+    private InputStream processResponse(okhttp3.Response response) throws IOException {
+        boolean streaming = false;
+        try {
             processHeaders(response.headers());
             ResponseBody responseBody = response.body();
             if (response.isSuccessful()) {
                 if (responseBody != null) {
+                    streaming = true;
                     return buildInputStream(responseBody);
                 } else {
                     return null;
@@ -173,6 +295,10 @@ public class HttpService extends Service {
                         code,
                         "Invalid response received: " + code + "; " + text);
             }
+        } finally {
+            if (!streaming) {
+                response.close();
+            }
         }
     }
 
@@ -180,8 +306,12 @@ public class HttpService extends Service {
         // Default implementation is empty
     }
 
-    private InputStream buildInputStream(ResponseBody responseBody) throws IOException {
-        return new ByteArrayInputStream(responseBody.bytes());
+    /**
+     * The returned stream reads straight from the connection, and closing it releases the
+     * connection, so the response is never buffered in full unless raw responses are requested.
+     */
+    private InputStream buildInputStream(ResponseBody responseBody) {
+        return responseBody.byteStream();
     }
 
     private Headers buildHeaders() {
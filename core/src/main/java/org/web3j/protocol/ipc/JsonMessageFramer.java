@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Splits the byte stream read from an IPC socket into complete JSON messages.
+ *
+ * <p>Clients such as Geth write replies back to back, optionally separated by whitespace, so a
+ * single read can hold several messages, or only part of one. Message boundaries are found by
+ * tracking object and array nesting outside of string literals, which needs no decoding of the
+ * bytes and does not depend on a trailing newline.
+ */
+final class JsonMessageFramer {
+
+    private static final int INITIAL_MESSAGE_SIZE = 1024;
+
+    private final Consumer<byte[]> onMessage;
+
+    private byte[] message = new byte[INITIAL_MESSAGE_SIZE];
+    private int length;
+
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    JsonMessageFramer(Consumer<byte[]> onMessage) {
+        this.onMessage = onMessage;
+    }
+
+    /**
+     * Consume the remaining bytes of a buffer, passing on every message completed by them. Bytes of
+     * a message that is still incomplete are kept until the next call.
+     *
+     * @param buffer bytes read from the socket, its position is moved to its limit
+     */
+    void feed(ByteBuffer buffer) {
+        int start = buffer.position();
+        int end = buffer.limit();
+
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (depth == 0) {
+                // separator between messages
+                start = i + 1;
+            } else if (b == '"') {
+                inString = true;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                append(buffer, start, i + 1);
+                onMessage.accept(Arrays.copyOf(message, length));
+                length = 0;
+                start = i + 1;
+            }
+        }
+
+        if (start < end) {
+            append(buffer, start, end);
+        }
+        buffer.position(end);
+    }
+
+    private void append(ByteBuffer buffer, int from, int to) {
+        int count = to - from;
+        if (length + count > message.length) {
+            message = Arrays.copyOf(message, Math.max(message.length * 2, length + count));
+        }
+        buffer.get(from, message, length, count);
+        length += count;
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import io.reactivex.Flowable;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.BatchResponseMatcher;
+import org.web3j.protocol.core.DefaultIdProvider;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * Unix domain socket implementation of our services API that keeps a single connection open.
+ *
+ * <p>Unlike {@link UnixIpcService}, which connects for every request and waits for its reply, this
+ * service writes requests as they are made and matches replies to them by id, so any number of
+ * requests can be in flight at once. Replies are read into a direct buffer by a dedicated thread
+ * and bound straight from their bytes.
+ *
+ * <p>The connection is opened on the first request, and opened again on the next request if it is
+ * lost. Requests outstanding when the connection is lost fail with an {@link IOException}.
+ */
+public class PipelinedUnixIpcService implements Web3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(PipelinedUnixIpcService.class);
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final String ipcSocketPath;
+    private final boolean includeRawResponses;
+    private final int bufferSize;
+    private final ObjectMapper objectMapper;
+
+    private Connection connection;
+    private boolean closed;
+
+    public PipelinedUnixIpcService(String ipcSocketPath) {
+        this(ipcSocketPath, false);
+    }
+
+    public PipelinedUnixIpcService(String ipcSocketPath, boolean includeRawResponses) {
+        this(ipcSocketPath, includeRawResponses, DEFAULT_BUFFER_SIZE);
+    }
+
+    public PipelinedUnixIpcService(
+            String ipcSocketPath, boolean includeRawResponses, int bufferSize) {
+        this.ipcSocketPath = ipcSocketPath;
+        this.includeRawResponses = includeRawResponses;
+        this.bufferSize = bufferSize;
+        this.objectMapper = ObjectMapperFactory.getObjectMapper();
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        byte[] payload = objectMapper.writeValueAsBytes(request);
+        // bind the reply on the calling thread rather than on the reader thread
+        return toResponse(await(connection().send(request.getId(), payload)), responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(request);
+            return connection()
+                    .send(request.getId(), payload)
+                    .thenApply(reply -> toResponse(reply, responseType));
+        } catch (IOException | JacksonException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest requests) throws IOException {
+        List<Request<?, ? extends Response<?>>> batch = requests.getRequests();
+        long requestId = DefaultIdProvider.getNextId();
+        byte[] payload = serializeBatch(batch, requestId);
+        return toBatchResponse(batch, await(connection().send(requestId, payload)), requestId);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest requests) {
+        List<Request<?, ? extends Response<?>>> batch = requests.getRequests();
+        long requestId = DefaultIdProvider.getNextId();
+        try {
+            byte[] payload = serializeBatch(batch, requestId);
+            return connection()
+                    .send(requestId, payload)
+                    .thenApply(reply -> toBatchResponse(batch, reply, requestId));
+        } catch (IOException | JacksonException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        throw new UnsupportedOperationException(
+                String.format(
+                        "Service %s does not support subscriptions",
+                        this.getClass().getSimpleName()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        Connection current;
+        synchronized (this) {
+            closed = true;
+            current = connection;
+            connection = null;
+        }
+        if (current != null) {
+            current.close(new IOException("Connection was closed"));
+        }
+    }
+
+    /**
+     * Open a connection to the IPC socket.
+     *
+     * @return connected channel in blocking mode
+     * @throws IOException thrown if the socket cannot be connected to
+     */
+    protected UnixSocketChannel openChannel() throws IOException {
+        return UnixSocketChannel.open(new UnixSocketAddress(ipcSocketPath));
+    }
+
+    private synchronized Connection connection() throws IOException {
+        if (closed) {
+            throw new IOException("Service has been closed");
+        }
+        if (connection == null || !connection.isOpen()) {
+            try {
+                connection = new Connection(openChannel());
+            } catch (IOException e) {
+                throw new IOException("Provided file socket cannot be opened: " + ipcSocketPath, e);
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Batches are correlated with their reply through their first element, which is sent with a
+     * fresh id so that it cannot clash with a single request sent concurrently under the same id.
+     * The id is only replaced in the serialized batch, as the requests belong to the caller and may
+     * be sent elsewhere concurrently.
+     */
+    private byte[] serializeBatch(List<Request<?, ? extends Response<?>>> batch, long requestId) {
+        ArrayNode json = objectMapper.valueToTree(batch);
+        ((ObjectNode) json.get(0)).put("id", requestId);
+        return objectMapper.writeValueAsBytes(json);
+    }
+
+    private <T extends Response> T toResponse(byte[] reply, Class<T> responseType) {
+        T response = objectMapper.readValue(reply, responseType);
+        if (includeRawResponses) {
+            response.setRawResponse(new String(reply, StandardCharsets.UTF_8));
+        }
+        return response;
+    }
+
+    private BatchResponse toBatchResponse(
+            List<Request<?, ? extends Response<?>>> batch, byte[] reply, long requestId) {
+        JsonNode replyJson = objectMapper.readTree(reply);
+        for (JsonNode element : replyJson) {
+            JsonNode idField = element.get("id");
+            if (idField != null && idField.isIntegralNumber() && idField.longValue() == requestId) {
+                // replies are matched by id from here on
+                ((ObjectNode) element).put("id", batch.get(0).getId());
+                break;
+            }
+        }
+
+        List<Response<?>> responses =
+                BatchResponseMatcher.match(batch, replyJson, objectMapper, includeRawResponses);
+        return new BatchResponse(batch, responses);
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> reply) throws IOException {
+        try {
+            return reply.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted IPC request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    /**
+     * Find the id that correlates a reply with its request. Only as much of the message as needed
+     * is tokenized, so the result of a single reply is not parsed here.
+     */
+    private Long findReplyId(byte[] message, Map<Long, ?> requestForId) {
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                return readId(parser);
+            }
+            if (token == JsonToken.START_ARRAY) {
+                // servers may reorder batch replies, so look for the element with a known id
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    Long id = readId(parser);
+                    if (id != null && requestForId.containsKey(id)) {
+                        return id;
+                    }
+                    while (parser.currentToken() != JsonToken.END_OBJECT
+                            && parser.nextToken() != null) {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    private static Long readId(JsonParser parser) {
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("id".equals(name)) {
+                if (value == JsonToken.VALUE_NUMBER_INT) {
+                    return parser.getLongValue();
+                }
+                if (value == JsonToken.VALUE_STRING) {
+                    try {
+                        return Long.parseLong(parser.getString());
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                }
+                return null;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    /** A single open socket, with the requests waiting for a reply on it. */
+    private class Connection {
+
+        private final UnixSocketChannel channel;
+        private final Map<Long, CompletableFuture<byte[]>> requestForId = new ConcurrentHashMap<>();
+        private final Object writeLock = new Object();
+
+        private volatile boolean open = true;
+
+        Connection(UnixSocketChannel channel) {
+            this.channel = channel;
+
+            Thread reader = new Thread(this::readReplies, "web3j-ipc-reader");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        boolean isOpen() {
+            return open;
+        }
+
+        CompletableFuture<byte[]> send(long requestId, byte[] payload) {
+            CompletableFuture<byte[]> reply = new CompletableFuture<>();
+            if (requestForId.putIfAbsent(requestId, reply) != null) {
+                reply.completeExceptionally(
+                        new IOException(
+                                String.format(
+                                        "Request with id %d is already in flight", requestId)));
+                return reply;
+            }
+            // a concurrent close may have failed outstanding requests before this one was added
+            if (!open) {
+                requestForId.remove(requestId);
+                reply.completeExceptionally(new IOException("Connection was closed"));
+                return reply;
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug(">> {}", new String(payload, StandardCharsets.UTF_8));
+            }
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(payload);
+                synchronized (writeLock) {
+                    if (!channel.isOpen()) {
+                        throw new ClosedChannelException();
+                    }
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            } catch (IOException e) {
+                requestForId.remove(requestId);
+                reply.completeExceptionally(e);
+                // a partial write leaves the stream unusable for every other request
+                close(e);
+            }
+            return reply;
+        }
+
+        private void readReplies() {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+            JsonMessageFramer framer = new JsonMessageFramer(this::onMessage);
+            IOException cause = new IOException("Connection was closed");
+            try {
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    framer.feed(buffer);
+                    buffer.clear();
+                }
+            } catch (IOException e) {
+                if (open) {
+                    cause = e;
+                }
+            } finally {
+                close(cause);
+                closeChannel();
+            }
+        }
+
+        private void onMessage(byte[] message) {
+            if (log.isDebugEnabled()) {
+                log.debug("<< {}", new String(message, StandardCharsets.UTF_8));
+            }
+
+            Long id;
+            try {
+                id = findReplyId(message, requestForId);
+            } catch (JacksonException e) {
+                log.error("Failed to parse incoming IPC message", e);
+                return;
+            }
+
+            CompletableFuture<byte[]> reply = id == null ? null : requestForId.remove(id);
+            if (reply == null) {
+                log.warn("Received IPC message without a matching request, id: {}", id);
+                return;
+            }
+            reply.complete(message);
+        }
+
+        synchronized void close(IOException cause) {
+            if (!open) {
+                return;
+            }
+            open = false;
+
+            try {
+                // wakes up the reader thread if it is blocked in a read, the socket itself is
+                // closed by that thread so that a read never lands on a descriptor reused by a new
+                // socket
+                channel.shutdownInput();
+            } catch (IOException e) {
+                log.debug("Failed to shut down IPC socket", e);
+            }
+
+            requestForId.values().forEach(reply -> reply.completeExceptionally(cause));
+            requestForId.clear();
+        }
+
+        private void closeChannel() {
+            synchronized (writeLock) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    log.debug("Failed to close IPC socket", e);
+                }
+            }
+        }
+    }
+}
@@ -12,7 +12,12 @@
  */
 package org.web3j.protocol.ipc;
 
-/** Unix domain socket implementation of our services API. */
+/**
+ * Unix domain socket implementation of our services API.
+ *
+ * <p>A new connection is opened for every request. Use {@link PipelinedUnixIpcService} to keep one
+ * connection open and have several requests in flight on it.
+ */
 public class UnixIpcService extends IpcService {
     private final String ipcSocketPath;
 
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How {@link WebSocketService} reconnects after its connection is lost.
+ *
+ * <p>Attempts are spaced by an exponential backoff with jitter, so that many clients losing the
+ * same node do not all reconnect at the same moment.
+ */
+public class ReconnectPolicy {
+
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final int maxAttempts;
+
+    /** Reconnect indefinitely, with the default delays. */
+    public ReconnectPolicy() {
+        this(DEFAULT_INITIAL_DELAY, DEFAULT_MAX_DELAY, 0);
+    }
+
+    /**
+     * Create a reconnect policy.
+     *
+     * @param initialDelay delay before the first attempt, doubled after each failed attempt
+     * @param maxDelay upper bound of the delay between attempts
+     * @param maxAttempts attempts before giving up and failing outstanding requests and
+     *     subscriptions, or 0 to never give up
+     */
+    public ReconnectPolicy(Duration initialDelay, Duration maxDelay, int maxAttempts) {
+        if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException(
+                    "Delays must not be negative and maxDelay must not be below initialDelay");
+        }
+        if (maxAttempts < 0) {
+            throw new IllegalArgumentException("maxAttempts must not be negative");
+        }
+        this.initialDelayMillis = initialDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Delay before an attempt: half of the backoff for this attempt, plus a random part of up to
+     * the other half.
+     *
+     * @param attempt number of failed attempts so far
+     * @return delay in milliseconds
+     */
+    public long getDelayMillis(int attempt) {
+        long backoff = initialDelayMillis << Math.min(attempt, 30);
+        if (backoff > maxDelayMillis || backoff < 0) {
+            backoff = maxDelayMillis;
+        }
+        long half = backoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+    }
+
+    /**
+     * Whether to attempt again after the given number of failed attempts.
+     *
+     * @param attempts number of failed attempts so far
+     * @return false once the policy gives up
+     */
+    public boolean shouldRetry(int attempts) {
+        return maxAttempts == 0 || attempts < maxAttempts;
+    }
+}
@@ -14,6 +14,8 @@ package org.web3j.protocol.websocket;
 
 import java.util.concurrent.CompletableFuture;
 
+import org.web3j.utils.HashedWheelTimer;
+
 /**
  * Objects necessary to process a reply for a request sent via WebSocket protocol.
  *
@@ -22,6 +24,8 @@ import java.util.concurrent.CompletableFuture;
 class WebSocketRequest<T> {
     private CompletableFuture<T> onReply;
     private Class<T> responseType;
+    private volatile HashedWheelTimer.Timeout timeout;
+    private volatile String payload;
 
     public WebSocketRequest(CompletableFuture<T> onReply, Class<T> responseType) {
         this.onReply = onReply;
@@ -35,4 +39,27 @@ class WebSocketRequest<T> {
     public Class<T> getResponseType() {
         return responseType;
     }
+
+    public void setTimeout(HashedWheelTimer.Timeout timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Serialized request, kept so that it can be sent again if the connection is re-established
+     * before the reply arrives.
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public void cancelTimeout() {
+        HashedWheelTimer.Timeout current = timeout;
+        if (current != null) {
+            current.cancel();
+        }
+    }
 }
@@ -16,14 +16,18 @@ import java.io.IOException;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -34,6 +38,8 @@ import io.reactivex.subjects.BehaviorSubject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.node.ArrayNode;
@@ -43,12 +49,15 @@ import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.Web3jService;
 import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.BatchResponseMatcher;
 import org.web3j.protocol.core.DefaultIdProvider;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
 import org.web3j.protocol.core.methods.response.EthSubscribe;
 import org.web3j.protocol.core.methods.response.EthUnsubscribe;
+import org.web3j.protocol.websocket.events.Log;
 import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.HashedWheelTimer;
 
 /**
  * Web socket service that allows to interact with JSON-RPC via WebSocket protocol.
@@ -63,7 +72,7 @@ import org.web3j.protocol.websocket.events.Notification;
 public class WebSocketService implements Web3jService {
     private static final Logger log = LoggerFactory.getLogger(WebSocketService.class);
 
-    // Timeout for JSON-RPC requests
+    // Timeout for JSON-RPC requests, unless set on the request
     static final long REQUEST_TIMEOUT = 60;
 
     // WebSocket client
@@ -71,6 +80,8 @@ public class WebSocketService implements Web3jService {
     private boolean shouldReConnect;
     // Executor to schedule request timeouts
     private final ScheduledExecutorService executor;
+    // Request timeouts, cancelled when the reply arrives
+    private final HashedWheelTimer timer;
     // Object mapper to map incoming JSON objects
     private final ObjectMapper objectMapper;
     private final boolean includeRawResponses;
@@ -84,6 +95,15 @@ public class WebSocketService implements Web3jService {
 
     // Map of a subscription id to objects necessary to process incoming events
     private Map<String, WebSocketSubscription<?>> subscriptionForId = new ConcurrentHashMap<>();
+    // Reverse of subscriptionForId, to find the subscription id when a subscriber cancels
+    private Map<BehaviorSubject<?>, String> subscriptionIdForSubject = new ConcurrentHashMap<>();
+
+    // Reconnection after the connection is lost, disabled unless a policy is set
+    private volatile ReconnectPolicy reconnectPolicy;
+    // Guards sending against replaying outstanding requests after reconnecting
+    private final Object sendLock = new Object();
+    private boolean reconnecting;
+    private volatile boolean closed;
 
     public WebSocketService(String serverUrl, boolean includeRawResponses) {
         this(new WebSocketClient(parseURI(serverUrl)), includeRawResponses);
@@ -99,6 +119,7 @@ public class WebSocketService implements Web3jService {
             boolean includeRawResponses) {
         this.webSocketClient = webSocketClient;
         this.executor = executor;
+        this.timer = new HashedWheelTimer(executor);
         this.includeRawResponses = includeRawResponses;
         this.objectMapper = ObjectMapperFactory.getObjectMapper();
     }
@@ -123,6 +144,22 @@ public class WebSocketService implements Web3jService {
         }
     }
 
+    /**
+     * Reconnect automatically when the connection is lost, instead of failing outstanding requests
+     * and subscriptions.
+     *
+     * <p>After reconnecting, requests still waiting for a reply are sent again, and every active
+     * subscription is subscribed again under a new subscription id. Logs missed by a {@code logs}
+     * subscription while disconnected are fetched with {@code eth_getLogs} and delivered before any
+     * new ones, so the stream has no gap. Requests are sent again as they are, so requests that are
+     * not idempotent may be executed twice.
+     *
+     * @param reconnectPolicy when to attempt to reconnect, or null to disable reconnecting
+     */
+    public void setReconnectPolicy(ReconnectPolicy reconnectPolicy) {
+        this.reconnectPolicy = reconnectPolicy;
+    }
+
     /**
      * Returns the immutable versions of subscriptionForId map which represents the relation between
      * subscription id and the associated subscription events. Is kept immutable because the only
@@ -192,9 +229,12 @@ public class WebSocketService implements Web3jService {
 
         CompletableFuture<T> result = new CompletableFuture<>();
         long requestId = request.getId();
-        requestForId.put(requestId, new WebSocketRequest<>(result, responseType));
+        WebSocketRequest<T> webSocketRequest = new WebSocketRequest<>(result, responseType);
+        requestForId.put(requestId, webSocketRequest);
+        // scheduled before sending, so that a fast reply always finds the timeout to cancel
+        setRequestTimeout(webSocketRequest, requestId, request.getTimeout());
         try {
-            sendRequest(request, requestId);
+            sendRequest(request, webSocketRequest);
         } catch (JacksonException e) {
             closeRequest(requestId, e);
         }
@@ -222,17 +262,17 @@ public class WebSocketService implements Web3jService {
     public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest requests) {
         CompletableFuture<BatchResponse> result = new CompletableFuture<>();
 
-        // replace first batch elements's id to handle response
+        // the first batch element is sent under a fresh id to handle the response
         long requestId = DefaultIdProvider.getNextId();
-        Request<?, ? extends Response<?>> firstRequest = requests.getRequests().get(0);
-        long originId = firstRequest.getId();
-        requests.getRequests().get(0).setId(requestId);
+        long originId = requests.getRequests().get(0).getId();
 
-        requestForId.put(
-                requestId, new WebSocketRequests(result, requests.getRequests(), originId));
+        WebSocketRequests webSocketRequests =
+                new WebSocketRequests(result, requests.getRequests(), originId);
+        requestForId.put(requestId, webSocketRequests);
+        setRequestTimeout(webSocketRequests, requestId, batchTimeout(requests));
 
         try {
-            sendBatchRequest(requests, requestId);
+            sendBatchRequest(requests, requestId, webSocketRequests);
         } catch (JacksonException e) {
             closeRequest(requestId, e);
         }
@@ -240,57 +280,100 @@ public class WebSocketService implements Web3jService {
         return result;
     }
 
-    private void sendRequest(Request request, long requestId) throws JacksonException {
+    private void sendRequest(Request request, WebSocketRequest<?> webSocketRequest)
+            throws JacksonException {
         String payload = objectMapper.writeValueAsString(request);
         log.debug("Sending request: {}", payload);
-        webSocketClient.send(payload);
-        setRequestTimeout(requestId);
+        sendPayload(payload, webSocketRequest);
     }
 
-    private void sendBatchRequest(BatchRequest request, long requestId) throws JacksonException {
-        String payload = objectMapper.writeValueAsString(request.getRequests());
+    private void sendBatchRequest(
+            BatchRequest request, long requestId, WebSocketRequest<?> webSocketRequest)
+            throws JacksonException {
+        // the requests belong to the caller and may be sent elsewhere concurrently, so the id is
+        // only replaced in the serialized batch
+        ArrayNode batch = objectMapper.valueToTree(request.getRequests());
+        ((ObjectNode) batch.get(0)).put("id", requestId);
+        String payload = objectMapper.writeValueAsString(batch);
         log.debug("Sending batch request: {}", payload);
-        webSocketClient.send(payload);
-        setRequestTimeout(requestId);
+        sendPayload(payload, webSocketRequest);
+    }
+
+    private void sendPayload(String payload, WebSocketRequest<?> webSocketRequest) {
+        if (reconnectPolicy == null) {
+            webSocketClient.send(payload);
+            return;
+        }
+
+        webSocketRequest.setPayload(payload);
+        synchronized (sendLock) {
+            // otherwise sent once reconnected, with the other outstanding requests
+            if (!reconnecting) {
+                webSocketClient.send(payload);
+            }
+        }
     }
 
-    private void setRequestTimeout(long requestId) {
-        executor.schedule(
-                () ->
-                        closeRequest(
-                                requestId,
-                                new IOException(
-                                        String.format("Request with id %d timed out", requestId))),
-                REQUEST_TIMEOUT,
-                TimeUnit.SECONDS);
+    private void setRequestTimeout(WebSocketRequest<?> request, long requestId, Duration timeout) {
+        long timeoutMillis =
+                timeout != null ? timeout.toMillis() : TimeUnit.SECONDS.toMillis(REQUEST_TIMEOUT);
+        request.setTimeout(
+                timer.newTimeout(
+                        () ->
+                                closeRequest(
+                                        requestId,
+                                        new IOException(
+                                                String.format(
+                                                        "Request with id %d timed out",
+                                                        requestId))),
+                        timeoutMillis,
+                        TimeUnit.MILLISECONDS));
+    }
+
+    /** A batch waits as long as the longest timeout set on its requests. */
+    private static Duration batchTimeout(BatchRequest requests) {
+        Duration timeout = null;
+        for (Request<?, ? extends Response<?>> request : requests.getRequests()) {
+            Duration requestTimeout = request.getTimeout();
+            if (requestTimeout != null
+                    && (timeout == null || requestTimeout.compareTo(timeout) > 0)) {
+                timeout = requestTimeout;
+            }
+        }
+        return timeout;
     }
 
     void closeRequest(long requestId, Exception e) {
-        CompletableFuture result = requestForId.get(requestId).getOnReply();
-        requestForId.remove(requestId);
-        result.completeExceptionally(e);
+        WebSocketRequest<?> request = requestForId.remove(requestId);
+        if (request == null) {
+            // the reply arrived first
+            return;
+        }
+        request.cancelTimeout();
+        request.getOnReply().completeExceptionally(e);
     }
 
     void onWebSocketMessage(String messageStr) throws IOException {
-        JsonNode replyJson = parseToTree(messageStr);
-
-        if (isReply(replyJson)) {
-            processRequestReply(messageStr, replyJson);
-        } else if (isBatchReply(replyJson)) {
-            processBatchRequestReply(messageStr, (ArrayNode) replyJson);
-        } else if (isSubscriptionEvent(replyJson)) {
-            processSubscriptionEvent(messageStr, replyJson);
+        // only the fields needed to dispatch are tokenized, the message is then bound once
+        MessageHeader header = parseHeader(messageStr);
+
+        if (header.isReply()) {
+            processRequestReply(messageStr, header);
+        } else if (header.isBatchReply()) {
+            processBatchRequestReply(messageStr, (ArrayNode) parseToTree(messageStr));
+        } else if (header.isSubscriptionEvent()) {
+            processSubscriptionEvent(messageStr, header.subscriptionId);
         } else {
             throw new IOException("Unknown message type");
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void processRequestReply(String replyStr, JsonNode replyJson) throws IOException {
-        long replyId = getReplyId(replyJson);
+    private void processRequestReply(String replyStr, MessageHeader header) throws IOException {
+        long replyId = header.getReplyId();
         WebSocketRequest request = getAndRemoveRequest(replyId);
         try {
-            Object reply = objectMapper.convertValue(replyJson, request.getResponseType());
+            Object reply = objectMapper.readValue(replyStr, request.getResponseType());
             if (includeRawResponses && reply instanceof Response) {
                 ((Response<?>) reply).setRawResponse(replyStr);
             }
@@ -307,24 +390,17 @@ public class WebSocketService implements Web3jService {
     }
 
     private void processBatchRequestReply(String replyStr, ArrayNode replyJson) throws IOException {
-        long replyId = getReplyId(replyJson.get(0));
+        ObjectNode correlatedReply = findBatchReply(replyJson);
+        long replyId = getReplyId(correlatedReply);
         WebSocketRequests webSocketRequests = (WebSocketRequests) getAndRemoveRequest(replyId);
         try {
-            // rollback request id of first batch elt
-            ((ObjectNode) replyJson.get(0)).put("id", webSocketRequests.getOriginId());
-
+            // restore the id of the first batch element, replies are matched by id from here on
             List<Request<?, ? extends Response<?>>> requests = webSocketRequests.getRequests();
-            List<Response<?>> responses = new ArrayList<>(replyJson.size());
-
-            for (int i = 0; i < replyJson.size(); i++) {
-                Response<?> response =
-                        objectMapper.treeToValue(
-                                replyJson.get(i), requests.get(i).getResponseType());
-                if (includeRawResponses) {
-                    response.setRawResponse(replyJson.get(i).toString());
-                }
-                responses.add(response);
-            }
+            correlatedReply.put("id", webSocketRequests.getOriginId());
+
+            List<Response<?>> responses =
+                    BatchResponseMatcher.match(
+                            requests, replyJson, objectMapper, includeRawResponses);
 
             sendReplyToListener(webSocketRequests, new BatchResponse(requests, responses));
         } catch (Exception e) {
@@ -332,40 +408,69 @@ public class WebSocketService implements Web3jService {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void processSubscriptionResponse(long replyId, EthSubscribe reply) throws IOException {
-        WebSocketSubscription subscription = subscriptionRequestForId.get(replyId);
-        processSubscriptionResponse(
-                reply, subscription.getSubject(), subscription.getResponseType());
+    /**
+     * Servers may reorder batch replies, so the element answering the batch's correlation id (see
+     * {@link #sendBatchAsync(BatchRequest)}) can be anywhere in the array.
+     */
+    private ObjectNode findBatchReply(ArrayNode replyJson) throws IOException {
+        for (JsonNode element : replyJson) {
+            JsonNode idField = element.get("id");
+            if (element.isObject() && idField != null && idField.isIntegralNumber()) {
+                if (requestForId.get(idField.longValue()) instanceof WebSocketRequests) {
+                    return (ObjectNode) element;
+                }
+            }
+        }
+        if (replyJson.isEmpty() || !replyJson.get(0).isObject()) {
+            throw new IOException("Received batch reply without elements");
+        }
+        return (ObjectNode) replyJson.get(0);
     }
 
-    private <T extends Notification<?>> void processSubscriptionResponse(
-            EthSubscribe subscriptionReply, BehaviorSubject<T> subject, Class<T> responseType) {
-        if (!subscriptionReply.hasError()) {
-            establishSubscription(subject, responseType, subscriptionReply);
+    private void processSubscriptionResponse(long replyId, EthSubscribe reply) {
+        WebSocketSubscription<?> subscription = subscriptionRequestForId.remove(replyId);
+        if (subscription == null) {
+            // eth_subscribe sent directly rather than through subscribe()
+            return;
+        }
+        if (!reply.hasError()) {
+            establishSubscription(subscription, reply);
         } else {
-            reportSubscriptionError(subject, subscriptionReply);
+            String previousId = subscription.getSubscriptionId();
+            if (previousId != null) {
+                subscriptionForId.remove(previousId);
+                subscriptionIdForSubject.remove(subscription.getSubject());
+            }
+            reportSubscriptionError(subscription.getSubject(), reply);
         }
     }
 
-    private <T extends Notification<?>> void establishSubscription(
-            BehaviorSubject<T> subject, Class<T> responseType, EthSubscribe subscriptionReply) {
-        log.debug("Subscribed to RPC events with id {}", subscriptionReply.getSubscriptionId());
-        subscriptionForId.put(
-                subscriptionReply.getSubscriptionId(),
-                new WebSocketSubscription<>(subject, responseType));
+    private void establishSubscription(
+            WebSocketSubscription<?> subscription, EthSubscribe subscriptionReply) {
+        String subscriptionId = subscriptionReply.getSubscriptionId();
+        String previousId = subscription.getSubscriptionId();
+        log.debug("Subscribed to RPC events with id {}", subscriptionId);
+
+        if (previousId == null) {
+            subscriptionIdForSubject.put(subscription.getSubject(), subscriptionId);
+        } else if (!subscriptionIdForSubject.replace(
+                subscription.getSubject(), previousId, subscriptionId)) {
+            // disposed while subscribing again after reconnecting
+            unsubscribeFromEventsStream(subscriptionId, subscription.getUnsubscribeMethod());
+            return;
+        } else {
+            subscriptionForId.remove(previousId);
+        }
+        subscription.setSubscriptionId(subscriptionId);
+        subscriptionForId.put(subscriptionId, subscription);
     }
 
     private <T extends Notification<?>> String getSubscriptionId(BehaviorSubject<T> subject) {
-        return subscriptionForId.entrySet().stream()
-                .filter(entry -> entry.getValue().getSubject() == subject)
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
+        return subscriptionIdForSubject.get(subject);
     }
 
-    private <T extends Notification<?>> void reportSubscriptionError(
-            BehaviorSubject<T> subject, EthSubscribe subscriptionReply) {
+    private void reportSubscriptionError(
+            BehaviorSubject<?> subject, EthSubscribe subscriptionReply) {
         Response.Error error = subscriptionReply.getError();
         log.error("Subscription request returned error: {}", error.getMessage());
         subject.onError(
@@ -389,38 +494,94 @@ public class WebSocketService implements Web3jService {
                                 e));
     }
 
-    private void processSubscriptionEvent(String replyStr, JsonNode replyJson) {
+    private void processSubscriptionEvent(String replyStr, String subscriptionId)
+            throws IOException {
         log.debug("Processing event: {}", replyStr);
-        String subscriptionId = extractSubscriptionId(replyJson);
-        WebSocketSubscription subscription = subscriptionForId.get(subscriptionId);
+        WebSocketSubscription subscription =
+                subscriptionId != null ? subscriptionForId.get(subscriptionId) : null;
 
         if (subscription != null) {
-            sendEventToSubscriber(replyJson, subscription);
+            sendEventToSubscriber(replyStr, subscription);
         } else {
             log.warn("No subscriber for WebSocket event with subscription id {}", subscriptionId);
         }
     }
 
-    private String extractSubscriptionId(JsonNode replyJson) {
-        return replyJson.get("params").get("subscription").asString();
-    }
-
     @SuppressWarnings("unchecked")
-    private void sendEventToSubscriber(JsonNode replyJson, WebSocketSubscription subscription) {
-        Object event = objectMapper.convertValue(replyJson, subscription.getResponseType());
-        subscription.getSubject().onNext(event);
+    private void sendEventToSubscriber(String replyStr, WebSocketSubscription subscription)
+            throws IOException {
+        Object event;
+        try {
+            event = objectMapper.readValue(replyStr, subscription.getResponseType());
+        } catch (JacksonException e) {
+            throw new IOException("Failed to parse incoming WebSocket message", e);
+        }
+        subscription.deliver(event);
     }
 
-    private boolean isReply(JsonNode replyJson) {
-        return replyJson.has("id");
-    }
+    /**
+     * Read the fields that decide how a message is dispatched: whether it is a batch, its id, and
+     * the subscription id of an event. Tokenizing stops as soon as these are known, so the result
+     * or event payload is usually not read here.
+     */
+    private MessageHeader parseHeader(String replyStr) throws IOException {
+        MessageHeader header = new MessageHeader();
+        try (JsonParser parser = objectMapper.createParser(replyStr)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                header.batch = true;
+                return header;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                return header;
+            }
+
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("id".equals(name)) {
+                    header.idToken = value;
+                    header.idText = parser.getString();
+                    if (value == JsonToken.VALUE_NUMBER_INT) {
+                        header.id = parser.getLongValue();
+                    }
+                    return header;
+                } else if ("params".equals(name) && value == JsonToken.START_OBJECT) {
+                    // the rest of params is only needed if it may hold another top-level field
+                    header.subscriptionId = parseSubscriptionId(parser, header.method);
+                } else {
+                    header.method |= "method".equals(name);
+                    parser.skipChildren();
+                }
 
-    private boolean isBatchReply(JsonNode replyJson) {
-        return replyJson.isArray();
+                if (header.method && header.subscriptionId != null) {
+                    return header;
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT) {
+                throw new IOException("Failed to parse incoming WebSocket message");
+            }
+            return header;
+        } catch (JacksonException e) {
+            throw new IOException("Failed to parse incoming WebSocket message", e);
+        }
     }
 
-    private boolean isSubscriptionEvent(JsonNode replyJson) {
-        return replyJson.has("method");
+    private static String parseSubscriptionId(JsonParser parser, boolean stopWhenFound) {
+        String subscriptionId = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("subscription".equals(name) && value == JsonToken.VALUE_STRING) {
+                subscriptionId = parser.getString();
+                if (stopWhenFound) {
+                    return subscriptionId;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return subscriptionId;
     }
 
     private JsonNode parseToTree(String replyStr) throws IOException {
@@ -432,12 +593,12 @@ public class WebSocketService implements Web3jService {
     }
 
     private WebSocketRequest getAndRemoveRequest(long id) throws IOException {
-        if (!requestForId.containsKey(id)) {
+        WebSocketRequest request = requestForId.remove(id);
+        if (request == null) {
             throw new IOException(
                     String.format("Received reply for unexpected request id: %d", id));
         }
-        WebSocketRequest request = requestForId.get(id);
-        requestForId.remove(id);
+        request.cancelTimeout();
         return request;
     }
 
@@ -449,14 +610,7 @@ public class WebSocketService implements Web3jService {
 
         if (!idField.isIntegralNumber()) {
             if (idField.isString()) {
-                try {
-                    return Long.parseLong(idField.asString());
-                } catch (NumberFormatException e) {
-                    throw new IOException(
-                            String.format(
-                                    "Found Textual 'id' that cannot be casted to long. Input : '%s'",
-                                    idField.asString()));
-                }
+                return parseTextualId(idField.asString());
             } else {
                 throw new IOException(
                         String.format(
@@ -467,6 +621,16 @@ public class WebSocketService implements Web3jService {
         return idField.longValue();
     }
 
+    private static long parseTextualId(String id) throws IOException {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new IOException(
+                    String.format(
+                            "Found Textual 'id' that cannot be casted to long. Input : '%s'", id));
+        }
+    }
+
     private static URI parseURI(String serverUrl) {
         try {
             return new URI(serverUrl);
@@ -487,17 +651,21 @@ public class WebSocketService implements Web3jService {
         // an Flowable to a client before we got a reply
         // a client can unsubscribe before we know a subscription
         // id and this can cause a race condition
-        subscribeToEventsStream(request, subject, responseType);
+        subscribeToEventsStream(request, subject, responseType, unsubscribeMethod);
 
         return subject.doOnDispose(() -> closeSubscription(subject, unsubscribeMethod))
                 .toFlowable(BackpressureStrategy.BUFFER);
     }
 
     private <T extends Notification<?>> void subscribeToEventsStream(
-            Request request, BehaviorSubject<T> subject, Class<T> responseType) {
+            Request<?, ?> request,
+            BehaviorSubject<T> subject,
+            Class<T> responseType,
+            String unsubscribeMethod) {
 
         subscriptionRequestForId.put(
-                request.getId(), new WebSocketSubscription<>(subject, responseType));
+                request.getId(),
+                new WebSocketSubscription<>(subject, responseType, request, unsubscribeMethod));
         try {
             send(request, EthSubscribe.class);
         } catch (IOException e) {
@@ -511,6 +679,7 @@ public class WebSocketService implements Web3jService {
         String subscriptionId = getSubscriptionId(subject);
         if (subscriptionId != null) {
             subscriptionForId.remove(subscriptionId);
+            subscriptionIdForSubject.remove(subject);
             unsubscribeFromEventsStream(subscriptionId, unsubscribeMethod);
         } else {
             log.warn("Trying to unsubscribe from a non-existing subscription. Race condition?");
@@ -544,23 +713,196 @@ public class WebSocketService implements Web3jService {
 
     @Override
     public void close() {
+        closed = true;
         webSocketClient.close();
         executor.shutdown();
     }
 
     void onWebSocketClose() {
+        ReconnectPolicy policy = reconnectPolicy;
+        if (policy != null && !closed) {
+            synchronized (sendLock) {
+                if (reconnecting) {
+                    // a failed attempt, the next one is already scheduled
+                    return;
+                }
+                reconnecting = true;
+            }
+            scheduleReconnect(policy, 0);
+            return;
+        }
+
         closeOutstandingRequests();
         closeOutstandingSubscriptions();
     }
 
+    private void scheduleReconnect(ReconnectPolicy policy, int attempt) {
+        long delay = policy.getDelayMillis(attempt);
+        log.info("WebSocket connection lost, reconnecting in {} ms", delay);
+        try {
+            executor.schedule(() -> startReconnect(policy, attempt), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Not reconnecting, the service has been closed");
+        }
+    }
+
+    private void startReconnect(ReconnectPolicy policy, int attempt) {
+        // connecting blocks for up to the connect timeout, which must not hold up the executor
+        // that request timeouts run on
+        Thread thread = new Thread(() -> reconnect(policy, attempt));
+        thread.setName("web3j-websocket-reconnect");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void reconnect(ReconnectPolicy policy, int attempt) {
+        if (closed) {
+            return;
+        }
+
+        boolean connected;
+        try {
+            connected = webSocketClient.reconnectBlocking();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconnect to WebSocket", e);
+            connected = false;
+        }
+
+        if (connected) {
+            log.info("Reconnected to WebSocket after {} attempt(s)", attempt + 1);
+            resume();
+        } else if (policy.shouldRetry(attempt + 1)) {
+            scheduleReconnect(policy, attempt + 1);
+        } else {
+            log.error("Giving up reconnecting to WebSocket after {} attempt(s)", attempt + 1);
+            synchronized (sendLock) {
+                reconnecting = false;
+            }
+            closeOutstandingRequests();
+            closeOutstandingSubscriptions();
+        }
+    }
+
+    /** Send outstanding requests again and restore subscriptions on a new connection. */
+    private void resume() {
+        synchronized (sendLock) {
+            reconnecting = false;
+            try {
+                for (WebSocketRequest<?> request : requestForId.values()) {
+                    String payload = request.getPayload();
+                    if (payload != null) {
+                        webSocketClient.send(payload);
+                    }
+                }
+            } catch (RuntimeException e) {
+                // lost again, the remaining requests are sent once reconnected
+                log.warn("Failed to send outstanding requests after reconnecting", e);
+                return;
+            }
+        }
+
+        for (WebSocketSubscription<?> subscription : new ArrayList<>(subscriptionForId.values())) {
+            resubscribe(subscription);
+        }
+    }
+
+    private <T> void resubscribe(WebSocketSubscription<T> subscription) {
+        Request<?, ?> request = subscription.getRequest();
+        if (request == null) {
+            return;
+        }
+
+        // events on the new subscription wait until missed ones have been delivered
+        subscription.holdEvents();
+        request.setId(DefaultIdProvider.getNextId());
+        subscriptionRequestForId.put(request.getId(), subscription);
+        sendAsync(request, EthSubscribe.class)
+                .thenCompose(
+                        reply ->
+                                reply.hasError()
+                                        ? CompletableFuture.completedFuture(
+                                                Collections.<T>emptyList())
+                                        : fetchMissedLogs(subscription))
+                .whenComplete(
+                        (missedEvents, error) -> {
+                            if (error != null) {
+                                log.warn(
+                                        "Failed to restore subscription with id {}",
+                                        subscription.getSubscriptionId(),
+                                        error);
+                            }
+                            subscription.releaseEvents(
+                                    missedEvents != null
+                                            ? missedEvents
+                                            : Collections.<T>emptyList());
+                        });
+    }
+
+    /**
+     * Fetch the logs a {@code logs} subscription missed while disconnected, starting from the block
+     * of the last log it delivered.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<List<T>> fetchMissedLogs(WebSocketSubscription<T> subscription) {
+        Log lastLog = subscription.getLastLog();
+        List<?> subscribeParams = subscription.getRequest().getParams();
+        if (lastLog == null
+                || subscribeParams == null
+                || subscribeParams.isEmpty()
+                || !"logs".equals(subscribeParams.get(0))) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        Map<String, Object> filter = new HashMap<>();
+        if (subscribeParams.size() > 1 && subscribeParams.get(1) instanceof Map) {
+            filter.putAll((Map<String, Object>) subscribeParams.get(1));
+        }
+        filter.put("fromBlock", lastLog.getBlockNumber());
+        filter.put("toBlock", "latest");
+
+        Request<?, MissedLogs> request =
+                new Request<>(
+                        "eth_getLogs", Collections.singletonList(filter), this, MissedLogs.class);
+        return sendAsync(request, MissedLogs.class)
+                .thenApply(
+                        reply -> {
+                            if (reply.hasError()) {
+                                throw new CompletionException(
+                                        new IOException(
+                                                "Failed to fetch missed logs: "
+                                                        + reply.getError().getMessage()));
+                            }
+                            List<T> events = new ArrayList<>();
+                            for (JsonNode missedLog : reply.getResult()) {
+                                events.add(toNotification(subscription, missedLog));
+                            }
+                            return events;
+                        });
+    }
+
+    private <T> T toNotification(WebSocketSubscription<T> subscription, JsonNode result) {
+        ObjectNode notification = objectMapper.createObjectNode();
+        notification.put("jsonrpc", "2.0");
+        notification.put("method", "eth_subscription");
+        ObjectNode params = notification.putObject("params");
+        params.put("subscription", subscription.getSubscriptionId());
+        params.set("result", result);
+        return objectMapper.treeToValue(notification, subscription.getResponseType());
+    }
+
     private void closeOutstandingRequests() {
         requestForId
                 .values()
                 .forEach(
-                        request ->
-                                request.getOnReply()
-                                        .completeExceptionally(
-                                                new IOException("Connection was closed")));
+                        request -> {
+                            request.cancelTimeout();
+                            request.getOnReply()
+                                    .completeExceptionally(
+                                            new IOException("Connection was closed"));
+                        });
         requestForId.clear();
     }
 
@@ -573,10 +915,52 @@ public class WebSocketService implements Web3jService {
                                         .getSubject()
                                         .onError(new IOException("Connection was closed")));
         subscriptionForId.clear();
+        subscriptionIdForSubject.clear();
     }
 
     // Method visible for unit-tests
     boolean isWaitingForReply(long requestId) {
         return requestForId.containsKey(requestId);
     }
+
+    // Method visible for unit-tests
+    int getPendingTimeouts() {
+        return timer.pendingTimeouts();
+    }
+
+    /** Reply to {@code eth_getLogs}, kept as JSON to bind each log as a subscription event. */
+    static class MissedLogs extends Response<List<JsonNode>> {}
+
+    /** Fields of an incoming message that decide how it is dispatched. */
+    private static final class MessageHeader {
+        private boolean batch;
+        private JsonToken idToken;
+        private String idText;
+        private long id;
+        private boolean method;
+        private String subscriptionId;
+
+        boolean isReply() {
+            return idToken != null;
+        }
+
+        boolean isBatchReply() {
+            return batch;
+        }
+
+        boolean isSubscriptionEvent() {
+            return method;
+        }
+
+        long getReplyId() throws IOException {
+            if (idToken == JsonToken.VALUE_NUMBER_INT) {
+                return id;
+            }
+            if (idToken == JsonToken.VALUE_STRING) {
+                return parseTextualId(idText);
+            }
+            throw new IOException(
+                    String.format("'id' expected to be long, but it is: '%s'", idText));
+        }
+    }
 }
@@ -12,8 +12,17 @@
  */
 package org.web3j.protocol.websocket;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
 import io.reactivex.subjects.BehaviorSubject;
 
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.websocket.events.Log;
+import org.web3j.protocol.websocket.events.LogNotification;
+import org.web3j.utils.Numeric;
+
 /**
  * Objects necessary to process a new item received via a WebSocket subscription.
  *
@@ -23,6 +32,14 @@ public class WebSocketSubscription<T> {
     private BehaviorSubject<T> subject;
     private Class<T> responseType;
 
+    // State needed to subscribe again after reconnecting
+    private Request<?, ?> request;
+    private String unsubscribeMethod;
+    private volatile String subscriptionId;
+    private volatile Log lastLog;
+    // Events received while resuming, delivered once missed events have been fetched
+    private List<T> heldEvents;
+
     /**
      * Creates WebSocketSubscription.
      *
@@ -34,6 +51,16 @@ public class WebSocketSubscription<T> {
         this.responseType = responseType;
     }
 
+    WebSocketSubscription(
+            BehaviorSubject<T> subject,
+            Class<T> responseType,
+            Request<?, ?> request,
+            String unsubscribeMethod) {
+        this(subject, responseType);
+        this.request = request;
+        this.unsubscribeMethod = unsubscribeMethod;
+    }
+
     public BehaviorSubject<T> getSubject() {
         return subject;
     }
@@ -41,4 +68,93 @@ public class WebSocketSubscription<T> {
     public Class<T> getResponseType() {
         return responseType;
     }
+
+    Request<?, ?> getRequest() {
+        return request;
+    }
+
+    String getUnsubscribeMethod() {
+        return unsubscribeMethod;
+    }
+
+    String getSubscriptionId() {
+        return subscriptionId;
+    }
+
+    void setSubscriptionId(String subscriptionId) {
+        this.subscriptionId = subscriptionId;
+    }
+
+    /** Last log delivered by a {@code logs} subscription, or null. */
+    Log getLastLog() {
+        return lastLog;
+    }
+
+    synchronized void deliver(T event) {
+        if (heldEvents != null) {
+            heldEvents.add(event);
+        } else {
+            emit(event);
+        }
+    }
+
+    /** Hold back events until {@link #releaseEvents(List)} is called. */
+    synchronized void holdEvents() {
+        if (heldEvents == null) {
+            heldEvents = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Deliver events fetched to fill the gap left by a lost connection, then the events held back
+     * in the meantime. Logs at or before the last delivered log are dropped, as the fetched range
+     * and the held events overlap each other and what was delivered before the connection was lost.
+     *
+     * @param missedEvents events fetched, in order
+     */
+    synchronized void releaseEvents(List<T> missedEvents) {
+        List<T> held = heldEvents != null ? heldEvents : new ArrayList<>();
+        heldEvents = null;
+        for (T event : missedEvents) {
+            emitIfNew(event);
+        }
+        for (T event : held) {
+            emitIfNew(event);
+        }
+    }
+
+    private void emitIfNew(T event) {
+        Log last = lastLog;
+        if (last != null && event instanceof LogNotification) {
+            Log log = ((LogNotification) event).getParams().getResult();
+            if (log != null && !isAfter(log, last)) {
+                return;
+            }
+        }
+        emit(event);
+    }
+
+    private void emit(T event) {
+        if (event instanceof LogNotification) {
+            Log log = ((LogNotification) event).getParams().getResult();
+            if (log != null && log.getBlockNumber() != null && log.getLogIndex() != null) {
+                lastLog = log;
+            }
+        }
+        subject.onNext(event);
+    }
+
+    private static boolean isAfter(Log log, Log last) {
+        if (log.getBlockNumber() == null || log.getLogIndex() == null) {
+            return true;
+        }
+        int byBlock =
+                Numeric.decodeQuantity(log.getBlockNumber())
+                        .compareTo(Numeric.decodeQuantity(last.getBlockNumber()));
+        if (byBlock != 0) {
+            return byBlock > 0;
+        }
+        BigInteger logIndex = Numeric.decodeQuantity(log.getLogIndex());
+        return logIndex.compareTo(Numeric.decodeQuantity(last.getLogIndex())) > 0;
+    }
 }
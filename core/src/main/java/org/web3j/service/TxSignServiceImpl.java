@@ -14,6 +14,7 @@ package org.web3j.service;
 
 import org.web3j.crypto.Credentials;
 import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.Signer;
 import org.web3j.crypto.TransactionEncoder;
 import org.web3j.tx.ChainId;
 
@@ -21,9 +22,11 @@ import org.web3j.tx.ChainId;
 public class TxSignServiceImpl implements TxSignService {
 
     private final Credentials credentials;
+    private final Signer signer;
 
     public TxSignServiceImpl(Credentials credentials) {
         this.credentials = credentials;
+        this.signer = new Signer(credentials);
     }
 
     @Override
@@ -31,9 +34,9 @@ public class TxSignServiceImpl implements TxSignService {
         final byte[] signedMessage;
 
         if (chainId > ChainId.NONE) {
-            signedMessage = TransactionEncoder.signMessage(rawTransaction, chainId, credentials);
+            signedMessage = TransactionEncoder.signMessage(rawTransaction, chainId, signer);
         } else {
-            signedMessage = TransactionEncoder.signMessage(rawTransaction, credentials);
+            signedMessage = TransactionEncoder.signMessage(rawTransaction, signer);
         }
         return signedMessage;
     }
@@ -834,6 +834,22 @@ public abstract class Contract extends ManagedTransaction {
         return new EventValues(indexedValues, nonIndexedValues);
     }
 
+    /**
+     * Returns a lazily decoded view of the event values of a log, see {@link EventView}.
+     *
+     * @param event event the log is expected to be for
+     * @param log log to view
+     * @return the view, or null if the log is not for this event
+     */
+    public static EventView staticExtractEventView(Event event, Log log) {
+        final List<String> topics = log.getTopics();
+        String encodedEventSignature = EventEncoder.encode(event);
+        if (topics == null || topics.isEmpty() || !topics.get(0).equals(encodedEventSignature)) {
+            return null;
+        }
+        return new EventView(event, log);
+    }
+
     protected String resolveContractAddress(String contractAddress) {
         return ensResolver.resolve(contractAddress);
     }
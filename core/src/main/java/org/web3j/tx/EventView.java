@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Numeric;
+
+/**
+ * Lazily decoded values of an event log.
+ *
+ * <p>Unlike {@link Contract.EventValuesWithLog}, which decodes every value of the log up front, a
+ * view decodes a value on its first access. Indexed values of static types can also be read
+ * straight from their topic with {@link #getIndexedAddress(int)}, {@link #getIndexedLong(int)} and
+ * {@link #getIndexedWord(int)}, without creating any {@link Type}.
+ *
+ * <p>Instances are not thread safe.
+ *
+ * @see Contract#staticExtractEventView(Event, Log)
+ */
+public class EventView {
+
+    private final Event event;
+    private final Log log;
+    private final Type[] indexedValues;
+    private final Type[] nonIndexedValues;
+
+    private List<TypeReference<Type>> nonIndexedParameters;
+    private byte[] data;
+
+    EventView(Event event, Log log) {
+        this.event = event;
+        this.log = log;
+
+        int indexedCount = 0;
+        for (TypeReference<Type> parameter : event.getParameters()) {
+            if (parameter.isIndexed()) {
+                indexedCount++;
+            }
+        }
+        this.indexedValues = new Type[indexedCount];
+        this.nonIndexedValues = new Type[event.getParameters().size() - indexedCount];
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public Log getLog() {
+        return log;
+    }
+
+    public int getIndexedCount() {
+        return indexedValues.length;
+    }
+
+    public int getNonIndexedCount() {
+        return nonIndexedValues.length;
+    }
+
+    /**
+     * Returns an indexed value, decoding it on first access. Indexed values of dynamic types are
+     * returned as the bytes32 hash found in their topic, see {@link
+     * FunctionReturnDecoder#decodeIndexedValue(String, TypeReference)}.
+     *
+     * @param index position of the value among the indexed parameters of the event
+     * @return the decoded value
+     */
+    public Type getIndexedValue(int index) {
+        Type value = indexedValues[Objects.checkIndex(index, indexedValues.length)];
+        if (value == null) {
+            value =
+                    FunctionReturnDecoder.decodeIndexedValue(
+                            getTopic(index), getIndexedParameter(index));
+            indexedValues[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns a non-indexed value, decoding only that value out of the log data on first access.
+     *
+     * @param index position of the value among the non-indexed parameters of the event
+     * @return the decoded value
+     */
+    public Type getNonIndexedValue(int index) {
+        Type value = nonIndexedValues[Objects.checkIndex(index, nonIndexedValues.length)];
+        if (value == null) {
+            if (data == null) {
+                nonIndexedParameters = event.getNonIndexedParameters();
+                data = Numeric.hexStringToByteArray(log.getData());
+            }
+            value = FunctionReturnDecoder.decode(data, nonIndexedParameters, index);
+            nonIndexedValues[index] = value;
+        }
+        return value;
+    }
+
+    public List<Type> getIndexedValues() {
+        List<Type> values = new ArrayList<>(indexedValues.length);
+        for (int i = 0; i < indexedValues.length; i++) {
+            values.add(getIndexedValue(i));
+        }
+        return values;
+    }
+
+    public List<Type> getNonIndexedValues() {
+        List<Type> values = new ArrayList<>(nonIndexedValues.length);
+        for (int i = 0; i < nonIndexedValues.length; i++) {
+            values.add(getNonIndexedValue(i));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the raw topic of an indexed value.
+     *
+     * @param index position of the value among the indexed parameters of the event
+     * @return hex encoded 32 byte topic
+     */
+    public String getTopic(int index) {
+        return log.getTopics().get(Objects.checkIndex(index, indexedValues.length) + 1);
+    }
+
+    /**
+     * Returns an indexed address without decoding it into an {@link
+     * org.web3j.abi.datatypes.Address}.
+     *
+     * @param index position of the value among the indexed parameters of the event
+     * @return lower case, 0x prefixed address
+     */
+    public String getIndexedAddress(int index) {
+        String topic = getTopic(index);
+        return "0x" + topic.substring(topic.length() - 40).toLowerCase();
+    }
+
+    /**
+     * Returns an indexed value, read as an unsigned integer, without decoding it into a {@link
+     * org.web3j.abi.datatypes.NumericType}.
+     *
+     * @param index position of the value among the indexed parameters of the event
+     * @return the value of the topic
+     * @throws ArithmeticException if the value does not fit in a long
+     */
+    public long getIndexedLong(int index) {
+        String topic = getTopic(index);
+        long value = 0;
+        for (int i = Numeric.containsHexPrefix(topic) ? 2 : 0; i < topic.length(); i++) {
+            int digit = Character.digit(topic.charAt(i), 16);
+            if (digit < 0) {
+                throw new NumberFormatException("Invalid hex topic: " + topic);
+            }
+            if ((value >>> (Long.SIZE - 5)) != 0) {
+                throw new ArithmeticException("Topic value does not fit in a long: " + topic);
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the 32 bytes of the topic of an indexed value.
+     *
+     * @param index position of the value among the indexed parameters of the event
+     * @return topic bytes
+     */
+    public byte[] getIndexedWord(int index) {
+        return Numeric.hexStringToByteArray(getTopic(index));
+    }
+
+    private TypeReference<Type> getIndexedParameter(int index) {
+        int indexed = 0;
+        for (TypeReference<Type> parameter : event.getParameters()) {
+            if (parameter.isIndexed() && indexed++ == index) {
+                return parameter;
+            }
+        }
+        throw new IndexOutOfBoundsException("No indexed parameter at " + index);
+    }
+}
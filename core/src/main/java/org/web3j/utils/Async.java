@@ -12,17 +12,39 @@
  */
 package org.web3j.utils;
 
+import java.util.Iterator;
+import java.util.ServiceLoader;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
-/** Async task facilitation. */
+import org.web3j.utils.spi.AsyncExecutorProvider;
+
+/**
+ * Async task facilitation.
+ *
+ * <p>Tasks run on virtual threads, so that each request waiting on a node ties up no more than a
+ * small heap object. Set the {@value #VIRTUAL_THREADS_PROPERTY} system property to {@code false} to
+ * use platform threads instead, or register an {@link AsyncExecutorProvider} to supply the
+ * executors.
+ */
 public class Async {
 
+    public static final String VIRTUAL_THREADS_PROPERTY = "web3j.async.virtualThreads";
+
+    private static final AsyncExecutorProvider PROVIDER;
+
+    static {
+        Iterator<AsyncExecutorProvider> iterator =
+                ServiceLoader.load(AsyncExecutorProvider.class).iterator();
+        PROVIDER = iterator.hasNext() ? iterator.next() : null;
+    }
+
     private Async() {}
 
     /**
@@ -32,6 +54,9 @@ public class Async {
     private static volatile ExecutorService executor;
 
     private static ExecutorService getExecutor() {
+        if (PROVIDER != null) {
+            return PROVIDER.executor();
+        }
         ExecutorService result = executor;
         if (result == null || result.isShutdown() || result.isTerminated()) {
             synchronized (Async.class) {
@@ -39,19 +64,31 @@ public class Async {
                 if (result == null || result.isShutdown() || result.isTerminated()) {
                     executor =
                             result =
-                                    Executors.newCachedThreadPool(
-                                            r -> {
-                                                Thread t = new Thread(r);
-                                                t.setName("web3j-async");
-                                                t.setDaemon(true);
-                                                return t;
-                                            });
+                                    useVirtualThreads()
+                                            ? Executors.newThreadPerTaskExecutor(
+                                                    virtualThreadFactory("web3j-async-"))
+                                            : Executors.newCachedThreadPool(
+                                                    r -> {
+                                                        Thread t = new Thread(r);
+                                                        t.setName("web3j-async");
+                                                        t.setDaemon(true);
+                                                        return t;
+                                                    });
                 }
             }
         }
         return result;
     }
 
+    /**
+     * Whether the executors created by web3j run their tasks on virtual threads.
+     *
+     * @return false if disabled through the {@value #VIRTUAL_THREADS_PROPERTY} system property
+     */
+    public static boolean useVirtualThreads() {
+        return Boolean.parseBoolean(System.getProperty(VIRTUAL_THREADS_PROPERTY, "true"));
+    }
+
     /**
      * Stops the shared executor service. Useful in web containers to release threads and prevent
      * ClassLoader leaks.
@@ -85,20 +122,32 @@ public class Async {
         return result;
     }
 
+    private static ThreadFactory virtualThreadFactory(String prefix) {
+        return Thread.ofVirtual().name(prefix, 0).factory();
+    }
+
     private static int getCpuCount() {
         return Runtime.getRuntime().availableProcessors();
     }
 
     /**
-     * Provide a new ScheduledExecutorService instance.
+     * Provide a new ScheduledExecutorService instance. Its threads are virtual unless disabled
+     * through the {@value #VIRTUAL_THREADS_PROPERTY} system property, so that polling tasks block
+     * no platform thread while waiting on a node.
      *
      * <p>A shutdown hook is created to terminate the thread pool on application termination.
      *
      * @return new ScheduledExecutorService
      */
     public static ScheduledExecutorService defaultExecutorService() {
+        if (PROVIDER != null) {
+            return PROVIDER.scheduledExecutor(getCpuCount());
+        }
         ScheduledExecutorService scheduledExecutorService =
-                Executors.newScheduledThreadPool(getCpuCount());
+                useVirtualThreads()
+                        ? Executors.newScheduledThreadPool(
+                                getCpuCount(), virtualThreadFactory("web3j-scheduled-"))
+                        : Executors.newScheduledThreadPool(getCpuCount());
 
         Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(scheduledExecutorService)));
 
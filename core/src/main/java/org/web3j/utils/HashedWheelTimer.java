@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timer for large numbers of timeouts that are mostly cancelled before they expire, such as request
+ * timeouts.
+ *
+ * <p>Timeouts are kept in a wheel of buckets, one per tick, and a single task run at a fixed rate
+ * on the given executor expires the timeouts of each tick as it passes. Adding and cancelling a
+ * timeout take constant time and no lock. Cancelled timeouts are unlinked on the next tick rather
+ * than kept until their deadline. Timeouts fire up to one tick late.
+ */
+public class HashedWheelTimer {
+
+    private static final Logger log = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    public static final long DEFAULT_TICK_MILLIS = 100;
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private final ScheduledExecutorService executor;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final LongSupplier nanoTime;
+    private final long startTime;
+
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile ScheduledFuture<?> ticker;
+
+    // next tick to expire, only accessed by the tick task
+    private long tick;
+
+    public HashedWheelTimer(ScheduledExecutorService executor) {
+        this(executor, DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * Create a timer.
+     *
+     * @param executor executor to run the tick task and the timeout tasks on
+     * @param tickDuration time between ticks
+     * @param unit unit of {@code tickDuration}
+     * @param ticksPerWheel number of buckets, rounded up to a power of two
+     */
+    public HashedWheelTimer(
+            ScheduledExecutorService executor,
+            long tickDuration,
+            TimeUnit unit,
+            int ticksPerWheel) {
+        this(executor, tickDuration, unit, ticksPerWheel, System::nanoTime);
+    }
+
+    HashedWheelTimer(
+            ScheduledExecutorService executor,
+            long tickDuration,
+            TimeUnit unit,
+            int ticksPerWheel,
+            LongSupplier nanoTime) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("Ticks per wheel must be in (0, 2^30]");
+        }
+
+        this.executor = executor;
+        this.tickNanos = unit.toNanos(tickDuration);
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheel = new Bucket[Math.max(size, 1)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.nanoTime = nanoTime;
+        this.startTime = nanoTime.getAsLong();
+    }
+
+    /**
+     * Schedule a task to run once the delay has passed, unless the returned timeout is cancelled
+     * first.
+     *
+     * @param task task to run on expiry
+     * @param delay delay before the task runs
+     * @param unit unit of {@code delay}
+     * @return handle to cancel the timeout with
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        long deadline = nanoTime.getAsLong() - startTime + unit.toNanos(delay);
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.incrementAndGet();
+        added.add(timeout);
+
+        if (!started.get() && started.compareAndSet(false, true)) {
+            ticker =
+                    executor.scheduleAtFixedRate(
+                            this::expireTimeouts, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        }
+        return timeout;
+    }
+
+    /** Number of timeouts that have neither expired nor been cancelled. */
+    public int pendingTimeouts() {
+        return pending.get();
+    }
+
+    /** Stop ticking. Pending timeouts will not expire, the executor is left running. */
+    public void stop() {
+        ScheduledFuture<?> current = ticker;
+        if (current != null) {
+            current.cancel(false);
+        }
+    }
+
+    void expireTimeouts() {
+        long now = nanoTime.getAsLong() - startTime;
+
+        for (Timeout timeout = cancelled.poll(); timeout != null; timeout = cancelled.poll()) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+
+        for (Timeout timeout = added.poll(); timeout != null; timeout = added.poll()) {
+            if (!timeout.isCancelled()) {
+                long deadlineTick = (timeout.deadline + tickNanos - 1) / tickNanos;
+                timeout.deadlineTick = Math.max(deadlineTick, tick);
+                wheel[(int) (timeout.deadlineTick & mask)].add(timeout);
+            }
+        }
+
+        // catches up if the executor could not run this task on time
+        while (tick * tickNanos <= now) {
+            wheel[(int) (tick & mask)].expire(tick);
+            tick++;
+        }
+    }
+
+    /** Handle to a task scheduled with {@link #newTimeout(Runnable, long, TimeUnit)}. */
+    public static final class Timeout {
+
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+
+        // only accessed by the tick task
+        private long deadlineTick;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancel this timeout so that its task does not run.
+         *
+         * @return false if the timeout had already expired or been cancelled
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(INIT, CANCELLED)) {
+                return false;
+            }
+            timer.pending.decrementAndGet();
+            timer.cancelled.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(INIT, EXPIRED)) {
+                return;
+            }
+            timer.pending.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn("Timeout task threw an exception", t);
+            }
+        }
+    }
+
+    /** Doubly linked list of the timeouts falling on the same position of the wheel. */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expire(long tick) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.deadlineTick <= tick) {
+                    remove(timeout);
+                    timeout.expire();
+                }
+                timeout = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils.spi;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.web3j.utils.Async;
+
+/**
+ * Executor Service Provider Interface for {@link Async}.
+ *
+ * <p>The first implementation found by {@link java.util.ServiceLoader} replaces the executors web3j
+ * creates by default. The provider owns the executors it hands out, {@link Async#shutdown()} does
+ * not stop them.
+ */
+public interface AsyncExecutorProvider {
+
+    /**
+     * Executor that blocking tasks, such as the round trip behind each {@code sendAsync} call, are
+     * run on. Called for every task, so implementations should return a shared instance.
+     *
+     * @return executor for blocking tasks
+     */
+    ExecutorService executor();
+
+    /**
+     * Scheduler for polling tasks such as filters and transaction receipt processors. Called once
+     * per {@code Web3j} instance or receipt processor.
+     *
+     * @param poolSize number of threads web3j would use by default
+     * @return scheduler for polling tasks
+     */
+    ScheduledExecutorService scheduledExecutor(int poolSize);
+}
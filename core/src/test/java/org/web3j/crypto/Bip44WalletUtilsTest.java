@@ -18,6 +18,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.web3j.utils.Numeric;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.web3j.crypto.Bip32Test.addChecksum;
 import static org.web3j.crypto.Bip32Test.serializePrivate;
@@ -99,6 +101,21 @@ class Bip44WalletUtilsTest {
                 Base58.encode(addChecksum(serializePublic(bip44Keypair))));
     }
 
+    @Test
+    void generateBip44Addresses() {
+        String mnemonic =
+                "spider elbow fossil truck deal circle divert sleep safe report laundry above";
+        Bip32ECKeyPair masterKeypair =
+                Bip32ECKeyPair.generateKeyPair(MnemonicUtils.generateSeed(mnemonic, null));
+
+        byte[] addresses = Bip44WalletUtils.generateBip44Addresses(masterKeypair, 0, 3);
+
+        assertEquals(3 * Bip32ECKeyPair.ADDRESS_LENGTH, addresses.length);
+        assertEquals(
+                "0xece62451ca8fba33746d6dafd0d0ebdef84778b7",
+                Numeric.toHexString(addresses, 0, Bip32ECKeyPair.ADDRESS_LENGTH, true));
+    }
+
     @Test
     void testGenerateBip44Wallets() throws Exception {
         Bip39Wallet wallet = Bip44WalletUtils.generateBip44Wallet(PASSWORD, tempDir);
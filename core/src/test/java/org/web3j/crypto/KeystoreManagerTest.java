@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.crypto.exception.CipherException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.web3j.crypto.SampleKeys.CREDENTIALS;
+import static org.web3j.crypto.SampleKeys.KEY_PAIR;
+import static org.web3j.crypto.SampleKeys.PASSWORD;
+import static org.web3j.crypto.WalletUtilsTest.createTempDir;
+
+public class KeystoreManagerTest {
+
+    private File tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tempDir = createTempDir();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (File file : tempDir.listFiles()) {
+            file.delete();
+        }
+        tempDir.delete();
+    }
+
+    @Test
+    public void testUnlockAllCachesKeys() throws Exception {
+        ECKeyPair otherKeyPair = Keys.createEcKeyPair();
+        File first = createWalletFile(KEY_PAIR);
+        File second = createWalletFile(otherKeyPair);
+
+        try (KeystoreManager manager = new KeystoreManager(Duration.ofMinutes(1), 2, 1 << 20)) {
+            List<KeystoreManager.UnlockResult> results =
+                    manager.unlockAll(Arrays.asList(first, second), PASSWORD);
+
+            assertEquals(2, results.size());
+            assertEquals(first, results.get(0).getSource());
+            assertEquals(CREDENTIALS, results.get(0).getCredentials());
+            assertEquals(Credentials.create(otherKeyPair), results.get(1).getCredentials());
+            assertFalse(results.get(0).isCached());
+            assertEquals(2, manager.size());
+
+            List<KeystoreManager.UnlockResult> cachedResults =
+                    manager.unlockAll(Arrays.asList(first, second), PASSWORD);
+            assertTrue(cachedResults.get(0).isCached());
+            assertTrue(cachedResults.get(1).isCached());
+            assertEquals(CREDENTIALS, cachedResults.get(0).getCredentials());
+            assertEquals(CREDENTIALS, manager.unlock(PASSWORD, first));
+
+            manager.clear();
+            assertEquals(0, manager.size());
+        }
+    }
+
+    @Test
+    public void testUnlockAllReportsFailures() throws Exception {
+        File walletFile = createWalletFile(KEY_PAIR);
+        Map<File, String> passwords = new LinkedHashMap<>();
+        passwords.put(walletFile, "wrong");
+        passwords.put(new File(tempDir, "missing.json"), PASSWORD);
+
+        try (KeystoreManager manager = new KeystoreManager(Duration.ofMinutes(1))) {
+            manager.unlock(PASSWORD, walletFile);
+            List<KeystoreManager.UnlockResult> results = manager.unlockAll(passwords);
+
+            assertFalse(results.get(0).isSuccessful());
+            assertNull(results.get(0).getCredentials());
+            assertInstanceOf(CipherException.class, results.get(0).getError());
+            assertFalse(results.get(1).isSuccessful());
+            assertThrows(CipherException.class, () -> manager.unlock("wrong", walletFile));
+        }
+    }
+
+    @Test
+    public void testCachedKeyIsBoundToWalletFile() throws Exception {
+        WalletFile walletFile = Wallet.createLight(PASSWORD, KEY_PAIR);
+        WalletFile forged = Wallet.createLight(PASSWORD, Keys.createEcKeyPair());
+        forged.getCrypto().setMac(walletFile.getCrypto().getMac());
+
+        try (KeystoreManager manager = new KeystoreManager(Duration.ofMinutes(1))) {
+            assertEquals(CREDENTIALS, manager.unlock(PASSWORD, walletFile));
+            assertThrows(CipherException.class, () -> manager.unlock(PASSWORD, forged));
+        }
+    }
+
+    @Test
+    public void testCachedKeyIsNotUsedForEditedWalletFile() throws Exception {
+        WalletFile walletFile = Wallet.createLight(PASSWORD, KEY_PAIR);
+        WalletFile unsupported = Wallet.createLight(PASSWORD, KEY_PAIR);
+        unsupported.setCrypto(walletFile.getCrypto());
+        unsupported.setAddress(walletFile.getAddress());
+        unsupported.setVersion(2);
+        WalletFile editedKdf = Wallet.createLight(PASSWORD, KEY_PAIR);
+        editedKdf.setCrypto(Wallet.createLight(PASSWORD, KEY_PAIR).getCrypto());
+        editedKdf.getCrypto().setMac(walletFile.getCrypto().getMac());
+        editedKdf.getCrypto().setCiphertext(walletFile.getCrypto().getCiphertext());
+        editedKdf.getCrypto().setCipherparams(walletFile.getCrypto().getCipherparams());
+        editedKdf.setAddress(walletFile.getAddress());
+
+        try (KeystoreManager manager = new KeystoreManager(Duration.ofMinutes(1))) {
+            assertEquals(CREDENTIALS, manager.unlock(PASSWORD, walletFile));
+            assertThrows(CipherException.class, () -> manager.unlock(PASSWORD, unsupported));
+            assertThrows(CipherException.class, () -> manager.unlock(PASSWORD, editedKdf));
+        }
+    }
+
+    @Test
+    public void testUnlockRejectsMissingMac() throws Exception {
+        WalletFile walletFile = Wallet.createLight(PASSWORD, KEY_PAIR);
+        walletFile.getCrypto().setMac(null);
+
+        try (KeystoreManager manager = new KeystoreManager(Duration.ofMinutes(1))) {
+            assertThrows(CipherException.class, () -> manager.unlock(PASSWORD, walletFile));
+        }
+    }
+
+    @Test
+    public void testZeroTimeToLiveDisablesCache() throws Exception {
+        File walletFile = createWalletFile(KEY_PAIR);
+
+        try (KeystoreManager manager = new KeystoreManager(Duration.ZERO)) {
+            assertEquals(CREDENTIALS, manager.unlock(PASSWORD, walletFile));
+            assertEquals(0, manager.size());
+        }
+    }
+
+    private File createWalletFile(ECKeyPair keyPair) throws Exception {
+        return new File(tempDir, WalletUtils.generateWalletFile(PASSWORD, keyPair, tempDir, false));
+    }
+}
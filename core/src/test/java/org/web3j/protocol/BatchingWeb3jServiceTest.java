@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchingWeb3jServiceTest {
+
+    private Web3jService web3jService;
+
+    @BeforeEach
+    void setUp() {
+        web3jService = mock(Web3jService.class);
+        when(web3jService.sendBatchAsync(any()))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batch = invocation.getArgument(0);
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ? extends Response<?>> request : batch.getRequests()) {
+                                EthBlockNumber response = new EthBlockNumber();
+                                response.setId(request.getId());
+                                response.setResult("0x" + Long.toHexString(request.getId()));
+                                responses.add(response);
+                            }
+                            return CompletableFuture.completedFuture(
+                                    new BatchResponse(batch.getRequests(), responses));
+                        });
+    }
+
+    @Test
+    void testCoalescesRequestsUpToMaxBatchSize() throws Exception {
+        BatchingWeb3jService service = new BatchingWeb3jService(web3jService, 3, 1, TimeUnit.HOURS);
+
+        List<Request<?, EthBlockNumber>> requests = new ArrayList<>();
+        List<CompletableFuture<EthBlockNumber>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Request<?, EthBlockNumber> request = blockNumberRequest(service);
+            requests.add(request);
+            results.add(service.sendAsync(request, EthBlockNumber.class));
+        }
+
+        ArgumentCaptor<BatchRequest> captor = ArgumentCaptor.forClass(BatchRequest.class);
+        verify(web3jService).sendBatchAsync(captor.capture());
+        assertEquals(3, captor.getValue().getRequests().size());
+
+        for (int i = 0; i < 3; i++) {
+            EthBlockNumber response = results.get(i).get(1, TimeUnit.SECONDS);
+            assertEquals(requests.get(i).getId(), response.getId());
+        }
+        service.close();
+    }
+
+    @Test
+    void testFlushesAfterDelay() throws Exception {
+        BatchingWeb3jService service =
+                new BatchingWeb3jService(web3jService, 100, 10, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<EthBlockNumber> first =
+                service.sendAsync(blockNumberRequest(service), EthBlockNumber.class);
+        CompletableFuture<EthBlockNumber> second =
+                service.sendAsync(blockNumberRequest(service), EthBlockNumber.class);
+
+        verify(web3jService, timeout(1000)).sendBatchAsync(any());
+        assertTrue(first.get(1, TimeUnit.SECONDS).getResult().startsWith("0x"));
+        assertTrue(second.get(1, TimeUnit.SECONDS).getResult().startsWith("0x"));
+        service.close();
+    }
+
+    @Test
+    void testSingleRequestIsNotWrappedInBatch() throws Exception {
+        EthBlockNumber expected = new EthBlockNumber();
+        when(web3jService.sendAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(expected));
+        BatchingWeb3jService service =
+                new BatchingWeb3jService(web3jService, 100, 1, TimeUnit.HOURS);
+
+        CompletableFuture<EthBlockNumber> result =
+                service.sendAsync(blockNumberRequest(service), EthBlockNumber.class);
+        service.flush();
+
+        assertSame(expected, result.get(1, TimeUnit.SECONDS));
+        verify(web3jService, never()).sendBatchAsync(any());
+        service.close();
+    }
+
+    @Test
+    void testBatchFailureIsReportedToEveryCaller() throws Exception {
+        CompletableFuture<BatchResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("boom"));
+        doReturn(failed).when(web3jService).sendBatchAsync(any());
+        BatchingWeb3jService service = new BatchingWeb3jService(web3jService, 2, 1, TimeUnit.HOURS);
+
+        CompletableFuture<EthBlockNumber> first =
+                service.sendAsync(blockNumberRequest(service), EthBlockNumber.class);
+        CompletableFuture<EthBlockNumber> second =
+                service.sendAsync(blockNumberRequest(service), EthBlockNumber.class);
+
+        ExecutionException e = assertThrows(ExecutionException.class, first::get);
+        assertInstanceOf(IOException.class, e.getCause());
+        assertThrows(ExecutionException.class, second::get);
+        service.close();
+    }
+
+    @Test
+    void testCloseFlushesPendingRequests() throws Exception {
+        BatchingWeb3jService service =
+                new BatchingWeb3jService(web3jService, 100, 1, TimeUnit.HOURS);
+
+        CompletableFuture<EthBlockNumber> first =
+                service.sendAsync(blockNumberRequest(service), EthBlockNumber.class);
+        CompletableFuture<EthBlockNumber> second =
+                service.sendAsync(blockNumberRequest(service), EthBlockNumber.class);
+        service.close();
+
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        verify(web3jService).close();
+    }
+
+    private static Request<?, EthBlockNumber> blockNumberRequest(Web3jService service) {
+        return new Request<>(
+                "eth_blockNumber", Collections.emptyList(), service, EthBlockNumber.class);
+    }
+}
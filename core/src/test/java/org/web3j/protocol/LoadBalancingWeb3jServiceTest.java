@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthFilter;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.protocol.http.HttpService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoadBalancingWeb3jServiceTest {
+
+    private StubNode first;
+    private StubNode second;
+    private LoadBalancingWeb3jService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first = new StubNode();
+        second = new StubNode();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (service != null) {
+            service.close();
+        }
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void testSpreadsRequestsAcrossIdleEndpoints() throws Exception {
+        service = createService(LoadBalancingWeb3jService.Policy.LEAST_OUTSTANDING);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(BigInteger.valueOf(100), blockNumber().send().getBlockNumber());
+        }
+
+        assertEquals(2, first.requests.get());
+        assertEquals(2, second.requests.get());
+    }
+
+    @Test
+    void testLeastOutstandingAvoidsBusyEndpoint() throws Exception {
+        service = createService(LoadBalancingWeb3jService.Policy.LEAST_OUTSTANDING);
+        first.delayMillis = 500;
+
+        CompletableFuture<EthBlockNumber> slow = blockNumber().sendAsync();
+        blockNumber().send();
+        blockNumber().send();
+        slow.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, first.requests.get());
+        assertEquals(2, second.requests.get());
+    }
+
+    @Test
+    void testLatencyAwarePrefersFasterEndpoint() throws Exception {
+        service = createService(LoadBalancingWeb3jService.Policy.LATENCY_AWARE);
+        first.delayMillis = 300;
+
+        for (int i = 0; i < 6; i++) {
+            blockNumber().send();
+        }
+
+        assertEquals(1, first.requests.get());
+        assertEquals(5, second.requests.get());
+    }
+
+    @Test
+    void testReadsFailOverAndOpenCircuitBreaker() throws Exception {
+        service = createService(LoadBalancingWeb3jService.Policy.LEAST_OUTSTANDING);
+        service.setCircuitBreaker(2, Duration.ofMinutes(1));
+        first.failing = true;
+
+        for (int i = 0; i < 6; i++) {
+            assertEquals(BigInteger.valueOf(100), blockNumber().send().getBlockNumber());
+        }
+        assertEquals(
+                BigInteger.valueOf(100),
+                blockNumber().sendAsync().get(5, TimeUnit.SECONDS).getBlockNumber());
+
+        // taken out of rotation after its second failure
+        assertEquals(2, first.requests.get());
+        assertEquals(7, second.requests.get());
+    }
+
+    @Test
+    void testWritesAreNotRetried() {
+        service = createService(LoadBalancingWeb3jService.Policy.LEAST_OUTSTANDING);
+        first.failing = true;
+
+        Request<?, EthSendTransaction> request =
+                new Request<>(
+                        "eth_sendRawTransaction",
+                        Collections.singletonList("0x00"),
+                        service,
+                        EthSendTransaction.class);
+
+        assertThrows(ClientConnectionException.class, request::send);
+        assertEquals(1, first.requests.get());
+        assertEquals(0, second.requests.get());
+    }
+
+    @Test
+    void testHealthCheckTakesLaggingEndpointOutOfRotation() throws Exception {
+        service = createService(LoadBalancingWeb3jService.Policy.LEAST_OUTSTANDING);
+        first.blockNumber = 100;
+        second.blockNumber = 200;
+
+        service.checkHealth(10, Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(BigInteger.valueOf(200), blockNumber().send().getBlockNumber());
+        }
+        assertEquals(1, first.requests.get());
+
+        first.blockNumber = 195;
+        service.checkHealth(10, Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 4; i++) {
+            blockNumber().send();
+        }
+        assertEquals(4, first.requests.get());
+    }
+
+    @Test
+    void testSlowReadsAreHedged() throws Exception {
+        service = createService(LoadBalancingWeb3jService.Policy.LEAST_OUTSTANDING);
+        service.setHedgeDelay(Duration.ofMillis(50));
+        first.delayMillis = 5000;
+        second.blockNumber = 200;
+
+        CompletableFuture<EthBlockNumber> result = blockNumber().sendAsync();
+
+        assertEquals(BigInteger.valueOf(200), result.get(2, TimeUnit.SECONDS).getBlockNumber());
+        assertEquals(1, first.requests.get());
+        assertEquals(1, second.requests.get());
+    }
+
+    @Test
+    void testFilterRequestsStayOnOneEndpoint() throws Exception {
+        service = createService(LoadBalancingWeb3jService.Policy.LEAST_OUTSTANDING);
+        service.setHedgeDelay(Duration.ZERO);
+
+        filterRequest("eth_newFilter").send();
+        StubNode filterNode = first.requests.get() == 1 ? first : second;
+        StubNode otherNode = filterNode == first ? second : first;
+        for (int i = 0; i < 4; i++) {
+            filterRequest("eth_getFilterChanges").send();
+            filterRequest("eth_getFilterLogs").sendAsync().get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(9, filterNode.requests.get());
+        assertEquals(0, otherNode.requests.get());
+
+        filterNode.failing = true;
+        assertThrows(ClientConnectionException.class, filterRequest("eth_getFilterChanges")::send);
+        assertEquals(10, filterNode.requests.get());
+        assertEquals(0, otherNode.requests.get());
+    }
+
+    private LoadBalancingWeb3jService createService(LoadBalancingWeb3jService.Policy policy) {
+        return new LoadBalancingWeb3jService(
+                Arrays.asList(new HttpService(first.url()), new HttpService(second.url())), policy);
+    }
+
+    private Request<?, EthBlockNumber> blockNumber() {
+        return new Request<>(
+                "eth_blockNumber", Collections.<String>emptyList(), service, EthBlockNumber.class);
+    }
+
+    private Request<?, EthFilter> filterRequest(String method) {
+        return new Request<>(method, Collections.singletonList("0x1"), service, EthFilter.class);
+    }
+
+    /** Minimal JSON-RPC node answering every request with its current block number. */
+    private static class StubNode implements Closeable {
+
+        private final HttpServer server;
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+        private final AtomicInteger requests = new AtomicInteger();
+
+        private volatile long blockNumber = 100;
+        private volatile long delayMillis;
+        private volatile boolean failing;
+
+        StubNode() throws IOException {
+            server =
+                    HttpServer.create(
+                            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.setExecutor(executor);
+            server.createContext("/", this::handle);
+            server.start();
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            JsonNode request =
+                    ObjectMapperFactory.getObjectMapper()
+                            .readTree(exchange.getRequestBody().readAllBytes());
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (failing) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body =
+                    String.format(
+                                    "{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":\"0x%x\"}",
+                                    request.get("id").longValue(), blockNumber)
+                            .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+
+        @Override
+        public void close() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+}
@@ -12,6 +12,8 @@
  */
 package org.web3j.protocol.core;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import org.web3j.protocol.BatchTester;
@@ -22,6 +24,7 @@ import org.web3j.protocol.core.methods.response.Web3Sha3;
 import org.web3j.protocol.http.HttpService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BatchTest extends BatchTester {
@@ -93,4 +96,73 @@ class BatchTest extends BatchTester {
         NetVersion netVersion = (NetVersion) response.getResponses().get(2);
         assertEquals("59", netVersion.getNetVersion());
     }
+
+    @Test
+    void testBatchResponseMatchedById() throws Exception {
+        Request<?, Web3ClientVersion> clientVersion = web3j.web3ClientVersion();
+        Request<?, NetVersion> netVersion = web3j.netVersion();
+
+        buildResponse(
+                "["
+                        + "{\"id\":"
+                        + netVersion.getId()
+                        + ",\"jsonrpc\":\"2.0\",\"result\":\"59\"},"
+                        + "{\"id\":"
+                        + clientVersion.getId()
+                        + ",\"jsonrpc\":\"2.0\",\"result\":\"Mist/v0.9.3/darwin/go1.4.1\"}"
+                        + "]");
+
+        BatchResponse response = web3j.newBatch().add(clientVersion).add(netVersion).send();
+
+        assertFalse(response.hasErrors());
+        assertEquals(
+                "Mist/v0.9.3/darwin/go1.4.1",
+                ((Web3ClientVersion) response.getResponses().get(0)).getWeb3ClientVersion());
+        assertEquals("59", ((NetVersion) response.getResponses().get(1)).getNetVersion());
+    }
+
+    @Test
+    void testBatchResponseReportsFailuresPerElement() throws Exception {
+        Request<?, Web3ClientVersion> clientVersion = web3j.web3ClientVersion();
+        Request<?, NetVersion> netVersion = web3j.netVersion();
+        Request<?, Web3Sha3> sha3 = web3j.web3Sha3("0x68656c6c6f20776f726c64");
+
+        buildResponse(
+                "["
+                        + "{\"id\":"
+                        + sha3.getId()
+                        + ",\"jsonrpc\":\"2.0\",\"error\":{\"code\":-32000,\"message\":\"busy\"}},"
+                        + "{\"id\":"
+                        + clientVersion.getId()
+                        + ",\"jsonrpc\":\"2.0\",\"result\":\"Mist/v0.9.3/darwin/go1.4.1\"}"
+                        + "]");
+
+        BatchResponse response =
+                web3j.newBatch().add(clientVersion).add(netVersion).add(sha3).send();
+
+        assertTrue(response.hasErrors());
+        assertEquals(Arrays.asList(netVersion, sha3), response.getFailedRequests());
+        assertFalse(response.getResponses().get(0).hasError());
+
+        assertTrue(response.getResponses().get(1) instanceof NetVersion);
+        assertEquals(RpcErrors.INTERNAL_ERROR, response.getResponses().get(1).getError().getCode());
+        assertEquals(netVersion.getId(), response.getResponses().get(1).getId());
+
+        assertTrue(response.getResponses().get(2) instanceof Web3Sha3);
+        assertEquals("busy", response.getResponses().get(2).getError().getMessage());
+    }
+
+    @Test
+    void testBatchRejectedAsWhole() throws Exception {
+        buildResponse(
+                "{\"id\":null,\"jsonrpc\":\"2.0\","
+                        + "\"error\":{\"code\":-32600,\"message\":\"batch too large\"}}");
+
+        BatchResponse response =
+                web3j.newBatch().add(web3j.web3ClientVersion()).add(web3j.netVersion()).send();
+
+        assertEquals(2, response.getFailedRequests().size());
+        assertEquals("batch too large", response.getResponses().get(0).getError().getMessage());
+        assertEquals("batch too large", response.getResponses().get(1).getError().getMessage());
+    }
 }
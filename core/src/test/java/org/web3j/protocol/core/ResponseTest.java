@@ -25,6 +25,9 @@ import java.util.Optional;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.protocol.ResponseTester;
 import org.web3j.protocol.core.methods.response.AbiDefinition;
 import org.web3j.protocol.core.methods.response.AccessListObject;
@@ -102,6 +105,7 @@ import org.web3j.protocol.core.methods.response.Web3Sha3;
 import org.web3j.protocol.core.methods.response.admin.AdminDataDir;
 import org.web3j.protocol.core.methods.response.admin.AdminNodeInfo;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -582,10 +586,31 @@ class ResponseTest extends ResponseTester {
 
         EthCall ethCall = deserialiseResponse(EthCall.class);
         assertEquals(ethCall.getValue(), ("0x"));
+        assertArrayEquals(new byte[0], ethCall.getValueBytes());
         assertFalse(ethCall.isReverted());
         assertNull(ethCall.getRevertReason());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEthCallDecodeValue() {
+        buildResponse(
+                "{\n"
+                        + "  \"id\":1,\n"
+                        + "  \"jsonrpc\": \"2.0\",\n"
+                        + "  \"result\": \"0x"
+                        + "000000000000000000000000000000000000000000000000000000000000002a\"\n"
+                        + "}");
+
+        EthCall ethCall = deserialiseResponse(EthCall.class);
+        List<Type> values =
+                ethCall.decodeValue(
+                        Collections.singletonList(
+                                (TypeReference<Type>)
+                                        (TypeReference<?>) new TypeReference<Uint256>() {}));
+        assertEquals(Collections.singletonList(new Uint256(42)), values);
+    }
+
     @Test
     void testEthCallReverted() {
         buildResponse(
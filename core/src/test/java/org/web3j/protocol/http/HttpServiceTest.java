@@ -13,15 +13,24 @@
 package org.web3j.protocol.http;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -32,6 +41,7 @@ import org.web3j.protocol.exceptions.ClientConnectionException;
 import org.web3j.protocol.websocket.events.NewHeadsNotification;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -110,6 +120,175 @@ class HttpServiceTest {
         fail("No exception");
     }
 
+    @Test
+    void testResponseIsStreamedAndReleased() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        Buffer content =
+                new Buffer().writeUtf8("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x2a\"}");
+        ForwardingSource source =
+                new ForwardingSource(content) {
+                    @Override
+                    public void close() throws IOException {
+                        closed.set(true);
+                        super.close();
+                    }
+                };
+        Response response =
+                new Response.Builder()
+                        .code(200)
+                        .message("")
+                        .body(
+                                ResponseBody.create(
+                                        Okio.buffer(source),
+                                        HttpService.JSON_MEDIA_TYPE,
+                                        content.size()))
+                        .request(new okhttp3.Request.Builder().url(HttpService.DEFAULT_URL).build())
+                        .protocol(Protocol.HTTP_1_1)
+                        .build();
+
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Call call = Mockito.mock(Call.class);
+        Mockito.when(call.execute()).thenReturn(response);
+        Mockito.when(httpClient.newCall(Mockito.any())).thenReturn(call);
+        HttpService mockedHttpService = new HttpService(httpClient);
+
+        EthBlockNumber ethBlockNumber =
+                mockedHttpService.send(
+                        new Request<>(
+                                "eth_blockNumber",
+                                Collections.emptyList(),
+                                mockedHttpService,
+                                EthBlockNumber.class),
+                        EthBlockNumber.class);
+
+        assertEquals(42, ethBlockNumber.getBlockNumber().intValue());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testSendAsyncEnqueuesCall() throws Exception {
+        Call call = Mockito.mock(Call.class);
+        Mockito.doAnswer(
+                        invocation -> {
+                            Callback callback = invocation.getArgument(0);
+                            callback.onResponse(
+                                    call,
+                                    jsonResponse(
+                                            "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x2a\"}"));
+                            return null;
+                        })
+                .when(call)
+                .enqueue(Mockito.any());
+        HttpService mockedHttpService = mockedHttpService(call);
+
+        CompletableFuture<EthBlockNumber> result =
+                mockedHttpService.sendAsync(
+                        blockNumberRequest(mockedHttpService), EthBlockNumber.class);
+
+        assertEquals(42, result.get(1, TimeUnit.SECONDS).getBlockNumber().intValue());
+        Mockito.verify(call, Mockito.never()).execute();
+    }
+
+    @Test
+    void testSendAsyncCompletesExceptionallyOnFailure() {
+        Call call = Mockito.mock(Call.class);
+        IOException failure = new IOException("connection refused");
+        Mockito.doAnswer(
+                        invocation -> {
+                            Callback callback = invocation.getArgument(0);
+                            callback.onFailure(call, failure);
+                            return null;
+                        })
+                .when(call)
+                .enqueue(Mockito.any());
+        HttpService mockedHttpService = mockedHttpService(call);
+
+        CompletableFuture<EthBlockNumber> result =
+                mockedHttpService.sendAsync(
+                        blockNumberRequest(mockedHttpService), EthBlockNumber.class);
+
+        ExecutionException e =
+                assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertSame(failure, e.getCause());
+    }
+
+    @Test
+    void testCancellingSendAsyncCancelsCall() {
+        Call call = Mockito.mock(Call.class);
+        HttpService mockedHttpService = mockedHttpService(call);
+
+        CompletableFuture<EthBlockNumber> result =
+                mockedHttpService.sendAsync(
+                        blockNumberRequest(mockedHttpService), EthBlockNumber.class);
+        result.cancel(true);
+
+        Mockito.verify(call).cancel();
+    }
+
+    @Test
+    void testSendAsyncGoesThroughOverriddenPerformIO() throws Exception {
+        Call call = Mockito.mock(Call.class);
+        Mockito.when(call.execute())
+                .thenReturn(jsonResponse("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x2a\"}"));
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any())).thenReturn(call);
+        AtomicBoolean performed = new AtomicBoolean();
+        HttpService loggingHttpService =
+                new HttpService(httpClient) {
+                    @Override
+                    protected InputStream performIO(String request) throws IOException {
+                        performed.set(true);
+                        return super.performIO(request);
+                    }
+                };
+
+        CompletableFuture<EthBlockNumber> result =
+                loggingHttpService.sendAsync(
+                        blockNumberRequest(loggingHttpService), EthBlockNumber.class);
+
+        assertEquals(42, result.get(1, TimeUnit.SECONDS).getBlockNumber().intValue());
+        assertTrue(performed.get());
+        Mockito.verify(call, Mockito.never()).enqueue(Mockito.any());
+    }
+
+    @Test
+    void testSendAsyncIgnoresUnrelatedOverloads() {
+        Call call = Mockito.mock(Call.class);
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any())).thenReturn(call);
+        HttpService overloadingHttpService =
+                new HttpService(httpClient) {
+                    @SuppressWarnings("unused")
+                    public void send(String message) {}
+                };
+
+        overloadingHttpService.sendAsync(
+                blockNumberRequest(overloadingHttpService), EthBlockNumber.class);
+
+        Mockito.verify(call).enqueue(Mockito.any());
+    }
+
+    private static HttpService mockedHttpService(Call call) {
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any())).thenReturn(call);
+        return new HttpService(httpClient);
+    }
+
+    private static Request<String, EthBlockNumber> blockNumberRequest(HttpService service) {
+        return new Request<>(
+                "eth_blockNumber", Collections.emptyList(), service, EthBlockNumber.class);
+    }
+
+    private static Response jsonResponse(String content) {
+        return new Response.Builder()
+                .code(200)
+                .message("")
+                .body(ResponseBody.create(content, HttpService.JSON_MEDIA_TYPE))
+                .request(new okhttp3.Request.Builder().url(HttpService.DEFAULT_URL).build())
+                .protocol(Protocol.HTTP_1_1)
+                .build();
+    }
+
     @Test
     void subscriptionNotSupported() {
         Request<Object, EthSubscribe> subscribeRequest =
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jnr.unixsocket.UnixSocketChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.NetVersion;
+import org.web3j.protocol.core.methods.response.Web3ClientVersion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PipelinedUnixIpcServiceTest {
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final BlockingQueue<JsonNode> received = new LinkedBlockingQueue<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private UnixSocketChannel node;
+    private PipelinedUnixIpcService service;
+
+    @BeforeEach
+    void setUp() {
+        service =
+                new PipelinedUnixIpcService("unused") {
+                    @Override
+                    protected UnixSocketChannel openChannel() throws IOException {
+                        connections.incrementAndGet();
+                        UnixSocketChannel[] pair = UnixSocketChannel.pair();
+                        node = pair[1];
+                        Thread thread = new Thread(() -> readRequests(pair[1]));
+                        thread.setDaemon(true);
+                        thread.start();
+                        return pair[0];
+                    }
+                };
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        service.close();
+    }
+
+    @Test
+    void testRepliesAreMatchedById() throws Exception {
+        CompletableFuture<Web3ClientVersion> first =
+                service.sendAsync(
+                        request("web3_clientVersion", Web3ClientVersion.class),
+                        Web3ClientVersion.class);
+        CompletableFuture<NetVersion> second =
+                service.sendAsync(request("net_version", NetVersion.class), NetVersion.class);
+
+        long firstId = takeRequest().get("id").longValue();
+        long secondId = takeRequest().get("id").longValue();
+
+        // replies in reverse order, split at arbitrary points and with braces inside strings
+        String replies =
+                "{\"jsonrpc\":\"2.0\",\"id\":"
+                        + secondId
+                        + ",\"result\":\"1\"}\n{\"jsonrpc\":\"2.0\",\"id\":"
+                        + firstId
+                        + ",\"result\":\"Geth/{v1.5.4}\\\"[stable]\"}\n";
+        reply(replies.substring(0, 10));
+        reply(replies.substring(10, 45));
+        reply(replies.substring(45));
+
+        assertEquals("1", second.get(1, TimeUnit.SECONDS).getNetVersion());
+        assertEquals(
+                "Geth/{v1.5.4}\"[stable]", first.get(1, TimeUnit.SECONDS).getWeb3ClientVersion());
+        assertEquals(1, connections.get());
+    }
+
+    @Test
+    void testConnectionIsReused() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            CompletableFuture<NetVersion> result =
+                    service.sendAsync(request("net_version", NetVersion.class), NetVersion.class);
+            long id = takeRequest().get("id").longValue();
+            reply("{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"result\":\"" + i + "\"}");
+
+            assertEquals(String.valueOf(i), result.get(1, TimeUnit.SECONDS).getNetVersion());
+        }
+
+        assertEquals(1, connections.get());
+    }
+
+    @Test
+    void testBatchRepliesAreMatchedById() throws Exception {
+        Request<?, Web3ClientVersion> clientVersion =
+                request("web3_clientVersion", Web3ClientVersion.class);
+        Request<?, NetVersion> netVersion = request("net_version", NetVersion.class);
+        BatchRequest batch = new BatchRequest(service);
+        batch.add(clientVersion).add(netVersion);
+
+        CompletableFuture<BatchResponse> result = service.sendBatchAsync(batch);
+
+        JsonNode sent = takeRequest();
+        long firstId = sent.get(0).get("id").longValue();
+        long secondId = sent.get(1).get("id").longValue();
+        assertEquals(netVersion.getId(), secondId);
+
+        reply(
+                "[{\"jsonrpc\":\"2.0\",\"id\":"
+                        + secondId
+                        + ",\"result\":\"1\"},{\"jsonrpc\":\"2.0\",\"id\":"
+                        + firstId
+                        + ",\"result\":\"Geth\"}]");
+
+        BatchResponse response = result.get(1, TimeUnit.SECONDS);
+        assertEquals(
+                "Geth",
+                ((Web3ClientVersion) response.getResponses().get(0)).getWeb3ClientVersion());
+        assertEquals("1", ((NetVersion) response.getResponses().get(1)).getNetVersion());
+        assertEquals(clientVersion.getId(), response.getResponses().get(0).getId());
+    }
+
+    @Test
+    void testOutstandingRequestsFailWhenConnectionIsLost() throws Exception {
+        CompletableFuture<NetVersion> result =
+                service.sendAsync(request("net_version", NetVersion.class), NetVersion.class);
+        takeRequest();
+
+        node.close();
+
+        ExecutionException e =
+                assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, e.getCause());
+
+        // the next request opens a new connection
+        CompletableFuture<NetVersion> retry =
+                service.sendAsync(request("net_version", NetVersion.class), NetVersion.class);
+        long id = takeRequest().get("id").longValue();
+        reply("{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"result\":\"1\"}");
+
+        assertEquals("1", retry.get(1, TimeUnit.SECONDS).getNetVersion());
+        assertEquals(2, connections.get());
+    }
+
+    @Test
+    void testSendFailsAfterClose() throws IOException {
+        service.close();
+
+        assertThrows(
+                IOException.class,
+                () -> service.send(request("net_version", NetVersion.class), NetVersion.class));
+    }
+
+    private <T extends Response<?>> Request<?, T> request(String method, Class<T> type) {
+        return new Request<>(method, Collections.<String>emptyList(), service, type);
+    }
+
+    private void readRequests(UnixSocketChannel channel) {
+        JsonMessageFramer framer =
+                new JsonMessageFramer(message -> received.add(objectMapper.readTree(message)));
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        try {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                framer.feed(buffer);
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            // connection closed by the test
+        }
+    }
+
+    private JsonNode takeRequest() throws InterruptedException {
+        JsonNode request = received.poll(1, TimeUnit.SECONDS);
+        if (request == null) {
+            throw new AssertionError("No request received");
+        }
+        return request;
+    }
+
+    private void reply(String payload) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(payload.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            node.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.Web3ClientVersion;
+import org.web3j.protocol.websocket.events.LogNotification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WebSocketServiceReconnectTest {
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+    private WebSocketClient webSocketClient;
+    private ScheduledExecutorService executor;
+    private WebSocketService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        webSocketClient = mock(WebSocketClient.class);
+        doAnswer(invocation -> sent.add(invocation.getArgument(0)))
+                .when(webSocketClient)
+                .send(anyString());
+        when(webSocketClient.reconnectBlocking()).thenReturn(true);
+
+        executor = Executors.newSingleThreadScheduledExecutor();
+        service = new WebSocketService(webSocketClient, executor, false);
+        service.setReconnectPolicy(new ReconnectPolicy(Duration.ZERO, Duration.ZERO, 2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testOutstandingRequestIsSentAgainAfterReconnecting() throws Exception {
+        CompletableFuture<Web3ClientVersion> reply =
+                service.sendAsync(clientVersionRequest(), Web3ClientVersion.class);
+        String payload = takeSent();
+
+        service.onWebSocketClose();
+
+        assertEquals(payload, takeSent());
+        assertFalse(reply.isDone());
+
+        reply(objectMapper.readTree(payload).get("id").longValue(), "\"geth-version\"");
+        assertEquals("geth-version", reply.get(2, TimeUnit.SECONDS).getWeb3ClientVersion());
+    }
+
+    @Test
+    void testRequestSentWhileReconnectingIsQueued() throws Exception {
+        CountDownLatch reconnecting = new CountDownLatch(1);
+        CountDownLatch reconnected = new CountDownLatch(1);
+        when(webSocketClient.reconnectBlocking())
+                .then(
+                        invocation -> {
+                            reconnecting.countDown();
+                            return reconnected.await(2, TimeUnit.SECONDS);
+                        });
+
+        service.onWebSocketClose();
+        assertTrue(reconnecting.await(2, TimeUnit.SECONDS));
+        service.sendAsync(clientVersionRequest(), Web3ClientVersion.class);
+
+        assertNull(sent.poll(100, TimeUnit.MILLISECONDS));
+        reconnected.countDown();
+        assertEquals(
+                "web3_clientVersion", objectMapper.readTree(takeSent()).get("method").asString());
+    }
+
+    @Test
+    void testExecutorIsNotBlockedWhileReconnecting() throws Exception {
+        CountDownLatch reconnecting = new CountDownLatch(1);
+        CountDownLatch reconnected = new CountDownLatch(1);
+        when(webSocketClient.reconnectBlocking())
+                .then(
+                        invocation -> {
+                            reconnecting.countDown();
+                            return reconnected.await(2, TimeUnit.SECONDS);
+                        });
+
+        service.onWebSocketClose();
+        assertTrue(reconnecting.await(2, TimeUnit.SECONDS));
+
+        // request timeouts run on the same executor
+        executor.submit(() -> {}).get(1, TimeUnit.SECONDS);
+        reconnected.countDown();
+    }
+
+    @Test
+    void testGiveUpAfterMaxAttempts() throws Exception {
+        when(webSocketClient.reconnectBlocking()).thenReturn(false);
+        CompletableFuture<Web3ClientVersion> reply =
+                service.sendAsync(clientVersionRequest(), Web3ClientVersion.class);
+
+        service.onWebSocketClose();
+
+        ExecutionException e =
+                assertThrows(ExecutionException.class, () -> reply.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+
+    @Test
+    void testLogsSubscriptionResumesWithoutGapsOrDuplicates() throws Exception {
+        BlockingQueue<LogNotification> events = new LinkedBlockingQueue<>();
+        Request<?, EthSubscribe> subscribeRequest =
+                new Request<>(
+                        "eth_subscribe",
+                        Arrays.asList(
+                                "logs", Collections.singletonMap("address", List.of("0x0abc"))),
+                        service,
+                        EthSubscribe.class);
+        CompletableFuture.runAsync(
+                () ->
+                        service.subscribe(
+                                        subscribeRequest, "eth_unsubscribe", LogNotification.class)
+                                .subscribe(events::add));
+
+        reply(objectMapper.readTree(takeSent()).get("id").longValue(), "\"0xold\"");
+        waitForSubscription("0xold");
+        service.onWebSocketMessage(logEvent("0xold", "0x10", "0x1"));
+        assertEquals("0x10", events.take().getParams().getResult().getBlockNumber());
+
+        service.onWebSocketClose();
+
+        JsonNode resubscribe = objectMapper.readTree(takeSent());
+        assertEquals("eth_subscribe", resubscribe.get("method").asString());
+        reply(resubscribe.get("id").longValue(), "\"0xnew\"");
+
+        JsonNode getLogs = objectMapper.readTree(takeSent());
+        assertEquals("eth_getLogs", getLogs.get("method").asString());
+        JsonNode filter = getLogs.get("params").get(0);
+        assertEquals("0x10", filter.get("fromBlock").asString());
+        assertEquals("0x0abc", filter.get("address").get(0).asString());
+
+        // arrives before the missed logs, so it is held back until they are delivered
+        service.onWebSocketMessage(logEvent("0xnew", "0x12", "0x0"));
+        reply(
+                getLogs.get("id").longValue(),
+                "[" + log("0x10", "0x1") + "," + log("0x11", "0x0") + "]");
+
+        assertEquals(
+                "0x11", events.poll(2, TimeUnit.SECONDS).getParams().getResult().getBlockNumber());
+        assertEquals(
+                "0x12", events.poll(2, TimeUnit.SECONDS).getParams().getResult().getBlockNumber());
+        assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(Collections.singleton("0xnew"), service.getSubscriptionIdsMap().keySet());
+    }
+
+    @Test
+    void testBackoffIsBoundedAndJittered() {
+        ReconnectPolicy policy =
+                new ReconnectPolicy(Duration.ofMillis(100), Duration.ofSeconds(1), 0);
+
+        for (int attempt = 0; attempt < 40; attempt++) {
+            long backoff = Math.min(100L << Math.min(attempt, 30), 1000);
+            long delay = policy.getDelayMillis(attempt);
+            assertTrue(delay >= backoff / 2 && delay <= backoff, "attempt " + attempt);
+        }
+        assertTrue(policy.shouldRetry(1000));
+        assertFalse(new ReconnectPolicy(Duration.ZERO, Duration.ZERO, 2).shouldRetry(2));
+    }
+
+    private Request<?, Web3ClientVersion> clientVersionRequest() {
+        return new Request<>(
+                "web3_clientVersion",
+                Collections.<String>emptyList(),
+                service,
+                Web3ClientVersion.class);
+    }
+
+    private String takeSent() throws InterruptedException {
+        String payload = sent.poll(2, TimeUnit.SECONDS);
+        if (payload == null) {
+            throw new AssertionError("Nothing was sent");
+        }
+        return payload;
+    }
+
+    private void reply(long id, String result) throws IOException {
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"result\":" + result + "}");
+    }
+
+    private void waitForSubscription(String subscriptionId) throws InterruptedException {
+        Map<String, WebSocketSubscription<?>> subscriptions = service.getSubscriptionIdsMap();
+        for (int i = 0; i < 40 && !subscriptions.containsKey(subscriptionId); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(subscriptions.containsKey(subscriptionId));
+    }
+
+    private static String logEvent(String subscriptionId, String blockNumber, String logIndex) {
+        return "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\",\"params\":{"
+                + "\"subscription\":\""
+                + subscriptionId
+                + "\",\"result\":"
+                + log(blockNumber, logIndex)
+                + "}}";
+    }
+
+    private static String log(String blockNumber, String logIndex) {
+        return "{\"address\":\"0x0abc\",\"blockNumber\":\""
+                + blockNumber
+                + "\",\"logIndex\":\""
+                + logIndex
+                + "\",\"topics\":[],\"data\":\"0x\"}";
+    }
+}
@@ -14,12 +14,15 @@ package org.web3j.protocol.websocket;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -30,7 +33,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
 
+import org.web3j.protocol.LoadBalancingWeb3jService;
+import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultIdProvider;
@@ -43,15 +50,17 @@ import org.web3j.protocol.websocket.events.NewHeadsNotification;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -240,6 +249,108 @@ class WebSocketServiceTest {
         assertEquals(netVersion.getNetVersion(), "59");
     }
 
+    @Test
+    void testBatchHedgedAcrossServices() throws Exception {
+        WebSocketClient firstClient = mock(WebSocketClient.class);
+        WebSocketClient secondClient = mock(WebSocketClient.class);
+        BlockingQueue<String> firstSent = new LinkedBlockingQueue<>();
+        BlockingQueue<String> secondSent = new LinkedBlockingQueue<>();
+        doAnswer(invocation -> firstSent.add(invocation.getArgument(0)))
+                .when(firstClient)
+                .send(anyString());
+        doAnswer(invocation -> secondSent.add(invocation.getArgument(0)))
+                .when(secondClient)
+                .send(anyString());
+        ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+        WebSocketService first = new WebSocketService(firstClient, false);
+        WebSocketService second = new WebSocketService(secondClient, false);
+
+        LoadBalancingWeb3jService loadBalancer =
+                new LoadBalancingWeb3jService(Arrays.asList(first, second));
+        try {
+            loadBalancer.setHedgeDelay(Duration.ZERO);
+            BatchRequest request = new BatchRequest(loadBalancer);
+            request.add(
+                            new Request<>(
+                                    "web3_clientVersion",
+                                    Collections.<String>emptyList(),
+                                    loadBalancer,
+                                    Web3ClientVersion.class))
+                    .add(
+                            new Request<>(
+                                    "net_version",
+                                    Collections.<String>emptyList(),
+                                    loadBalancer,
+                                    NetVersion.class));
+            long firstId = request.getRequests().get(0).getId();
+            long secondId = request.getRequests().get(1).getId();
+
+            CompletableFuture<BatchResponse> reply = loadBalancer.sendBatchAsync(request);
+            JsonNode firstBatch = objectMapper.readTree(firstSent.poll(2, TimeUnit.SECONDS));
+            JsonNode secondBatch = objectMapper.readTree(secondSent.poll(2, TimeUnit.SECONDS));
+
+            // each service correlates the batch under its own id, without touching the request
+            long firstCorrelationId = firstBatch.get(0).get("id").longValue();
+            long secondCorrelationId = secondBatch.get(0).get("id").longValue();
+            assertNotEquals(firstCorrelationId, secondCorrelationId);
+            assertNotEquals(firstId, secondCorrelationId);
+            assertEquals(firstId, request.getRequests().get(0).getId());
+            assertEquals(secondId, secondBatch.get(1).get("id").longValue());
+
+            second.onWebSocketMessage(
+                    "[{\"jsonrpc\":\"2.0\",\"id\":"
+                            + secondId
+                            + ",\"result\":\"59\"},"
+                            + "{\"jsonrpc\":\"2.0\",\"id\":"
+                            + secondCorrelationId
+                            + ",\"result\":\"Mist/v0.9.3/darwin/go1.4.1\"}]");
+
+            BatchResponse response = reply.get(2, TimeUnit.SECONDS);
+            assertEquals(
+                    "Mist/v0.9.3/darwin/go1.4.1",
+                    ((Web3ClientVersion) response.getResponses().get(0)).getWeb3ClientVersion());
+            assertEquals("59", ((NetVersion) response.getResponses().get(1)).getNetVersion());
+            assertEquals(firstId, response.getResponses().get(0).getId());
+        } finally {
+            loadBalancer.close();
+        }
+    }
+
+    @Test
+    void testReorderedBatchRequestReply() throws Exception {
+        BatchRequest request = new BatchRequest(service);
+        request.add(
+                        new Request<>(
+                                "web3_clientVersion",
+                                Collections.<String>emptyList(),
+                                service,
+                                Web3ClientVersion.class))
+                .add(
+                        new Request<>(
+                                "net_version",
+                                Collections.<String>emptyList(),
+                                service,
+                                NetVersion.class));
+        request.getRequests().get(0).setId(7L);
+        request.getRequests().get(1).setId(8L);
+        DefaultIdProviderReset.resetNextId();
+
+        CompletableFuture<BatchResponse> reply = service.sendBatchAsync(request);
+        service.onWebSocketMessage(
+                "["
+                        + "{\"id\":8,\"jsonrpc\":\"2.0\",\"result\":\"59\"},"
+                        + "{\"id\":0,\"jsonrpc\":\"2.0\",\"result\":\"Mist/v0.9.3/darwin/go1.4.1\"}"
+                        + "]");
+
+        assertTrue(reply.isDone());
+        BatchResponse response = reply.get();
+        assertEquals(7L, request.getRequests().get(0).getId());
+        assertEquals(
+                "Mist/v0.9.3/darwin/go1.4.1",
+                ((Web3ClientVersion) response.getResponses().get(0)).getWeb3ClientVersion());
+        assertEquals("59", ((NetVersion) response.getResponses().get(1)).getNetVersion());
+    }
+
     @Test
     void testIgnoreInvalidReplies() {
         service.sendAsync(request, Web3ClientVersion.class);
@@ -301,23 +412,36 @@ class WebSocketServiceTest {
     }
 
     @Test
-    void testCancelRequestAfterTimeout() {
-        when(executorService.schedule(
-                        any(Runnable.class),
-                        eq(WebSocketService.REQUEST_TIMEOUT),
-                        eq(TimeUnit.SECONDS)))
-                .then(
-                        invocation -> {
-                            Runnable runnable = invocation.getArgument(0, Runnable.class);
-                            runnable.run();
-                            return null;
-                        });
+    void testCancelRequestAfterTimeout() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        WebSocketService service = new WebSocketService(webSocketClient, executor, true);
+        request.setTimeout(Duration.ofMillis(10));
+
+        try {
+            CompletableFuture<Web3ClientVersion> reply =
+                    service.sendAsync(request, Web3ClientVersion.class);
+
+            ExecutionException e =
+                    assertThrows(ExecutionException.class, () -> reply.get(2, TimeUnit.SECONDS));
+            assertInstanceOf(IOException.class, e.getCause());
+            assertFalse(service.isWaitingForReply(request.getId()));
+            assertEquals(0, service.getPendingTimeouts());
+        } finally {
+            executor.shutdown();
+        }
+    }
 
+    @Test
+    void testRequestTimeoutCancelledOnReply() throws Exception {
         CompletableFuture<Web3ClientVersion> reply =
                 service.sendAsync(request, Web3ClientVersion.class);
+        assertEquals(1, service.getPendingTimeouts());
 
-        assertTrue(reply.isDone());
-        assertThrows(ExecutionException.class, () -> reply.get());
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"id\":" + request.getId() + ",\"result\":\"geth-version\"}");
+
+        assertEquals("geth-version", reply.get().getWeb3ClientVersion());
+        assertEquals(0, service.getPendingTimeouts());
     }
 
     @Test
@@ -401,6 +525,37 @@ class WebSocketServiceTest {
                 actualNotificationRef.get().getParams().getSubscription());
     }
 
+    @Test
+    void testPropagateSubscriptionEventWithFieldsInAnyOrder() throws Exception {
+        CountDownLatch eventReceived = new CountDownLatch(1);
+        AtomicReference<NewHeadsNotification> actualNotificationRef = new AtomicReference<>();
+
+        runAsync(
+                () ->
+                        subscribeToEvents()
+                                .subscribe(
+                                        newHeadsNotification -> {
+                                            actualNotificationRef.set(newHeadsNotification);
+                                            eventReceived.countDown();
+                                        }));
+
+        sendSubscriptionConfirmation();
+        service.onWebSocketMessage(
+                "{"
+                        + "\"params\":{"
+                        + "  \"result\":{\"difficulty\":\"0xd9263f42a87\",\"uncles\":[]},"
+                        + "  \"subscription\":\"0xcd0c3e8af590364c09d0fa6a1210faf5\""
+                        + "},"
+                        + "\"method\":\"eth_subscription\","
+                        + "\"jsonrpc\":\"2.0\""
+                        + "}");
+
+        assertTrue(eventReceived.await(2, TimeUnit.SECONDS));
+        assertEquals(
+                "0xd9263f42a87",
+                actualNotificationRef.get().getParams().getResult().getDifficulty());
+    }
+
     @Test
     void testSendUnsubscribeRequest() throws Exception {
         CountDownLatch unsubscribed = new CountDownLatch(1);
@@ -611,6 +766,8 @@ class WebSocketServiceTest {
         while (!service.isWaitingForReply(REQUEST_ID)) {
             Thread.sleep(50);
         }
+        // requests are registered, and their timeout scheduled, just before they are sent
+        verify(webSocketClient, timeout(2000).atLeastOnce()).send(anyString());
     }
 
     private void sendWebSocketEvent() throws IOException {
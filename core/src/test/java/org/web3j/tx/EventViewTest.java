@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EventViewTest {
+
+    private static final Event TRANSFER_EVENT =
+            new Event(
+                    "Transfer",
+                    Arrays.asList(
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Uint256>() {},
+                            new TypeReference<Utf8String>() {}));
+
+    private static final String FROM_TOPIC =
+            "0x0000000000000000000000003d6cb163f7c72d20b0fcd6baae5889329d138a4a";
+    private static final String TO_TOPIC =
+            "0x00000000000000000000000000000000000000000000000000000000000000ff";
+
+    @Test
+    public void testDecodesValuesOnAccess() {
+        EventView view = Contract.staticExtractEventView(TRANSFER_EVENT, transferLog());
+
+        assertEquals(2, view.getIndexedCount());
+        assertEquals(2, view.getNonIndexedCount());
+        assertEquals(
+                new Address("0x3d6cb163f7c72d20b0fcd6baae5889329d138a4a"), view.getIndexedValue(0));
+        assertSame(view.getIndexedValue(0), view.getIndexedValue(0));
+        assertEquals(new Utf8String("memo"), view.getNonIndexedValue(1));
+        assertEquals(new Uint256(BigInteger.valueOf(1000)), view.getNonIndexedValue(0));
+        assertEquals(
+                Arrays.asList(new Uint256(BigInteger.valueOf(1000)), new Utf8String("memo")),
+                view.getNonIndexedValues());
+        assertEquals(
+                Contract.staticExtractEventParameters(TRANSFER_EVENT, transferLog())
+                        .getIndexedValues(),
+                view.getIndexedValues());
+    }
+
+    @Test
+    public void testReadsRawTopics() {
+        EventView view = Contract.staticExtractEventView(TRANSFER_EVENT, transferLog());
+
+        assertEquals("0x3d6cb163f7c72d20b0fcd6baae5889329d138a4a", view.getIndexedAddress(0));
+        assertEquals(255, view.getIndexedLong(1));
+        assertArrayEquals(Numeric.hexStringToByteArray(TO_TOPIC), view.getIndexedWord(1));
+        assertThrows(ArithmeticException.class, () -> view.getIndexedLong(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.getTopic(2));
+    }
+
+    @Test
+    public void testReturnsNullForOtherEvents() {
+        Log log = transferLog();
+        log.setTopics(Arrays.asList(EventEncoder.buildEventSignature("Other()")));
+
+        assertNull(Contract.staticExtractEventView(TRANSFER_EVENT, log));
+    }
+
+    private static Log transferLog() {
+        Log log = new Log();
+        log.setTopics(Arrays.asList(EventEncoder.encode(TRANSFER_EVENT), FROM_TOPIC, TO_TOPIC));
+        log.setData(
+                "0x00000000000000000000000000000000000000000000000000000000000003e8"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000004"
+                        + "6d656d6f00000000000000000000000000000000000000000000000000000000");
+        return log;
+    }
+}
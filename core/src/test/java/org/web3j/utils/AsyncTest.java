@@ -14,11 +14,15 @@ package org.web3j.utils;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.junit.jupiter.api.Test;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AsyncTest {
 
@@ -69,4 +73,32 @@ class AsyncTest {
             assertEquals(i, futures.get(i).get());
         }
     }
+
+    @Test
+    void testRunsOnVirtualThreads() throws Exception {
+        assertTrue(Async.run(() -> Thread.currentThread().isVirtual()).get());
+
+        ScheduledExecutorService scheduler = Async.defaultExecutorService();
+        try {
+            assertTrue(
+                    scheduler
+                            .schedule(() -> Thread.currentThread().isVirtual(), 1, MILLISECONDS)
+                            .get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testVirtualThreadsCanBeDisabled() throws Exception {
+        System.setProperty(Async.VIRTUAL_THREADS_PROPERTY, "false");
+        try {
+            Async.shutdown();
+            assertFalse(Async.run(() -> Thread.currentThread().isVirtual()).get());
+        } finally {
+            System.clearProperty(Async.VIRTUAL_THREADS_PROPERTY);
+            Async.shutdown();
+        }
+        assertTrue(Async.run(() -> Thread.currentThread().isVirtual()).get());
+    }
 }
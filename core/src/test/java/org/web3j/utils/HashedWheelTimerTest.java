@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class HashedWheelTimerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+    private final HashedWheelTimer timer =
+            new HashedWheelTimer(executor, 10, TimeUnit.MILLISECONDS, 8, now::get);
+
+    @Test
+    void testExpiresAfterDelay() {
+        AtomicInteger fired = new AtomicInteger();
+        HashedWheelTimer.Timeout timeout =
+                timer.newTimeout(fired::incrementAndGet, 25, TimeUnit.MILLISECONDS);
+
+        advance(20);
+        assertEquals(0, fired.get());
+
+        advance(10);
+        assertEquals(1, fired.get());
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    void testCancelledTimeoutDoesNotFire() {
+        AtomicInteger fired = new AtomicInteger();
+        HashedWheelTimer.Timeout timeout =
+                timer.newTimeout(fired::incrementAndGet, 25, TimeUnit.MILLISECONDS);
+        advance(10);
+
+        assertTrue(timeout.cancel());
+        assertEquals(0, timer.pendingTimeouts());
+
+        advance(100);
+        assertEquals(0, fired.get());
+        assertTrue(timeout.isCancelled());
+    }
+
+    @Test
+    void testTimeoutsBeyondOneRevolution() {
+        List<Integer> fired = new ArrayList<>();
+        // the wheel covers 80ms, so these share buckets with earlier ticks
+        timer.newTimeout(() -> fired.add(1), 15, TimeUnit.MILLISECONDS);
+        timer.newTimeout(() -> fired.add(2), 95, TimeUnit.MILLISECONDS);
+        timer.newTimeout(() -> fired.add(3), 175, TimeUnit.MILLISECONDS);
+
+        advance(20);
+        assertEquals(List.of(1), fired);
+        advance(80);
+        assertEquals(List.of(1, 2), fired);
+        advance(80);
+        assertEquals(List.of(1, 2, 3), fired);
+    }
+
+    @Test
+    void testCatchesUpOnMissedTicks() {
+        AtomicInteger fired = new AtomicInteger();
+        for (int i = 1; i <= 5; i++) {
+            timer.newTimeout(fired::incrementAndGet, i * 10, TimeUnit.MILLISECONDS);
+        }
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(60));
+        timer.expireTimeouts();
+
+        assertEquals(5, fired.get());
+    }
+
+    @Test
+    void testTickerStartedOnce() {
+        timer.newTimeout(() -> {}, 1, TimeUnit.SECONDS);
+        timer.newTimeout(() -> {}, 1, TimeUnit.SECONDS);
+
+        verify(executor, times(1))
+                .scheduleAtFixedRate(
+                        any(Runnable.class), anyLong(), anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    private void advance(long millis) {
+        long step = TimeUnit.MILLISECONDS.toNanos(10);
+        for (long elapsed = 0; elapsed < TimeUnit.MILLISECONDS.toNanos(millis); elapsed += step) {
+            now.addAndGet(step);
+            timer.expireTimeouts();
+        }
+    }
+}
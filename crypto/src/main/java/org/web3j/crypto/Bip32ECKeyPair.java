@@ -15,7 +15,11 @@ package org.web3j.crypto;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.stream.IntStream;
 
+import org.bouncycastle.crypto.digests.SHA512Digest;
+import org.bouncycastle.crypto.macs.HMac;
+import org.bouncycastle.crypto.params.KeyParameter;
 import org.bouncycastle.math.ec.ECPoint;
 
 import org.web3j.utils.Numeric;
@@ -32,6 +36,15 @@ import static org.web3j.crypto.Hash.sha256hash160;
 public class Bip32ECKeyPair extends ECKeyPair {
     public static final int HARDENED_BIT = 0x80000000;
 
+    /** Length of each address returned by {@link #deriveAddresses(Bip32ECKeyPair, int, int)}. */
+    public static final int ADDRESS_LENGTH = 20;
+
+    /**
+     * Number of children derived together by one task of {@link #deriveAddresses(Bip32ECKeyPair,
+     * int, int)}, which share a single field inversion to normalize their public keys.
+     */
+    private static final int ADDRESS_BATCH_SIZE = 256;
+
     private final boolean parentHasPrivate;
     private final int childNumber;
     private final int depth;
@@ -86,6 +99,89 @@ public class Bip32ECKeyPair extends ECKeyPair {
         return curr;
     }
 
+    /**
+     * Derives the addresses of the non-hardened children {@code from} (inclusive) to {@code to}
+     * (exclusive) of a parent key, e.g. the {@code m/44'/60'/0'/0} account key of a BIP-44 wallet.
+     *
+     * <p>Children are derived from the public key and chain code of the parent, which are computed
+     * once, and only their addresses are kept: no key pair is created for any of them. The range is
+     * split in batches derived in parallel on the common fork-join pool.
+     *
+     * @param parent key to derive the children of, with or without its private key
+     * @param from index of the first child
+     * @param to index after the last child
+     * @return the {@link #ADDRESS_LENGTH} byte address of every child, one after the other, so that
+     *     the address of child {@code i} starts at {@code (i - from) * ADDRESS_LENGTH}
+     * @throws IllegalArgumentException if the range is negative or too large for a single array
+     */
+    public static byte[] deriveAddresses(Bip32ECKeyPair parent, int from, int to) {
+        if (from < 0 || to < from || to - from > Integer.MAX_VALUE / ADDRESS_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Invalid range of child numbers: [" + from + ", " + to + ")");
+        }
+
+        ECPoint parentPoint = parent.getPublicKeyPoint().normalize();
+        byte[] parentPublicKey = parentPoint.getEncoded(true);
+        byte[] parentChainCode = parent.getChainCode();
+        byte[] addresses = new byte[(to - from) * ADDRESS_LENGTH];
+        int batches = (to - from + ADDRESS_BATCH_SIZE - 1) / ADDRESS_BATCH_SIZE;
+        IntStream.range(0, batches)
+                .parallel()
+                .forEach(
+                        batch -> {
+                            int start = from + batch * ADDRESS_BATCH_SIZE;
+                            // to - start rather than start + size, which overflows near the end
+                            int end = start + Math.min(ADDRESS_BATCH_SIZE, to - start);
+                            deriveAddresses(
+                                    parentPoint,
+                                    parentPublicKey,
+                                    parentChainCode,
+                                    start,
+                                    end,
+                                    addresses,
+                                    (start - from) * ADDRESS_LENGTH);
+                        });
+        return addresses;
+    }
+
+    private static void deriveAddresses(
+            ECPoint parentPoint,
+            byte[] parentPublicKey,
+            byte[] parentChainCode,
+            int from,
+            int to,
+            byte[] addresses,
+            int offset) {
+        HMac hMac = new HMac(new SHA512Digest());
+        hMac.init(new KeyParameter(parentChainCode));
+        byte[] i = new byte[64];
+        ECPoint[] points = new ECPoint[to - from];
+        for (int childNumber = from; childNumber < to; childNumber++) {
+            // Same as the public derivation of deriveChildKey, which yields the public key of the
+            // private derivation as well for non-hardened children
+            hMac.update(parentPublicKey, 0, parentPublicKey.length);
+            hMac.update((byte) (childNumber >>> 24));
+            hMac.update((byte) (childNumber >>> 16));
+            hMac.update((byte) (childNumber >>> 8));
+            hMac.update((byte) childNumber);
+            hMac.doFinal(i, 0);
+            BigInteger ilInt = new BigInteger(1, Arrays.copyOfRange(i, 0, 32));
+            points[childNumber - from] = Sign.publicPointFromPrivate(ilInt).add(parentPoint);
+        }
+        Arrays.fill(i, (byte) 0);
+
+        // One inversion for the whole batch instead of one per point
+        Sign.CURVE.getCurve().normalizeAll(points);
+        for (ECPoint point : points) {
+            // The hash of the public key replaces its start, only the last 20 bytes are kept
+            byte[] encoded = point.getEncoded(false);
+            Hash.sha3Into(encoded, 1, 64, encoded, 0);
+            System.arraycopy(
+                    encoded, Hash.SHA3_LENGTH - ADDRESS_LENGTH, addresses, offset, ADDRESS_LENGTH);
+            offset += ADDRESS_LENGTH;
+        }
+    }
+
     private Bip32ECKeyPair deriveChildKey(int childNumber) {
         if (!hasPrivateKey()) {
             if (isHardened(childNumber)) {
@@ -73,8 +73,7 @@ public class ContractUtils {
         if (salt.length != SALT_SIZE) {
             throw new RuntimeException("Invalid salt size");
         }
-        byte[] hashedInitCode = Hash.sha3(initCode);
-        byte[] buffer = new byte[1 + address.length + salt.length + hashedInitCode.length];
+        byte[] buffer = new byte[1 + address.length + salt.length + Hash.SHA3_LENGTH];
 
         buffer[0] = (byte) 0xff;
         int offset = 1;
@@ -82,10 +81,11 @@ public class ContractUtils {
         offset += address.length;
         System.arraycopy(salt, 0, buffer, offset, salt.length);
         offset += salt.length;
-        System.arraycopy(hashedInitCode, 0, buffer, offset, hashedInitCode.length);
+        Hash.sha3Into(initCode, 0, initCode.length, buffer, offset);
 
-        byte[] hashed = Hash.sha3(buffer);
-        return Arrays.copyOfRange(hashed, 12, hashed.length);
+        // The hash of the buffer replaces its start, only the last 20 bytes of it are needed
+        Hash.sha3Into(buffer, 0, buffer.length, buffer, 0);
+        return Arrays.copyOfRange(buffer, 12, Hash.SHA3_LENGTH);
     }
 
     public static String generateCreate2ContractAddress(
@@ -13,15 +13,50 @@
 package org.web3j.crypto;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 
 /** An ECDSA Signature. */
 public class ECDSASignature {
     public final BigInteger r;
     public final BigInteger s;
+    private final int recId;
+    // the public key and hash the recId is known to be valid for, if any
+    private final BigInteger signingKey;
+    private final byte[] signedHash;
 
     public ECDSASignature(BigInteger r, BigInteger s) {
+        this(r, s, -1, null, null);
+    }
+
+    ECDSASignature(
+            BigInteger r, BigInteger s, int recId, BigInteger signingKey, byte[] signedHash) {
         this.r = r;
         this.s = s;
+        this.recId = recId;
+        this.signingKey = signingKey;
+        this.signedHash = signedHash;
+    }
+
+    /**
+     * @return the recovery id of the signature, taken from the nonce point when it was created by
+     *     {@link ECKeyPair#sign(byte[])}, or -1 if it is not known.
+     */
+    public int getRecId() {
+        return recId;
+    }
+
+    /**
+     * Returns the recovery id if it is known to recover the given public key from the given hash,
+     * that is if this signature was made by that key over that very hash, or -1 otherwise.
+     */
+    int getRecId(BigInteger publicKey, byte[] messageHash) {
+        if (recId >= 0
+                && signingKey != null
+                && signingKey.equals(publicKey)
+                && Arrays.equals(signedHash, messageHash)) {
+            return recId;
+        }
+        return -1;
     }
 
     /**
@@ -52,7 +87,13 @@ public class ECDSASignature {
             //    N = 10
             //    s = 8, so (-8 % 10 == 2) thus both (r, 8) and (r, 2) are valid solutions.
             //    10 - 8 == 2, giving us always the latter solution, which is canonical.
-            return new ECDSASignature(r, Sign.CURVE.getN().subtract(s));
+            // Negating s negates the nonce point, which flips the parity of its y coordinate.
+            return new ECDSASignature(
+                    r,
+                    Sign.CURVE.getN().subtract(s),
+                    recId < 0 ? recId : recId ^ 1,
+                    signingKey,
+                    signedHash);
         } else {
             return this;
         }
@@ -16,10 +16,6 @@ import java.math.BigInteger;
 import java.security.KeyPair;
 import java.util.Arrays;
 
-import org.bouncycastle.crypto.digests.SHA256Digest;
-import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
-import org.bouncycastle.crypto.signers.ECDSASigner;
-import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.bouncycastle.jcajce.provider.asymmetric.ec.BCECPrivateKey;
 import org.bouncycastle.jcajce.provider.asymmetric.ec.BCECPublicKey;
 
@@ -29,6 +25,8 @@ import org.web3j.utils.Numeric;
 public class ECKeyPair {
     private final BigInteger privateKey;
     private final BigInteger publicKey;
+    private volatile boolean publicKeyChecked;
+    private volatile boolean publicKeyMatches;
 
     public ECKeyPair(BigInteger privateKey, BigInteger publicKey) {
         this.privateKey = privateKey;
@@ -46,17 +44,30 @@ public class ECKeyPair {
     /**
      * Sign a hash with the private key of this key pair.
      *
+     * <p>The recovery id of the signature is taken from the nonce point, see {@link
+     * ECDSASignature#getRecId()}. To sign many hashes with the same key, use a {@link Signer}.
+     *
      * @param transactionHash the hash to sign
      * @return An {@link ECDSASignature} of the hash
      */
     public ECDSASignature sign(byte[] transactionHash) {
-        ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
-
-        ECPrivateKeyParameters privKey = new ECPrivateKeyParameters(privateKey, Sign.CURVE);
-        signer.init(true, privKey);
-        BigInteger[] components = signer.generateSignature(transactionHash);
+        return Signer.sign(
+                Sign.CURVE.validatePrivateScalar(privateKey),
+                getCheckedPublicKey(),
+                transactionHash);
+    }
 
-        return new ECDSASignature(components[0], components[1]).toCanonicalised();
+    /**
+     * Returns the public key if it belongs to the private key, checked on first use, or {@code
+     * null} if it does not.
+     */
+    BigInteger getCheckedPublicKey() {
+        if (!publicKeyChecked) {
+            publicKeyMatches =
+                    publicKey != null && publicKey.equals(Sign.publicKeyFromPrivate(privateKey));
+            publicKeyChecked = true;
+        }
+        return publicKeyMatches ? publicKey : null;
     }
 
     public static ECKeyPair create(KeyPair keyPair) {
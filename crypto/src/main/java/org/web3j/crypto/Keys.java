@@ -37,6 +37,7 @@ public class Keys {
 
     public static final int ADDRESS_SIZE = 160;
     public static final int ADDRESS_LENGTH_IN_HEX = ADDRESS_SIZE >> 2;
+    static final int ADDRESS_LENGTH_IN_BYTES = ADDRESS_SIZE >> 3;
     static final int PUBLIC_KEY_LENGTH_IN_HEX = PUBLIC_KEY_SIZE << 1;
     public static final int PRIVATE_KEY_LENGTH_IN_HEX = PRIVATE_KEY_SIZE << 1;
     private static final BouncyCastleProvider BC_PROVIDER = new BouncyCastleProvider();
@@ -104,8 +105,10 @@ public class Keys {
                     Strings.zeros(PUBLIC_KEY_LENGTH_IN_HEX - publicKeyNoPrefix.length())
                             + publicKeyNoPrefix;
         }
-        String hash = Hash.sha3(publicKeyNoPrefix);
-        return hash.substring(hash.length() - ADDRESS_LENGTH_IN_HEX); // right most 160 bits
+        byte[] hash = Hash.sha3(Numeric.hexStringToByteArray(publicKeyNoPrefix));
+        // right most 160 bits
+        return Numeric.toHexString(
+                hash, Hash.SHA3_LENGTH - ADDRESS_LENGTH_IN_BYTES, ADDRESS_LENGTH_IN_BYTES, false);
     }
 
     public static byte[] getAddress(byte[] publicKey) {
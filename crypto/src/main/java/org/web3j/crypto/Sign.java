@@ -14,10 +14,10 @@ package org.web3j.crypto;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.SignatureException;
 import java.util.Arrays;
+import java.util.List;
 
 import org.bouncycastle.asn1.x9.X9ECParameters;
 import org.bouncycastle.asn1.x9.X9IntegerConverter;
@@ -115,16 +115,13 @@ public class Sign {
      */
     public static Sign.SignatureData createSignatureData(
             ECDSASignature sig, BigInteger publicKey, byte[] messageHash) {
-        // Now we have to work backwards to figure out the recId needed to recover the signature.
-        int recId = -1;
-        for (int i = 0; i < 4; i++) {
-            BigInteger k = recoverFromSignature(i, sig, messageHash);
-            if (k != null && k.equals(publicKey)) {
-                recId = i;
-                break;
-            }
+        // Signatures created by ECKeyPair know their recId, which is used if they were made by this
+        // key over this hash. Others are worked out from their nonce point.
+        int recId = sig.getRecId(publicKey, messageHash);
+        if (recId < 0) {
+            recId = recIdFromNoncePoint(sig, publicKey, messageHash);
         }
-        if (recId == -1) {
+        if (recId < 0) {
             throw new RuntimeException(
                     "Could not construct a recoverable key. Are your credentials valid?");
         }
@@ -139,6 +136,59 @@ public class Sign {
         return new Sign.SignatureData(v, r, s);
     }
 
+    /**
+     * Returns the recId of a signature made by the given public key, or -1 if the signature was not
+     * made by it.
+     *
+     * <p>Instead of trying to recover the public key for each of the four recIds, the nonce point R
+     * of the signature is computed as {@code s^-1 * (e * G + r * Q)}, which costs a single double
+     * scalar multiplication. The recId is then the y parity of R, plus 2 if its x coordinate was
+     * reduced by the curve order to get r.
+     */
+    private static int recIdFromNoncePoint(
+            ECDSASignature sig, BigInteger publicKey, byte[] messageHash) {
+        verifyPrecondition(messageHash != null, "message cannot be null");
+        BigInteger n = CURVE.getN();
+        if (sig.r.signum() <= 0
+                || sig.r.compareTo(n) >= 0
+                || sig.s.signum() <= 0
+                || sig.s.compareTo(n) >= 0
+                || publicKey.signum() <= 0
+                || publicKey.bitLength() > 512) {
+            return -1;
+        }
+
+        ECPoint q;
+        try {
+            byte[] encoded = new byte[65];
+            encoded[0] = 0x04;
+            System.arraycopy(Numeric.toBytesPadded(publicKey, 64), 0, encoded, 1, 64);
+            q = CURVE.getCurve().decodePoint(encoded);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+
+        // Same e as recoverFromSignature, so that recovering with the result gives back q
+        BigInteger e = new BigInteger(1, messageHash);
+        BigInteger sInv = sig.s.modInverse(n);
+        ECPoint noncePoint =
+                ECAlgorithms.sumOfTwoMultiplies(
+                                CURVE.getG(),
+                                e.multiply(sInv).mod(n),
+                                q,
+                                sig.r.multiply(sInv).mod(n))
+                        .normalize();
+        if (noncePoint.isInfinity()) {
+            return -1;
+        }
+
+        BigInteger x = noncePoint.getAffineXCoord().toBigInteger();
+        if (!x.mod(n).equals(sig.r)) {
+            return -1;
+        }
+        return (noncePoint.getAffineYCoord().testBitZero() ? 1 : 0) | (x.equals(sig.r) ? 0 : 2);
+    }
+
     /**
      * Returns SignatureData from hex signature.
      *
@@ -198,6 +248,14 @@ public class Sign {
      * @return An ECKey containing only the public part, or null if recovery wasn't possible.
      */
     public static BigInteger recoverFromSignature(int recId, ECDSASignature sig, byte[] message) {
+        ECPoint q = recoverPublicPoint(recId, sig, message);
+        if (q == null) {
+            return null;
+        }
+        return publicFromPoint(q.getEncoded(false));
+    }
+
+    private static ECPoint recoverPublicPoint(int recId, ECDSASignature sig, byte[] message) {
         verifyPrecondition(recId >= 0 && recId <= 3, "recId must be in the range of [0, 3]");
         verifyPrecondition(sig.r.signum() >= 0, "r must be positive");
         verifyPrecondition(sig.s.signum() >= 0, "s must be positive");
@@ -224,8 +282,9 @@ public class Sign {
         // two possibilities. So it's encoded in the recId.
         ECPoint R = decompressKey(x, (recId & 1) == 1);
         //   1.4. If nR != point at infinity, then do another iteration of Step 1 (callers
-        //        responsibility).
-        if (!R.multiply(n).isInfinity()) {
+        //        responsibility). With a cofactor of 1, as for secp256k1, every point on the
+        //        curve has order n, so the multiplication can be skipped.
+        if (!CURVE.getH().equals(BigInteger.ONE) && !R.multiply(n).isInfinity()) {
             return null;
         }
         //   1.5. Compute e from M using Steps 2 and 3 of ECDSA signature verification.
@@ -248,11 +307,7 @@ public class Sign {
         BigInteger rInv = sig.r.modInverse(n);
         BigInteger srInv = rInv.multiply(sig.s).mod(n);
         BigInteger eInvrInv = rInv.multiply(eInv).mod(n);
-        ECPoint q = ECAlgorithms.sumOfTwoMultiplies(CURVE.getG(), eInvrInv, R, srInv);
-
-        byte[] qBytes = q.getEncoded(false);
-        // We remove the prefix
-        return new BigInteger(1, Arrays.copyOfRange(qBytes, 1, qBytes.length));
+        return ECAlgorithms.sumOfTwoMultiplies(CURVE.getG(), eInvrInv, R, srInv);
     }
 
     /** Decompress a compressed public key (x co-ord and low-bit of y-coord). */
@@ -334,6 +389,71 @@ public class Sign {
         return key;
     }
 
+    /**
+     * Recovers the addresses that signed a batch of message hashes, in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, or on the pool the caller is running in.
+     *
+     * <p>Signatures are handled as by {@link #signedMessageHashToKey(byte[], SignatureData)}, so
+     * EIP-155 v values must be converted to a recovery id based v beforehand. Recovered public keys
+     * are hashed straight into addresses, without going through {@link BigInteger}.
+     *
+     * @param messageHashes hashes of the signed messages
+     * @param signatures signatures of the hashes, in the same order
+     * @return the 20 byte address that signed each hash, or null for signatures from which no
+     *     public key could be recovered
+     */
+    public static List<byte[]> recoverBatch(
+            List<byte[]> messageHashes, List<SignatureData> signatures) {
+        verifyPrecondition(
+                messageHashes.size() == signatures.size(),
+                "messageHashes and signatures must have the same size");
+
+        byte[][] hashes = messageHashes.toArray(new byte[0][]);
+        SignatureData[] signatureData = signatures.toArray(new SignatureData[0]);
+        byte[][] addresses = new byte[hashes.length][];
+        Arrays.parallelSetAll(addresses, i -> recoverAddress(hashes[i], signatureData[i]));
+        return Arrays.asList(addresses);
+    }
+
+    private static byte[] recoverAddress(byte[] messageHash, SignatureData signatureData) {
+        byte[] r = signatureData.getR();
+        byte[] s = signatureData.getS();
+        byte[] v = signatureData.getV();
+        if (messageHash == null
+                || r == null
+                || r.length != 32
+                || s == null
+                || s.length != 32
+                || v == null
+                || v.length == 0) {
+            return null;
+        }
+        int recId = (v[0] & 0xFF) - LOWER_REAL_V;
+        if (recId < 0 || recId > 3) {
+            return null;
+        }
+
+        ECPoint q;
+        try {
+            q =
+                    recoverPublicPoint(
+                            recId,
+                            new ECDSASignature(new BigInteger(1, r), new BigInteger(1, s)),
+                            messageHash);
+        } catch (RuntimeException e) {
+            // Not a valid curve point, or r equal to zero
+            return null;
+        }
+        if (q == null || q.isInfinity()) {
+            return null;
+        }
+
+        // The hash of the public key replaces its start, only the last 20 bytes of it are needed
+        byte[] encoded = q.getEncoded(false);
+        Hash.sha3Into(encoded, 1, 64, encoded, 0);
+        return Arrays.copyOfRange(encoded, Hash.SHA3_LENGTH - 20, Hash.SHA3_LENGTH);
+    }
+
     /**
      * Returns recovery ID.
      *
@@ -431,17 +551,14 @@ public class Sign {
      */
     public static byte[] authorizationHash(BigInteger chainId, String address, BigInteger nonce) {
         byte[] addressBytes = validateAuthorizationFields(chainId, address, nonce);
-        byte[] rlpEncoded =
-                RlpEncoder.encode(
-                        new RlpList(
-                                RlpString.create(chainId),
-                                RlpString.create(addressBytes),
-                                RlpString.create(nonce)));
-        byte[] toHash =
-                ByteBuffer.allocate(1 + rlpEncoded.length)
-                        .put(EIP7702_MAGIC)
-                        .put(rlpEncoded)
-                        .array();
+        RlpList authorization =
+                new RlpList(
+                        RlpString.create(chainId),
+                        RlpString.create(addressBytes),
+                        RlpString.create(nonce));
+        byte[] toHash = new byte[1 + RlpEncoder.encodedLength(authorization)];
+        toHash[0] = EIP7702_MAGIC;
+        RlpEncoder.encode(authorization, toHash, 1);
         return Hash.sha3(toHash);
     }
 
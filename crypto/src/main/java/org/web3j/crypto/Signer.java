@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.math.ec.ECMultiplier;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+import org.bouncycastle.util.BigIntegers;
+
+/**
+ * Signs message hashes with the private key of an {@link ECKeyPair}.
+ *
+ * <p>A signer checks the private key once, when it is created, rather than on every signature as
+ * {@link ECKeyPair#sign(byte[])} does, and creates {@link Sign.SignatureData} straight from the
+ * recovery id found while signing, as long as the public key of the key pair matches its private
+ * key. Signatures are computed as by BouncyCastle's {@link
+ * org.bouncycastle.crypto.signers.ECDSASigner} with a deterministic (RFC 6979) nonce. The comb
+ * table that multiplies the generator point is computed once and shared by all signers.
+ *
+ * <p>Signers are thread safe, so relayers should create one per key and share it.
+ */
+public final class Signer {
+
+    private static final ECMultiplier BASE_POINT_MULTIPLIER = new FixedPointCombMultiplier();
+
+    private final ECKeyPair keyPair;
+    private final BigInteger privateKey;
+    private final BigInteger publicKey;
+
+    /**
+     * @param keyPair key pair to sign with
+     * @throws IllegalArgumentException if the private key is not in the range [1, n - 1]
+     */
+    public Signer(ECKeyPair keyPair) {
+        this.keyPair = keyPair;
+        this.privateKey = Sign.CURVE.validatePrivateScalar(keyPair.getPrivateKey());
+        this.publicKey = keyPair.getCheckedPublicKey();
+    }
+
+    public Signer(Credentials credentials) {
+        this(credentials.getEcKeyPair());
+    }
+
+    public ECKeyPair getKeyPair() {
+        return keyPair;
+    }
+
+    /**
+     * Signs a hash, same as {@link ECKeyPair#sign(byte[])}.
+     *
+     * @param messageHash the hash to sign
+     * @return canonical signature of the hash, with its recovery id
+     */
+    public ECDSASignature sign(byte[] messageHash) {
+        return sign(privateKey, publicKey, messageHash);
+    }
+
+    /**
+     * Signs a message, same as {@link Sign#signMessage(byte[], ECKeyPair, boolean)}.
+     *
+     * @param message the message, or its hash
+     * @param needToHash whether the message has to be hashed before it is signed
+     * @return signature data without EIP-155 replay protection
+     */
+    public Sign.SignatureData signMessage(byte[] message, boolean needToHash) {
+        byte[] messageHash = needToHash ? Hash.sha3(message) : message;
+        return Sign.createSignatureData(sign(messageHash), keyPair.getPublicKey(), messageHash);
+    }
+
+    /**
+     * Computes a signature, keeping hold of the nonce point so that the recovery id of the
+     * signature is known without trying to recover the public key.
+     *
+     * @param d private key, already checked to be in the range [1, n - 1]
+     * @param publicKey public key of d, or {@code null} if it is not known to match d
+     * @param messageHash the hash to sign
+     */
+    static ECDSASignature sign(BigInteger d, BigInteger publicKey, byte[] messageHash) {
+        BigInteger n = Sign.CURVE.getN();
+        BigInteger e = calculateE(n, messageHash);
+
+        // A nonce generator keeps the last nonce in its state, from which the private key can be
+        // derived, so a new one is created for every signature rather than kept around for reuse
+        HMacDSAKCalculator kCalculator = new HMacDSAKCalculator(new SHA256Digest());
+        kCalculator.init(n, d, messageHash);
+
+        while (true) {
+            BigInteger k = kCalculator.nextK();
+            ECPoint p = BASE_POINT_MULTIPLIER.multiply(Sign.CURVE.getG(), k).normalize();
+
+            BigInteger x = p.getAffineXCoord().toBigInteger();
+            BigInteger r = x.mod(n);
+            if (r.signum() == 0) {
+                continue;
+            }
+            BigInteger s = BigIntegers.modOddInverse(n, k).multiply(e.add(d.multiply(r))).mod(n);
+            if (s.signum() == 0) {
+                continue;
+            }
+
+            // The y parity of the nonce point, and whether its x coordinate exceeded the order
+            int recId = (p.getAffineYCoord().testBitZero() ? 1 : 0) | (x.equals(r) ? 0 : 2);
+            // A longer hash is truncated here but not when recovering, so its recId is not kept
+            byte[] signedHash = messageHash.length <= 32 ? messageHash.clone() : null;
+            return new ECDSASignature(r, s, recId, publicKey, signedHash).toCanonicalised();
+        }
+    }
+
+    private static BigInteger calculateE(BigInteger n, byte[] message) {
+        int log2n = n.bitLength();
+        int messageBitLength = message.length * 8;
+
+        BigInteger e = new BigInteger(1, message);
+        if (log2n < messageBitLength) {
+            e = e.shiftRight(messageBitLength - log2n);
+        }
+        return e;
+    }
+}
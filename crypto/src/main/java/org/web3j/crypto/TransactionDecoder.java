@@ -13,8 +13,10 @@
 package org.web3j.crypto;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,6 +27,7 @@ import org.web3j.rlp.RlpDecoder;
 import org.web3j.rlp.RlpList;
 import org.web3j.rlp.RlpString;
 import org.web3j.rlp.RlpType;
+import org.web3j.rlp.RlpView;
 import org.web3j.utils.Numeric;
 
 import static java.util.stream.Collectors.toList;
@@ -34,6 +37,7 @@ public class TransactionDecoder {
     private static final int UNSIGNED_EIP2930TX_RLP_LIST_SIZE = 8;
     private static final int UNSIGNED_EIP4844TX_RLP_LIST_SIZE = 11;
     private static final int UNSIGNED_EIP7702TX_RLP_LIST_SIZE = 10;
+    private static final int SIGNATURE_COMPONENT_LENGTH = 32;
 
     public static RawTransaction decode(final String hexTransaction) {
         final byte[] transaction = Numeric.hexStringToByteArray(hexTransaction);
@@ -54,24 +58,19 @@ public class TransactionDecoder {
     }
 
     private static RawTransaction decodeEIP7702Transaction(final byte[] transaction) {
-        // Strip off the type byte (0x04) before decoding the RLP list
-        final byte[] encodedTx = Arrays.copyOfRange(transaction, 1, transaction.length);
-        final RlpList rlpList = RlpDecoder.decode(encodedTx);
-        final RlpList values = (RlpList) rlpList.getValues().get(0);
-        final List<RlpType> fields = values.getValues();
-
-        final long chainId = ((RlpString) fields.get(0)).asPositiveBigInteger().longValue();
-        final BigInteger nonce = ((RlpString) fields.get(1)).asPositiveBigInteger();
-        final BigInteger maxPriorityFeePerGas = ((RlpString) fields.get(2)).asPositiveBigInteger();
-        final BigInteger maxFeePerGas = ((RlpString) fields.get(3)).asPositiveBigInteger();
-        final BigInteger gasLimit = ((RlpString) fields.get(4)).asPositiveBigInteger();
-        final String to = ((RlpString) fields.get(5)).asString();
-        final BigInteger value = ((RlpString) fields.get(6)).asPositiveBigInteger();
-        final String data = ((RlpString) fields.get(7)).asString();
-        final List<RlpType> accessListRlp = ((RlpList) fields.get(8)).getValues();
-        final List<AccessListObject> accessList = decodeAccessList(accessListRlp);
-        final List<AuthorizationTuple> authorizationList =
-                decodeAuthorizationList(((RlpList) fields.get(9)).getValues());
+        // Skip the type byte (0x04) before reading the RLP list
+        final List<RlpView> fields = readFields(transaction, 1);
+
+        final long chainId = fields.get(0).asPositiveBigInteger().longValue();
+        final BigInteger nonce = fields.get(1).asPositiveBigInteger();
+        final BigInteger maxPriorityFeePerGas = fields.get(2).asPositiveBigInteger();
+        final BigInteger maxFeePerGas = fields.get(3).asPositiveBigInteger();
+        final BigInteger gasLimit = fields.get(4).asPositiveBigInteger();
+        final String to = fields.get(5).asString();
+        final BigInteger value = fields.get(6).asPositiveBigInteger();
+        final String data = fields.get(7).asString();
+        final List<AccessListObject> accessList = decodeAccessList(fields.get(8));
+        final List<AuthorizationTuple> authorizationList = decodeAuthorizationList(fields.get(9));
         // INV: Per the EIP, authorization list should be nonempty. We don't
         // enforce that here.
 
@@ -91,19 +90,7 @@ public class TransactionDecoder {
         if (fields.size() == UNSIGNED_EIP7702TX_RLP_LIST_SIZE) {
             return rawTransaction;
         } else {
-            final int yParity =
-                    Numeric.toBigInt(((RlpString) fields.get(10)).getBytes()).intValue();
-            final byte[] rBytes =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) fields.get(11)).getBytes()), 32);
-            final byte[] sBytes =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) fields.get(12)).getBytes()), 32);
-
-            final byte[] vBytes = Sign.getVFromRecId(yParity);
-
-            final Sign.SignatureData signatureData = new Sign.SignatureData(vBytes, rBytes, sBytes);
-
+            final Sign.SignatureData signatureData = decodeSignature(fields, 10);
             return new SignedRawTransaction(rawTransaction.getTransaction(), signatureData);
         }
     }
@@ -320,24 +307,18 @@ public class TransactionDecoder {
     }
 
     private static RawTransaction decodeEIP1559Transaction(final byte[] transaction) {
-        final byte[] encodedTx = Arrays.copyOfRange(transaction, 1, transaction.length);
-        final RlpList rlpList = RlpDecoder.decode(encodedTx);
-        final RlpList values = (RlpList) rlpList.getValues().get(0);
+        final List<RlpView> fields = readFields(transaction, 1);
 
-        final long chainId =
-                ((RlpString) values.getValues().get(0)).asPositiveBigInteger().longValue();
-        final BigInteger nonce = ((RlpString) values.getValues().get(1)).asPositiveBigInteger();
-        final BigInteger maxPriorityFeePerGas =
-                ((RlpString) values.getValues().get(2)).asPositiveBigInteger();
-        final BigInteger maxFeePerGas =
-                ((RlpString) values.getValues().get(3)).asPositiveBigInteger();
-        final BigInteger gasLimit = ((RlpString) values.getValues().get(4)).asPositiveBigInteger();
-        final String to = ((RlpString) values.getValues().get(5)).asString();
+        final long chainId = fields.get(0).asPositiveBigInteger().longValue();
+        final BigInteger nonce = fields.get(1).asPositiveBigInteger();
+        final BigInteger maxPriorityFeePerGas = fields.get(2).asPositiveBigInteger();
+        final BigInteger maxFeePerGas = fields.get(3).asPositiveBigInteger();
+        final BigInteger gasLimit = fields.get(4).asPositiveBigInteger();
+        final String to = fields.get(5).asString();
 
-        final BigInteger value = ((RlpString) values.getValues().get(6)).asPositiveBigInteger();
-        final String data = ((RlpString) values.getValues().get(7)).asString();
-        List<AccessListObject> accessList =
-                decodeAccessList(((RlpList) values.getValues().get(8)).getValues());
+        final BigInteger value = fields.get(6).asPositiveBigInteger();
+        final String data = fields.get(7).asString();
+        List<AccessListObject> accessList = decodeAccessList(fields.get(8));
 
         final RawTransaction rawTransaction =
                 RawTransaction.createTransaction(
@@ -351,53 +332,32 @@ public class TransactionDecoder {
                         maxFeePerGas,
                         accessList);
 
-        if (values.getValues().size() == UNSIGNED_EIP1559TX_RLP_LIST_SIZE) {
+        if (fields.size() == UNSIGNED_EIP1559TX_RLP_LIST_SIZE) {
             return rawTransaction;
         } else {
-            final byte[] v =
-                    Sign.getVFromRecId(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(9)).getBytes())
-                                    .intValue());
-            final byte[] r =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(10)).getBytes()),
-                            32);
-            final byte[] s =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(11)).getBytes()),
-                            32);
-            final Sign.SignatureData signatureData = new Sign.SignatureData(v, r, s);
+            final Sign.SignatureData signatureData = decodeSignature(fields, 9);
             return new SignedRawTransaction(rawTransaction.getTransaction(), signatureData);
         }
     }
 
     private static RawTransaction decodeLegacyTransaction(final byte[] transaction) {
-        final RlpList rlpList = RlpDecoder.decode(transaction);
-        final RlpList values = (RlpList) rlpList.getValues().get(0);
-        final BigInteger nonce = ((RlpString) values.getValues().get(0)).asPositiveBigInteger();
-        final BigInteger gasPrice = ((RlpString) values.getValues().get(1)).asPositiveBigInteger();
-        final BigInteger gasLimit = ((RlpString) values.getValues().get(2)).asPositiveBigInteger();
-        final String to = ((RlpString) values.getValues().get(3)).asString();
-        final BigInteger value = ((RlpString) values.getValues().get(4)).asPositiveBigInteger();
-        final String data = ((RlpString) values.getValues().get(5)).asString();
-        if (values.getValues().size() == 6
-                || (values.getValues().size() == 8
-                        && ((RlpString) values.getValues().get(7)).getBytes().length == 10)
-                || (values.getValues().size() == 9
-                        && ((RlpString) values.getValues().get(8)).getBytes().length == 10)) {
+        final List<RlpView> fields = readFields(transaction, 0);
+        final BigInteger nonce = fields.get(0).asPositiveBigInteger();
+        final BigInteger gasPrice = fields.get(1).asPositiveBigInteger();
+        final BigInteger gasLimit = fields.get(2).asPositiveBigInteger();
+        final String to = fields.get(3).asString();
+        final BigInteger value = fields.get(4).asPositiveBigInteger();
+        final String data = fields.get(5).asString();
+        if (fields.size() == 6
+                || (fields.size() == 8 && fields.get(7).getPayloadLength() == 10)
+                || (fields.size() == 9 && fields.get(8).getPayloadLength() == 10)) {
             // the 8th or 9nth element is the hex
             // representation of "restricted" for private transactions
             return RawTransaction.createTransaction(nonce, gasPrice, gasLimit, to, value, data);
         } else {
-            final byte[] v = ((RlpString) values.getValues().get(6)).getBytes();
-            final byte[] r =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(7)).getBytes()),
-                            32);
-            final byte[] s =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(8)).getBytes()),
-                            32);
+            final byte[] v = fields.get(6).getBytes();
+            final byte[] r = toBytesPadded(fields.get(7));
+            final byte[] s = toBytesPadded(fields.get(8));
             final Sign.SignatureData signatureData = new Sign.SignatureData(v, r, s);
             return new SignedRawTransaction(
                     nonce, gasPrice, gasLimit, to, value, data, signatureData);
@@ -405,45 +365,65 @@ public class TransactionDecoder {
     }
 
     private static RawTransaction decodeEIP2930Transaction(final byte[] transaction) {
-        final byte[] encodedTx = Arrays.copyOfRange(transaction, 1, transaction.length);
-        final RlpList rlpList = RlpDecoder.decode(encodedTx);
-        final RlpList values = (RlpList) rlpList.getValues().get(0);
-
-        final long chainId =
-                ((RlpString) values.getValues().get(0)).asPositiveBigInteger().longValue();
-        final BigInteger nonce = ((RlpString) values.getValues().get(1)).asPositiveBigInteger();
-        final BigInteger gasPrice = ((RlpString) values.getValues().get(2)).asPositiveBigInteger();
-        final BigInteger gasLimit = ((RlpString) values.getValues().get(3)).asPositiveBigInteger();
-        final String to = ((RlpString) values.getValues().get(4)).asString();
-        final BigInteger value = ((RlpString) values.getValues().get(5)).asPositiveBigInteger();
-        final String data = ((RlpString) values.getValues().get(6)).asString();
-        List<AccessListObject> accessList =
-                decodeAccessList(((RlpList) values.getValues().get(7)).getValues());
+        final List<RlpView> fields = readFields(transaction, 1);
+
+        final long chainId = fields.get(0).asPositiveBigInteger().longValue();
+        final BigInteger nonce = fields.get(1).asPositiveBigInteger();
+        final BigInteger gasPrice = fields.get(2).asPositiveBigInteger();
+        final BigInteger gasLimit = fields.get(3).asPositiveBigInteger();
+        final String to = fields.get(4).asString();
+        final BigInteger value = fields.get(5).asPositiveBigInteger();
+        final String data = fields.get(6).asString();
+        List<AccessListObject> accessList = decodeAccessList(fields.get(7));
 
         final RawTransaction rawTransaction =
                 RawTransaction.createTransaction(
                         chainId, nonce, gasPrice, gasLimit, to, value, data, accessList);
 
-        if (values.getValues().size() == UNSIGNED_EIP2930TX_RLP_LIST_SIZE) {
+        if (fields.size() == UNSIGNED_EIP2930TX_RLP_LIST_SIZE) {
             return rawTransaction;
         } else {
-            final byte[] v =
-                    Sign.getVFromRecId(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(8)).getBytes())
-                                    .intValue());
-            final byte[] r =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(9)).getBytes()),
-                            32);
-            final byte[] s =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(10)).getBytes()),
-                            32);
-            final Sign.SignatureData signatureData = new Sign.SignatureData(v, r, s);
+            final Sign.SignatureData signatureData = decodeSignature(fields, 8);
             return new SignedRawTransaction(rawTransaction.getTransaction(), signatureData);
         }
     }
 
+    /**
+     * Reads the fields of the RLP list that starts at {@code offset}, without copying them out of
+     * the transaction.
+     */
+    private static List<RlpView> readFields(final byte[] transaction, final int offset) {
+        final List<RlpView> fields = new ArrayList<>(16);
+        for (RlpView field : RlpView.of(transaction, offset, transaction.length - offset)) {
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    /** Decodes the y parity, r and s fields that follow the payload of a typed transaction. */
+    private static Sign.SignatureData decodeSignature(
+            final List<RlpView> fields, final int yParityIndex) {
+        final byte[] v = Sign.getVFromRecId((int) fields.get(yParityIndex).asLong());
+        final byte[] r = toBytesPadded(fields.get(yParityIndex + 1));
+        final byte[] s = toBytesPadded(fields.get(yParityIndex + 2));
+        return new Sign.SignatureData(v, r, s);
+    }
+
+    private static byte[] toBytesPadded(final RlpView field) {
+        final int length = field.getPayloadLength();
+        if (length > SIGNATURE_COMPONENT_LENGTH) {
+            return Numeric.toBytesPadded(field.asPositiveBigInteger(), SIGNATURE_COMPONENT_LENGTH);
+        }
+        final byte[] bytes = new byte[SIGNATURE_COMPONENT_LENGTH];
+        System.arraycopy(
+                field.getData(),
+                field.getPayloadOffset(),
+                bytes,
+                SIGNATURE_COMPONENT_LENGTH - length,
+                length);
+        return bytes;
+    }
+
     private static List<AccessListObject> decodeAccessList(List<RlpType> rlp) {
         return rlp.stream()
                 .map(rawEntry -> ((RlpList) rawEntry).getValues())
@@ -459,6 +439,20 @@ public class TransactionDecoder {
                 .collect(toList());
     }
 
+    private static List<AccessListObject> decodeAccessList(final RlpView rlp) {
+        final List<AccessListObject> accessList = new ArrayList<>();
+        for (RlpView entry : rlp) {
+            final Iterator<RlpView> values = entry.iterator();
+            final String address = values.next().asString();
+            final List<String> storageKeys = new ArrayList<>();
+            for (RlpView storageKey : values.next()) {
+                storageKeys.add(storageKey.asString());
+            }
+            accessList.add(new AccessListObject(address, storageKeys));
+        }
+        return accessList;
+    }
+
     public static List<Bytes> decodeVersionedHashes(List<RlpType> rlp) {
         return rlp.stream()
                 .map(
@@ -474,28 +468,22 @@ public class TransactionDecoder {
                 .collect(Collectors.toList());
     }
 
-    private static List<AuthorizationTuple> decodeAuthorizationList(final List<RlpType> rlpList) {
-        return rlpList.stream()
-                .map(item -> (RlpList) item) // each authorization tuple is an RlpList
-                .map(
-                        tuple -> {
-                            final List<RlpType> elements = tuple.getValues();
-                            final BigInteger authChainId =
-                                    ((RlpString) elements.get(0)).asPositiveBigInteger();
-                            final String address = ((RlpString) elements.get(1)).asString();
-                            final BigInteger authNonce =
-                                    ((RlpString) elements.get(2)).asPositiveBigInteger();
-                            final BigInteger yParity =
-                                    ((RlpString) elements.get(3)).asPositiveBigInteger();
-                            final BigInteger rValue =
-                                    ((RlpString) elements.get(4)).asPositiveBigInteger();
-                            final BigInteger sValue =
-                                    ((RlpString) elements.get(5)).asPositiveBigInteger();
-
-                            // Convert or store them as desired; for example:
-                            return new AuthorizationTuple(
-                                    authChainId, address, authNonce, yParity, rValue, sValue);
-                        })
-                .collect(Collectors.toList());
+    private static List<AuthorizationTuple> decodeAuthorizationList(final RlpView rlpList) {
+        final List<AuthorizationTuple> authorizationList = new ArrayList<>();
+        // each authorization tuple is an RLP list
+        for (RlpView tuple : rlpList) {
+            final Iterator<RlpView> elements = tuple.iterator();
+            final BigInteger authChainId = elements.next().asPositiveBigInteger();
+            final String address = elements.next().asString();
+            final BigInteger authNonce = elements.next().asPositiveBigInteger();
+            final BigInteger yParity = elements.next().asPositiveBigInteger();
+            final BigInteger rValue = elements.next().asPositiveBigInteger();
+            final BigInteger sValue = elements.next().asPositiveBigInteger();
+
+            authorizationList.add(
+                    new AuthorizationTuple(
+                            authChainId, address, authNonce, yParity, rValue, sValue));
+        }
+        return authorizationList;
     }
 }
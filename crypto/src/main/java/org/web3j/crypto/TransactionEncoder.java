@@ -38,14 +38,23 @@ public class TransactionEncoder {
      * @return signature
      */
     public static byte[] signMessage(RawTransaction rawTransaction, Credentials credentials) {
+        return signMessage(rawTransaction, new Signer(credentials));
+    }
+
+    /**
+     * Same as {@link #signMessage(RawTransaction, Credentials)}, with a signer that can be reused
+     * across transactions.
+     *
+     * @return signature
+     */
+    public static byte[] signMessage(RawTransaction rawTransaction, Signer signer) {
         byte[] encodedTransaction;
         if (rawTransaction.getTransaction().getType().isEip4844()) {
             encodedTransaction = encode4844(rawTransaction);
         } else {
             encodedTransaction = encode(rawTransaction);
         }
-        Sign.SignatureData signatureData =
-                Sign.signMessage(encodedTransaction, credentials.getEcKeyPair());
+        Sign.SignatureData signatureData = signer.signMessage(encodedTransaction, true);
 
         return encode(rawTransaction, signatureData);
     }
@@ -57,15 +66,24 @@ public class TransactionEncoder {
      */
     public static byte[] signMessage(
             RawTransaction rawTransaction, long chainId, Credentials credentials) {
+        return signMessage(rawTransaction, chainId, new Signer(credentials));
+    }
+
+    /**
+     * Same as {@link #signMessage(RawTransaction, long, Credentials)}, with a signer that can be
+     * reused across transactions.
+     *
+     * @return signature
+     */
+    public static byte[] signMessage(RawTransaction rawTransaction, long chainId, Signer signer) {
 
         // Eip1559: Tx has ChainId inside
         if (rawTransaction.getType().isEip1559()) {
-            return signMessage(rawTransaction, credentials);
+            return signMessage(rawTransaction, signer);
         }
 
         byte[] encodedTransaction = encode(rawTransaction, chainId);
-        Sign.SignatureData signatureData =
-                Sign.signMessage(encodedTransaction, credentials.getEcKeyPair());
+        Sign.SignatureData signatureData = signer.signMessage(encodedTransaction, true);
 
         Sign.SignatureData eip155SignatureData = createEip155SignatureData(signatureData, chainId);
         return encode(rawTransaction, eip155SignatureData);
@@ -120,30 +138,29 @@ public class TransactionEncoder {
     public static byte[] encode(RawTransaction rawTransaction, Sign.SignatureData signatureData) {
         List<RlpType> values = asRlpValues(rawTransaction, signatureData);
         RlpList rlpList = new RlpList(values);
-        byte[] encoded = RlpEncoder.encode(rlpList);
 
         if (rawTransaction.getType().isEip1559()
                 || rawTransaction.getType().isEip2930()
                 || rawTransaction.getType().isEip4844()
                 || rawTransaction.getType().isEip7702()) {
-            return ByteBuffer.allocate(encoded.length + 1)
-                    .put(rawTransaction.getType().getRlpType())
-                    .put(encoded)
-                    .array();
+            return encodeTyped(rawTransaction.getType().getRlpType(), rlpList);
         }
-        return encoded;
+        return RlpEncoder.encode(rlpList);
     }
 
     public static byte[] encode4844(RawTransaction rawTransaction) {
         List<RlpType> values = asRlpValues(rawTransaction, null);
         RlpList rlpList = new RlpList(values);
 
-        byte[] encoded = RlpEncoder.encode(rlpList);
+        return encodeTyped(rawTransaction.getType().getRlpType(), rlpList);
+    }
 
-        return ByteBuffer.allocate(encoded.length + 1)
-                .put(rawTransaction.getType().getRlpType())
-                .put(encoded)
-                .array();
+    /** Encodes the RLP list straight after the transaction type byte, in a single array. */
+    private static byte[] encodeTyped(byte type, RlpList rlpList) {
+        byte[] encoded = new byte[RlpEncoder.encodedLength(rlpList) + 1];
+        encoded[0] = type;
+        RlpEncoder.encode(rlpList, encoded, 1);
+        return encoded;
     }
 
     private static byte[] longToBytes(long x) {
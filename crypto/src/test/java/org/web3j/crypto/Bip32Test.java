@@ -13,11 +13,13 @@
 package org.web3j.crypto;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import org.web3j.utils.Numeric;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -159,6 +161,57 @@ public class Bip32Test {
         assertNotNull(bip44KeypairChildExplicit);
     }
 
+    @Test
+    public void testDeriveAddresses() {
+        String mnemonic =
+                "yard impulse luxury drive today throw farm pepper survey wreck glass federal";
+        byte[] seed = MnemonicUtils.generateSeed(mnemonic, null);
+        Bip32ECKeyPair masterKeypair = Bip32ECKeyPair.generateKeyPair(seed);
+        final int[] path = {44 | HARDENED_BIT, 60 | HARDENED_BIT, 0 | HARDENED_BIT, 0};
+        Bip32ECKeyPair accountKeypair = Bip32ECKeyPair.deriveKeyPair(masterKeypair, path);
+        Bip32ECKeyPair publicAccountKeypair =
+                new Bip32ECKeyPair(
+                        null,
+                        accountKeypair.getPublicKey(),
+                        0,
+                        accountKeypair.getChainCode(),
+                        null);
+
+        // Batches start at from, so this spans a full batch and part of the next
+        int from = 250;
+        int to = from + 300;
+        byte[] addresses = Bip32ECKeyPair.deriveAddresses(accountKeypair, from, to);
+        assertEquals((to - from) * Bip32ECKeyPair.ADDRESS_LENGTH, addresses.length);
+        for (int i = from; i < to; i++) {
+            int offset = (i - from) * Bip32ECKeyPair.ADDRESS_LENGTH;
+            Bip32ECKeyPair child = Bip32ECKeyPair.deriveKeyPair(accountKeypair, new int[] {i});
+            assertEquals(
+                    Keys.getAddress(child),
+                    Numeric.toHexStringNoPrefix(
+                            Arrays.copyOfRange(
+                                    addresses, offset, offset + Bip32ECKeyPair.ADDRESS_LENGTH)));
+        }
+        assertArrayEquals(
+                addresses, Bip32ECKeyPair.deriveAddresses(publicAccountKeypair, from, to));
+        assertEquals(0, Bip32ECKeyPair.deriveAddresses(accountKeypair, 5, 5).length);
+
+        byte[] lastAddresses =
+                Bip32ECKeyPair.deriveAddresses(
+                        accountKeypair, Integer.MAX_VALUE - 2, Integer.MAX_VALUE);
+        assertEquals(
+                Keys.getAddress(
+                        Bip32ECKeyPair.deriveKeyPair(
+                                accountKeypair, new int[] {Integer.MAX_VALUE - 1})),
+                Numeric.toHexStringNoPrefix(
+                        Arrays.copyOfRange(
+                                lastAddresses,
+                                Bip32ECKeyPair.ADDRESS_LENGTH,
+                                2 * Bip32ECKeyPair.ADDRESS_LENGTH)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> Bip32ECKeyPair.deriveAddresses(accountKeypair, 2, 1));
+    }
+
     @Test
     public void testDeriveHardenedChildKeyFromPublicKeyOnlyThrowsException() {
         String mnemonic =
@@ -19,6 +19,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.bouncycastle.math.ec.ECPoint;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -28,6 +32,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.web3j.utils.Numeric;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.web3j.crypto.Sign.CHAIN_ID_INC;
 import static org.web3j.crypto.Sign.LOWER_REAL_V;
@@ -55,6 +60,112 @@ public class SignTest {
         assertEquals(signatureData, (expected));
     }
 
+    @Test
+    public void testSignMatchesBouncyCastleAndTrialRecovery() {
+        ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+        for (int i = 1; i <= 32; i++) {
+            ECKeyPair keyPair = ECKeyPair.create(Hash.sha3(BigInteger.valueOf(i).toByteArray()));
+            byte[] messageHash = Hash.sha3(Numeric.toBytesPadded(BigInteger.valueOf(i), 32));
+
+            signer.init(true, new ECPrivateKeyParameters(keyPair.getPrivateKey(), Sign.CURVE));
+            BigInteger[] expected = signer.generateSignature(messageHash);
+            ECDSASignature signature = keyPair.sign(messageHash);
+            ECDSASignature canonical =
+                    new ECDSASignature(expected[0], expected[1]).toCanonicalised();
+            assertEquals(canonical.r, signature.r);
+            assertEquals(canonical.s, signature.s);
+
+            int recId = -1;
+            for (int j = 0; j < 4 && recId < 0; j++) {
+                if (keyPair.getPublicKey()
+                        .equals(Sign.recoverFromSignature(j, signature, messageHash))) {
+                    recId = j;
+                }
+            }
+            assertEquals(recId, signature.getRecId());
+            assertEquals(
+                    Sign.createSignatureData(signature, keyPair.getPublicKey(), messageHash),
+                    Sign.createSignatureData(canonical, keyPair.getPublicKey(), messageHash));
+        }
+    }
+
+    @Test
+    public void testCreateSignatureDataWithOtherKey() {
+        byte[] messageHash = Hash.sha3(TEST_MESSAGE);
+        ECDSASignature signature = SampleKeys.KEY_PAIR.sign(messageHash);
+        ECDSASignature withoutRecId = new ECDSASignature(signature.r, signature.s);
+        BigInteger otherKey = Sign.publicKeyFromPrivate(BigInteger.TEN);
+
+        assertThrows(
+                RuntimeException.class,
+                () -> Sign.createSignatureData(withoutRecId, otherKey, messageHash));
+    }
+
+    @Test
+    public void testCreateSignatureDataIgnoresRecIdOfOtherKeyOrHash() {
+        byte[] messageHash = Hash.sha3(TEST_MESSAGE);
+        ECDSASignature signature = SampleKeys.KEY_PAIR.sign(messageHash);
+        BigInteger otherKey = Sign.publicKeyFromPrivate(BigInteger.TEN);
+
+        assertThrows(
+                RuntimeException.class,
+                () -> Sign.createSignatureData(signature, otherKey, messageHash));
+        assertThrows(
+                RuntimeException.class,
+                () ->
+                        Sign.createSignatureData(
+                                signature,
+                                SampleKeys.KEY_PAIR.getPublicKey(),
+                                Hash.sha3(messageHash)));
+    }
+
+    @Test
+    public void testRecIdIsNotTrustedForMismatchedKeyPair() {
+        ECKeyPair mismatched =
+                new ECKeyPair(
+                        SampleKeys.KEY_PAIR.getPrivateKey(),
+                        Sign.publicKeyFromPrivate(BigInteger.TEN));
+
+        assertThrows(RuntimeException.class, () -> Sign.signMessage(TEST_MESSAGE, mismatched));
+        assertThrows(
+                RuntimeException.class,
+                () -> new Signer(mismatched).signMessage(TEST_MESSAGE, true));
+    }
+
+    @Test
+    public void testSignMessageLongerThanHashIsNotRecoverable() {
+        byte[] message = new byte[40];
+        message[39] = 1;
+
+        assertThrows(
+                RuntimeException.class,
+                () -> Sign.signMessage(message, SampleKeys.KEY_PAIR, false));
+    }
+
+    @Test
+    public void testRecoverBatch() {
+        List<byte[]> messageHashes = new ArrayList<>();
+        List<Sign.SignatureData> signatures = new ArrayList<>();
+        List<String> addresses = new ArrayList<>();
+        for (int i = 1; i <= 16; i++) {
+            ECKeyPair keyPair = ECKeyPair.create(BigInteger.valueOf(i * 7919L));
+            byte[] messageHash = Hash.sha3(BigInteger.valueOf(i).toByteArray());
+            messageHashes.add(messageHash);
+            signatures.add(Sign.signMessage(messageHash, keyPair, false));
+            addresses.add(Keys.getAddress(keyPair));
+        }
+        messageHashes.add(Hash.sha3(TEST_MESSAGE));
+        signatures.add(new Sign.SignatureData((byte) 27, new byte[32], new byte[32]));
+
+        List<byte[]> recovered = Sign.recoverBatch(messageHashes, signatures);
+
+        assertEquals(messageHashes.size(), recovered.size());
+        for (int i = 0; i < addresses.size(); i++) {
+            assertEquals(addresses.get(i), Numeric.toHexStringNoPrefix(recovered.get(i)));
+        }
+        assertNull(recovered.get(addresses.size()));
+    }
+
     @Test
     public void testSignedMessageToKey() throws SignatureException {
         Sign.SignatureData signatureData =
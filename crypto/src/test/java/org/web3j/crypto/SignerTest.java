@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SignerTest {
+
+    @Test
+    public void testSignMatchesKeyPair() {
+        Signer signer = new Signer(SampleKeys.KEY_PAIR);
+        for (int i = 0; i < 8; i++) {
+            byte[] message = BigInteger.valueOf(i).toByteArray();
+
+            assertEquals(
+                    Sign.signMessage(message, SampleKeys.KEY_PAIR),
+                    signer.signMessage(message, true));
+            assertEquals(
+                    Sign.signMessage(Hash.sha3(message), SampleKeys.KEY_PAIR, false),
+                    signer.signMessage(Hash.sha3(message), false));
+        }
+    }
+
+    @Test
+    public void testSignTransaction() {
+        RawTransaction rawTransaction =
+                RawTransaction.createEtherTransaction(
+                        BigInteger.ONE,
+                        BigInteger.TEN,
+                        BigInteger.valueOf(21000),
+                        "0xadd5355",
+                        BigInteger.valueOf(Long.MAX_VALUE));
+        Signer signer = new Signer(SampleKeys.CREDENTIALS);
+
+        assertArrayEquals(
+                TransactionEncoder.signMessage(rawTransaction, 5L, SampleKeys.CREDENTIALS),
+                TransactionEncoder.signMessage(rawTransaction, 5L, signer));
+    }
+
+    @Test
+    public void testRejectsInvalidPrivateKey() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Signer(new ECKeyPair(BigInteger.ZERO, BigInteger.ONE)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Signer(new ECKeyPair(Sign.CURVE.getN(), BigInteger.ONE)));
+    }
+}
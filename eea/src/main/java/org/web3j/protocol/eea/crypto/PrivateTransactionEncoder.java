@@ -63,15 +63,14 @@ public class PrivateTransactionEncoder {
         final List<RlpType> values =
                 privateTransaction.getPrivateTransaction().asRlpValues(signatureData);
         final RlpList rlpList = new RlpList(values);
-        byte[] encoded = RlpEncoder.encode(rlpList);
 
         if (privateTransaction.getType().isEip1559()) {
-            return ByteBuffer.allocate(encoded.length + 1)
-                    .put(privateTransaction.getType().getRlpType())
-                    .put(encoded)
-                    .array();
+            byte[] encoded = new byte[RlpEncoder.encodedLength(rlpList) + 1];
+            encoded[0] = privateTransaction.getType().getRlpType();
+            RlpEncoder.encode(rlpList, encoded, 1);
+            return encoded;
         }
-        return encoded;
+        return RlpEncoder.encode(rlpList);
     }
 
     private static byte[] longToBytes(long x) {
@@ -184,7 +184,7 @@ public class RlpDecoder {
         }
     }
 
-    private static int calcLength(int lengthOfLength, byte[] data, int pos) {
+    static int calcLength(int lengthOfLength, byte[] data, int pos) {
         byte pow = (byte) (lengthOfLength - 1);
         long length = 0;
         for (int i = 1; i <= lengthOfLength; ++i) {
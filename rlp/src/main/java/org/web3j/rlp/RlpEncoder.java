@@ -12,6 +12,8 @@
  */
 package org.web3j.rlp;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 
@@ -27,77 +29,162 @@ import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
 public class RlpEncoder {
 
     public static byte[] encode(RlpType value) {
+        ListLengths lengths = new ListLengths();
+        byte[] result = new byte[lengths.measure(value)];
+        encode(value, result, 0, lengths);
+        return result;
+    }
+
+    /**
+     * Encodes the value into the destination array. The length of the encoding is known up front
+     * from {@link #encodedLength(RlpType)}, so a caller can encode into an exactly sized array,
+     * e.g. after a transaction type prefix.
+     *
+     * @param value value to encode
+     * @param destination array to write to
+     * @param offset position in destination to start writing at
+     * @return the position in destination after the encoded value
+     * @throws ArrayIndexOutOfBoundsException if the encoding does not fit in destination
+     */
+    public static int encode(RlpType value, byte[] destination, int offset) {
+        ListLengths lengths = new ListLengths();
+        lengths.measure(value);
+        return encode(value, destination, offset, lengths);
+    }
+
+    private static int encode(RlpType value, byte[] destination, int offset, ListLengths lengths) {
         if (value instanceof RlpString) {
-            return encodeString((RlpString) value);
+            byte[] bytes = ((RlpString) value).getBytes();
+            if (isSingleByte(bytes)) {
+                destination[offset] = bytes[0];
+                return offset + 1;
+            }
+            offset = encodeHeader(bytes.length, OFFSET_SHORT_STRING, destination, offset);
+            System.arraycopy(bytes, 0, destination, offset, bytes.length);
+            return offset + bytes.length;
         } else {
-            return encodeList((RlpList) value);
+            List<RlpType> values = ((RlpList) value).getValues();
+            offset = encodeHeader(lengths.next(), OFFSET_SHORT_LIST, destination, offset);
+            for (RlpType entry : values) {
+                offset = encode(entry, destination, offset, lengths);
+            }
+            return offset;
         }
     }
 
-    private static byte[] encode(byte[] bytesValue, int offset) {
-        if (bytesValue.length == 1
-                && offset == OFFSET_SHORT_STRING
-                && bytesValue[0] >= (byte) 0x00
-                && bytesValue[0] <= (byte) 0x7f) {
-            return bytesValue;
-        } else if (bytesValue.length <= 55) {
-            byte[] result = new byte[bytesValue.length + 1];
-            result[0] = (byte) (offset + bytesValue.length);
-            System.arraycopy(bytesValue, 0, result, 1, bytesValue.length);
-            return result;
+    /**
+     * Encodes the value into the destination buffer, starting at its current position and advancing
+     * the position past the encoded value.
+     *
+     * @param value value to encode
+     * @param destination buffer to write to
+     * @throws java.nio.BufferOverflowException if the encoding does not fit in the remaining bytes
+     *     of destination
+     */
+    public static void encode(RlpType value, ByteBuffer destination) {
+        ListLengths lengths = new ListLengths();
+        int length = lengths.measure(value);
+        if (destination.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (destination.hasArray()) {
+            int position = destination.position();
+            encode(value, destination.array(), destination.arrayOffset() + position, lengths);
+            destination.position(position + length);
         } else {
-            byte[] encodedStringLength = toMinimalByteArray(bytesValue.length);
-            byte[] result = new byte[bytesValue.length + encodedStringLength.length + 1];
-
-            result[0] = (byte) ((offset + 0x37) + encodedStringLength.length);
-            System.arraycopy(encodedStringLength, 0, result, 1, encodedStringLength.length);
-            System.arraycopy(
-                    bytesValue, 0, result, encodedStringLength.length + 1, bytesValue.length);
-            return result;
+            byte[] encoded = new byte[length];
+            encode(value, encoded, 0, lengths);
+            destination.put(encoded);
         }
     }
 
-    static byte[] encodeString(RlpString value) {
-        return encode(value.getBytes(), OFFSET_SHORT_STRING);
+    /**
+     * Returns the number of bytes of the encoding of the value, without encoding it.
+     *
+     * @param value value to measure
+     * @return length of the encoded value
+     */
+    public static int encodedLength(RlpType value) {
+        if (value instanceof RlpString) {
+            byte[] bytes = ((RlpString) value).getBytes();
+            if (isSingleByte(bytes)) {
+                return 1;
+            }
+            return headerLength(bytes.length) + bytes.length;
+        } else {
+            int payloadLength = payloadLength(((RlpList) value).getValues());
+            return headerLength(payloadLength) + payloadLength;
+        }
     }
 
-    private static byte[] toMinimalByteArray(int value) {
-        byte[] encoded = toByteArray(value);
+    private static boolean isSingleByte(byte[] bytes) {
+        return bytes.length == 1 && bytes[0] >= (byte) 0x00 && bytes[0] <= (byte) 0x7f;
+    }
 
-        for (int i = 0; i < encoded.length; i++) {
-            if (encoded[i] != 0) {
-                return Arrays.copyOfRange(encoded, i, encoded.length);
-            }
+    private static int payloadLength(List<RlpType> values) {
+        int length = 0;
+        for (RlpType entry : values) {
+            length += encodedLength(entry);
         }
-
-        return new byte[] {};
+        return length;
     }
 
-    private static byte[] toByteArray(int value) {
-        return new byte[] {
-            (byte) ((value >> 24) & 0xff),
-            (byte) ((value >> 16) & 0xff),
-            (byte) ((value >> 8) & 0xff),
-            (byte) (value & 0xff)
-        };
+    private static int headerLength(int length) {
+        if (length <= 55) {
+            return 1;
+        } else {
+            return 1 + minimalByteLength(length);
+        }
     }
 
-    static byte[] encodeList(RlpList value) {
-        List<RlpType> values = value.getValues();
-        if (values.isEmpty()) {
-            return encode(new byte[] {}, OFFSET_SHORT_LIST);
+    private static int encodeHeader(int length, int offset, byte[] destination, int position) {
+        if (length <= 55) {
+            destination[position] = (byte) (offset + length);
+            return position + 1;
         } else {
-            byte[] result = new byte[0];
-            for (RlpType entry : values) {
-                result = concat(result, encode(entry));
+            int lengthOfLength = minimalByteLength(length);
+            destination[position++] = (byte) ((offset + 0x37) + lengthOfLength);
+            for (int i = lengthOfLength - 1; i >= 0; i--) {
+                destination[position++] = (byte) (length >>> (i * 8));
             }
-            return encode(result, OFFSET_SHORT_LIST);
+            return position;
         }
     }
 
-    private static byte[] concat(byte[] b1, byte[] b2) {
-        byte[] result = Arrays.copyOf(b1, b1.length + b2.length);
-        System.arraycopy(b2, 0, result, b1.length, b2.length);
-        return result;
+    private static int minimalByteLength(int value) {
+        return (Integer.SIZE - Integer.numberOfLeadingZeros(value) + 7) / 8;
+    }
+
+    /**
+     * Payload lengths of the lists of a value in pre-order, so that each list is measured once
+     * rather than again at every level of nesting while encoding.
+     */
+    private static final class ListLengths {
+
+        private int[] lengths = new int[8];
+        private int size;
+        private int next;
+
+        /** Records the payload length of every list in the value and returns its encoded length. */
+        int measure(RlpType value) {
+            if (value instanceof RlpString) {
+                return encodedLength(value);
+            }
+            int index = size++;
+            if (index == lengths.length) {
+                lengths = Arrays.copyOf(lengths, index * 2);
+            }
+            int payloadLength = 0;
+            for (RlpType entry : ((RlpList) value).getValues()) {
+                payloadLength += measure(entry);
+            }
+            lengths[index] = payloadLength;
+            return headerLength(payloadLength) + payloadLength;
+        }
+
+        /** Returns the payload length of the next list in pre-order. */
+        int next() {
+            return lengths[next++];
+        }
     }
 }
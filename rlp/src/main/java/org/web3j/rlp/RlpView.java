@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.web3j.utils.Numeric;
+
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_STRING;
+import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
+
+/**
+ * View of a single RLP encoded item, read in place from the array it was encoded in.
+ *
+ * <p>Unlike {@link RlpDecoder#decode(byte[])}, which copies every string into a new {@link
+ * RlpString} and builds the whole {@link RlpList} tree up front, a view only parses the header of
+ * its item. The payload of a string is exposed as an (offset, length) slice of the encoded array,
+ * and the items of a list are parsed as they are visited.
+ *
+ * <p>Views do not copy the encoded array, so it must not be modified while they are in use.
+ */
+public final class RlpView implements Iterable<RlpView> {
+
+    private final byte[] data;
+    private final int offset;
+    private final int payloadOffset;
+    private final int payloadLength;
+    private final boolean list;
+
+    private RlpView(byte[] data, int offset, int payloadOffset, int payloadLength, boolean list) {
+        this.data = data;
+        this.offset = offset;
+        this.payloadOffset = payloadOffset;
+        this.payloadLength = payloadLength;
+        this.list = list;
+    }
+
+    /**
+     * Returns a view of the first item of an RLP encoded array.
+     *
+     * @param rlpEncoded RLP encoded byte-array
+     * @return view of the first item
+     */
+    public static RlpView of(byte[] rlpEncoded) {
+        return of(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Returns a view of the item starting at {@code offset}.
+     *
+     * @param rlpEncoded array holding the RLP encoded item
+     * @param offset start of the item in rlpEncoded
+     * @param length number of bytes the item may span
+     * @return view of the item
+     */
+    public static RlpView of(byte[] rlpEncoded, int offset, int length) {
+        if (offset < 0 || length < 0 || length > rlpEncoded.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length + ") out of bounds");
+        }
+        return read(rlpEncoded, offset, offset + length);
+    }
+
+    private static RlpView read(byte[] data, int position, int end) {
+        if (position >= end) {
+            throw new RuntimeException("RLP length mismatch");
+        }
+
+        int prefix = data[position] & 0xff;
+        int headerLength;
+        int length;
+        boolean list;
+        if (prefix < OFFSET_SHORT_STRING) {
+            return new RlpView(data, position, position, 1, false);
+        } else if (prefix <= OFFSET_LONG_STRING) {
+            headerLength = 1;
+            length = prefix - OFFSET_SHORT_STRING;
+            list = false;
+        } else if (prefix < OFFSET_SHORT_LIST) {
+            headerLength = 1 + prefix - OFFSET_LONG_STRING;
+            length = readLength(data, position, headerLength, end);
+            list = false;
+        } else if (prefix <= OFFSET_LONG_LIST) {
+            headerLength = 1;
+            length = prefix - OFFSET_SHORT_LIST;
+            list = true;
+        } else {
+            headerLength = 1 + prefix - OFFSET_LONG_LIST;
+            length = readLength(data, position, headerLength, end);
+            list = true;
+        }
+
+        if (length > end - position - headerLength) {
+            throw new RuntimeException("RLP length mismatch");
+        }
+        return new RlpView(data, position, position + headerLength, length, list);
+    }
+
+    private static int readLength(byte[] data, int position, int headerLength, int end) {
+        if (headerLength > end - position) {
+            throw new RuntimeException("RLP length mismatch");
+        }
+        return RlpDecoder.calcLength(headerLength - 1, data, position);
+    }
+
+    public boolean isList() {
+        return list;
+    }
+
+    /** Returns the array the item is read from. It is shared, not copied. */
+    public byte[] getData() {
+        return data;
+    }
+
+    /** Returns the position of the item, including its header, in {@link #getData()}. */
+    public int getOffset() {
+        return offset;
+    }
+
+    /** Returns the number of bytes of the item, including its header. */
+    public int getEncodedLength() {
+        return payloadOffset - offset + payloadLength;
+    }
+
+    /** Returns the position of the string bytes, or of the first list item, in the data. */
+    public int getPayloadOffset() {
+        return payloadOffset;
+    }
+
+    /** Returns the number of string bytes, or the combined length of the encoded list items. */
+    public int getPayloadLength() {
+        return payloadLength;
+    }
+
+    /** Returns a read-only buffer over the payload, sharing the encoded array. */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(data, payloadOffset, payloadLength).slice().asReadOnlyBuffer();
+    }
+
+    /** Returns a copy of the payload. */
+    public byte[] getBytes() {
+        return Arrays.copyOfRange(data, payloadOffset, payloadOffset + payloadLength);
+    }
+
+    /** Same as {@link RlpString#asPositiveBigInteger()}. */
+    public BigInteger asPositiveBigInteger() {
+        if (payloadLength == 0) {
+            return BigInteger.ZERO;
+        }
+        return Numeric.toBigInt(data, payloadOffset, payloadLength);
+    }
+
+    /**
+     * Returns the payload read as an unsigned big endian integer.
+     *
+     * @return value of the payload
+     * @throws ArithmeticException if the value does not fit in a long
+     */
+    public long asLong() {
+        long value = 0;
+        for (int i = payloadOffset; i < payloadOffset + payloadLength; i++) {
+            if ((value >>> (Long.SIZE - Byte.SIZE - 1)) != 0) {
+                throw new ArithmeticException("RLP value does not fit in a long");
+            }
+            value = (value << Byte.SIZE) | (data[i] & 0xff);
+        }
+        return value;
+    }
+
+    /** Same as {@link RlpString#asString()}. */
+    public String asString() {
+        return Numeric.toHexString(data, payloadOffset, payloadLength, true);
+    }
+
+    /**
+     * Returns the number of items of a list. The items are counted by walking over their headers,
+     * so callers visiting every item should iterate over the view instead.
+     */
+    public int size() {
+        int size = 0;
+        for (Iterator<RlpView> items = iterator(); items.hasNext(); items.next()) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the item of a list at {@code index}, skipping over the items before it.
+     *
+     * @param index position of the item in the list
+     * @return view of the item
+     * @throws IndexOutOfBoundsException if the list has no item at index
+     */
+    public RlpView get(int index) {
+        Iterator<RlpView> items = iterator();
+        for (int i = 0; items.hasNext(); i++) {
+            RlpView item = items.next();
+            if (i == index) {
+                return item;
+            }
+        }
+        throw new IndexOutOfBoundsException("No RLP item at " + index);
+    }
+
+    /** Returns an iterator over the items of a list. */
+    @Override
+    public Iterator<RlpView> iterator() {
+        if (!list) {
+            throw new IllegalStateException("RLP item is not a list");
+        }
+        return new Iterator<RlpView>() {
+            private final int end = payloadOffset + payloadLength;
+            private int position = payloadOffset;
+
+            @Override
+            public boolean hasNext() {
+                return position < end;
+            }
+
+            @Override
+            public RlpView next() {
+                if (position >= end) {
+                    throw new NoSuchElementException();
+                }
+                RlpView item = read(data, position, end);
+                position += item.getEncodedLength();
+                return item;
+            }
+        };
+    }
+
+    /** Copies the item into an {@link RlpString} or {@link RlpList} tree. */
+    public RlpType toRlpType() {
+        if (!list) {
+            return RlpString.create(getBytes());
+        }
+        List<RlpType> values = new ArrayList<>();
+        for (RlpView item : this) {
+            values.add(item.toRlpType());
+        }
+        return new RlpList(values);
+    }
+}
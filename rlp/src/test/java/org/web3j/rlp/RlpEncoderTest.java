@@ -13,11 +13,15 @@
 package org.web3j.rlp;
 
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class RlpEncoderTest {
 
@@ -164,4 +168,72 @@ public class RlpEncoderTest {
         System.arraycopy(encodeMe, 0, expectedEncoding, 1, encodeMe.length);
         assertArrayEquals(RlpEncoder.encode(RlpString.create(encodeMe)), (expectedEncoding));
     }
+
+    @Test
+    public void testEncodeLongList() {
+        RlpType[] hashes = new RlpType[1000];
+        for (int i = 0; i < hashes.length; i++) {
+            byte[] hash = new byte[32];
+            hash[31] = (byte) i;
+            hashes[i] = RlpString.create(hash);
+        }
+        RlpList list = new RlpList(new RlpList(hashes), RlpString.create(1));
+
+        byte[] encoded = RlpEncoder.encode(list);
+
+        // outer list of 33004 bytes, holding a list of 1000 * 33 = 33000 bytes and 0x01
+        assertEquals(3 + 3 + 33000 + 1, encoded.length);
+        assertEquals(encoded.length, RlpEncoder.encodedLength(list));
+        assertArrayEquals(
+                new byte[] {
+                    (byte) 0xf9, (byte) 0x80, (byte) 0xec, (byte) 0xf9, (byte) 0x80, (byte) 0xe8
+                },
+                Arrays.copyOf(encoded, 6));
+        assertEquals((byte) 0xa0, encoded[6]);
+        assertEquals((byte) 0x01, encoded[encoded.length - 1]);
+        assertArrayEquals(
+                encoded, RlpEncoder.encode(RlpDecoder.decode(encoded).getValues().get(0)));
+    }
+
+    @Test
+    public void testEncodeNestedLists() {
+        RlpType nested = RlpString.create("cat");
+        for (int i = 0; i < 100; i++) {
+            nested = new RlpList(new RlpList(RlpString.create(i)), nested);
+        }
+
+        byte[] encoded = RlpEncoder.encode(nested);
+
+        assertEquals(RlpEncoder.encodedLength(nested), encoded.length);
+        assertArrayEquals(
+                encoded, RlpEncoder.encode(RlpDecoder.decode(encoded).getValues().get(0)));
+
+        byte[] destination = new byte[encoded.length];
+        assertEquals(encoded.length, RlpEncoder.encode(nested, destination, 0));
+        assertArrayEquals(encoded, destination);
+    }
+
+    @Test
+    public void testEncodeIntoArrayAndBuffer() {
+        RlpList list = new RlpList(RlpString.create("cat"), RlpString.create("dog"));
+        byte[] expected = RlpEncoder.encode(list);
+
+        byte[] destination = new byte[expected.length + 2];
+        assertEquals(expected.length + 1, RlpEncoder.encode(list, destination, 1));
+        assertArrayEquals(expected, Arrays.copyOfRange(destination, 1, expected.length + 1));
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length + 2);
+        buffer.put((byte) 0x02);
+        RlpEncoder.encode(list, buffer);
+        assertEquals(expected.length + 1, buffer.position());
+        assertArrayEquals(expected, Arrays.copyOfRange(buffer.array(), 1, expected.length + 1));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+        RlpEncoder.encode(list, direct);
+        assertEquals(expected.length, direct.position());
+
+        assertThrows(
+                BufferOverflowException.class,
+                () -> RlpEncoder.encode(list, ByteBuffer.allocate(expected.length - 1)));
+    }
 }
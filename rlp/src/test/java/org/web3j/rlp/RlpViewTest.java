@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RlpViewTest {
+
+    @Test
+    public void testReadsItemsInPlace() {
+        // [ "cat", [ 0x0f, 1024 ], "" ]
+        byte[] encoded = Numeric.hexStringToByteArray("0xca83636174c40f82040080");
+
+        RlpView view = RlpView.of(encoded);
+        assertTrue(view.isList());
+        assertEquals(3, view.size());
+        assertEquals(encoded.length, view.getEncodedLength());
+
+        RlpView cat = view.get(0);
+        assertFalse(cat.isList());
+        assertSame(encoded, cat.getData());
+        assertEquals(2, cat.getPayloadOffset());
+        assertEquals(3, cat.getPayloadLength());
+        assertArrayEquals("cat".getBytes(), cat.getBytes());
+
+        RlpView numbers = view.get(1);
+        assertEquals(15, numbers.get(0).asLong());
+        assertEquals(BigInteger.valueOf(1024), numbers.get(1).asPositiveBigInteger());
+        assertEquals("0x0400", numbers.get(1).asString());
+
+        assertEquals(0, view.get(2).asLong());
+        assertEquals(BigInteger.ZERO, view.get(2).asPositiveBigInteger());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(3));
+    }
+
+    @Test
+    public void testMatchesDecoder() {
+        List<RlpType> values = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            values.add(
+                    new RlpList(
+                            RlpString.create(new byte[20]),
+                            new RlpList(RlpString.create(BigInteger.valueOf(i << 20)))));
+        }
+        byte[] encoded = RlpEncoder.encode(new RlpList(values));
+
+        RlpList decoded = RlpDecoder.decode(encoded);
+        RlpView view = RlpView.of(encoded);
+        assertArrayEquals(
+                RlpEncoder.encode(decoded.getValues().get(0)), RlpEncoder.encode(view.toRlpType()));
+        assertEquals(((RlpList) values.get(7)).getValues().get(0), view.get(7).get(0).toRlpType());
+    }
+
+    @Test
+    public void testRejectsTruncatedInput() {
+        byte[] encoded = RlpEncoder.encode(RlpString.create("dog"));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        assertThrows(RuntimeException.class, () -> RlpView.of(truncated));
+        assertThrows(
+                RuntimeException.class,
+                () -> RlpView.of(new byte[] {(byte) 0xc2, (byte) 0x83, 'd'}).get(0));
+        assertThrows(IllegalStateException.class, () -> RlpView.of(encoded).get(0));
+    }
+}
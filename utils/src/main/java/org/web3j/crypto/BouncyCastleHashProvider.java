@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import org.bouncycastle.crypto.digests.KeccakDigest;
+
+import org.web3j.crypto.spi.HashProvider;
+
+/**
+ * Keccak-256 by BouncyCastle's {@link KeccakDigest}.
+ *
+ * <p>A digest is created for every call: its state is a few hundred bytes, cheaper to allocate than
+ * to keep per thread when threads are short-lived virtual ones. The provider holds no state, so a
+ * single instance can be shared by any number of threads.
+ */
+public final class BouncyCastleHashProvider implements HashProvider {
+
+    @Override
+    public void keccak256(byte[] input, int offset, int length, byte[] output, int outputOffset) {
+        KeccakDigest digest = new KeccakDigest(256);
+        digest.update(input, offset, length);
+        digest.doFinal(output, outputOffset);
+    }
+}
@@ -15,18 +15,32 @@ package org.web3j.crypto;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.ServiceLoader;
 
 import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.bouncycastle.crypto.digests.SHA512Digest;
 import org.bouncycastle.crypto.macs.HMac;
 import org.bouncycastle.crypto.params.KeyParameter;
 import org.bouncycastle.jcajce.provider.digest.Blake2b;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
+import org.web3j.crypto.spi.HashProvider;
 import org.web3j.utils.Numeric;
 
 /** Cryptographic hash functions. */
 public class Hash {
+
+    /** Length in bytes of a Keccak-256 hash. */
+    public static final int SHA3_LENGTH = 32;
+
+    private static final HashProvider PROVIDER;
+
+    static {
+        Iterator<HashProvider> iterator = ServiceLoader.load(HashProvider.class).iterator();
+        PROVIDER = iterator.hasNext() ? iterator.next() : new PureJavaHashProvider();
+    }
+
     private Hash() {}
 
     /**
@@ -67,9 +81,37 @@ public class Hash {
      * @return hash value
      */
     public static byte[] sha3(byte[] input, int offset, int length) {
-        Keccak.DigestKeccak kecc = new Keccak.Digest256();
-        kecc.update(input, offset, length);
-        return kecc.digest();
+        byte[] output = new byte[SHA3_LENGTH];
+        sha3Into(input, offset, length, output, 0);
+        return output;
+    }
+
+    /**
+     * Keccak-256 hash function that writes the hash into a given array.
+     *
+     * @param input binary encoded input data
+     * @param offset of start of data
+     * @param length of data
+     * @param output array to write the 32 byte hash value to
+     * @param outputOffset position of the hash value in output
+     */
+    public static void sha3Into(
+            byte[] input, int offset, int length, byte[] output, int outputOffset) {
+        // Checked up front, so that providers never see a partial input
+        Objects.checkFromIndexSize(offset, length, input.length);
+        Objects.checkFromIndexSize(outputOffset, SHA3_LENGTH, output.length);
+
+        PROVIDER.keccak256(input, offset, length, output, outputOffset);
+    }
+
+    /**
+     * Returns the Keccak-256 implementation in use.
+     *
+     * @return the first {@link HashProvider} found on the classpath, or the built-in {@link
+     *     PureJavaHashProvider}
+     */
+    public static HashProvider getProvider() {
+        return PROVIDER;
     }
 
     /**
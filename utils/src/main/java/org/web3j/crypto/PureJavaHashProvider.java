@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+import org.web3j.crypto.spi.HashProvider;
+
+/**
+ * Keccak-256 written in plain Java.
+ *
+ * <p>The 25 lanes of the Keccak-f[1600] state are held in local {@code long} variables and the
+ * steps of each round are written out lane by lane, so that the JIT can keep the state in
+ * registers. Hashing allocates nothing and holds no state between calls, so a single instance can
+ * be shared by any number of threads.
+ */
+public final class PureJavaHashProvider implements HashProvider {
+
+    /** Bytes absorbed per permutation, 1600 bits of state less twice the 256 bit output. */
+    private static final int RATE = 136;
+
+    private static final int ROUNDS = 24;
+
+    private static final long[] ROUND_CONSTANTS = {
+        0x0000000000000001L,
+        0x0000000000008082L,
+        0x800000000000808aL,
+        0x8000000080008000L,
+        0x000000000000808bL,
+        0x0000000080000001L,
+        0x8000000080008081L,
+        0x8000000000008009L,
+        0x000000000000008aL,
+        0x0000000000000088L,
+        0x0000000080008009L,
+        0x000000008000000aL,
+        0x000000008000808bL,
+        0x800000000000008bL,
+        0x8000000000008089L,
+        0x8000000000008003L,
+        0x8000000000008002L,
+        0x8000000000000080L,
+        0x000000000000800aL,
+        0x800000008000000aL,
+        0x8000000080008081L,
+        0x8000000000008080L,
+        0x0000000080000001L,
+        0x8000000080008008L
+    };
+
+    private static final VarHandle LANES =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    @Override
+    public void keccak256(byte[] input, int offset, int length, byte[] output, int outputOffset) {
+        long a00 = 0, a01 = 0, a02 = 0, a03 = 0, a04 = 0;
+        long a05 = 0, a06 = 0, a07 = 0, a08 = 0, a09 = 0;
+        long a10 = 0, a11 = 0, a12 = 0, a13 = 0, a14 = 0;
+        long a15 = 0, a16 = 0, a17 = 0, a18 = 0, a19 = 0;
+        long a20 = 0, a21 = 0, a22 = 0, a23 = 0, a24 = 0;
+
+        int end = offset + length;
+        int position = offset;
+        boolean padded = false;
+        do {
+            if (end - position >= RATE) {
+                a00 ^= (long) LANES.get(input, position + 0);
+                a01 ^= (long) LANES.get(input, position + 8);
+                a02 ^= (long) LANES.get(input, position + 16);
+                a03 ^= (long) LANES.get(input, position + 24);
+                a04 ^= (long) LANES.get(input, position + 32);
+                a05 ^= (long) LANES.get(input, position + 40);
+                a06 ^= (long) LANES.get(input, position + 48);
+                a07 ^= (long) LANES.get(input, position + 56);
+                a08 ^= (long) LANES.get(input, position + 64);
+                a09 ^= (long) LANES.get(input, position + 72);
+                a10 ^= (long) LANES.get(input, position + 80);
+                a11 ^= (long) LANES.get(input, position + 88);
+                a12 ^= (long) LANES.get(input, position + 96);
+                a13 ^= (long) LANES.get(input, position + 104);
+                a14 ^= (long) LANES.get(input, position + 112);
+                a15 ^= (long) LANES.get(input, position + 120);
+                a16 ^= (long) LANES.get(input, position + 128);
+                position += RATE;
+            } else {
+                a00 ^= paddedLane(input, position, end, 0);
+                a01 ^= paddedLane(input, position, end, 8);
+                a02 ^= paddedLane(input, position, end, 16);
+                a03 ^= paddedLane(input, position, end, 24);
+                a04 ^= paddedLane(input, position, end, 32);
+                a05 ^= paddedLane(input, position, end, 40);
+                a06 ^= paddedLane(input, position, end, 48);
+                a07 ^= paddedLane(input, position, end, 56);
+                a08 ^= paddedLane(input, position, end, 64);
+                a09 ^= paddedLane(input, position, end, 72);
+                a10 ^= paddedLane(input, position, end, 80);
+                a11 ^= paddedLane(input, position, end, 88);
+                a12 ^= paddedLane(input, position, end, 96);
+                a13 ^= paddedLane(input, position, end, 104);
+                a14 ^= paddedLane(input, position, end, 112);
+                a15 ^= paddedLane(input, position, end, 120);
+                a16 ^= paddedLane(input, position, end, 128);
+                padded = true;
+            }
+
+            for (int round = 0; round < ROUNDS; round++) {
+                long c0 = a00 ^ a05 ^ a10 ^ a15 ^ a20;
+                long c1 = a01 ^ a06 ^ a11 ^ a16 ^ a21;
+                long c2 = a02 ^ a07 ^ a12 ^ a17 ^ a22;
+                long c3 = a03 ^ a08 ^ a13 ^ a18 ^ a23;
+                long c4 = a04 ^ a09 ^ a14 ^ a19 ^ a24;
+                long d0 = c4 ^ Long.rotateLeft(c1, 1);
+                long d1 = c0 ^ Long.rotateLeft(c2, 1);
+                long d2 = c1 ^ Long.rotateLeft(c3, 1);
+                long d3 = c2 ^ Long.rotateLeft(c4, 1);
+                long d4 = c3 ^ Long.rotateLeft(c0, 1);
+
+                long b00 = a00 ^ d0;
+                long b01 = Long.rotateLeft(a06 ^ d1, 44);
+                long b02 = Long.rotateLeft(a12 ^ d2, 43);
+                long b03 = Long.rotateLeft(a18 ^ d3, 21);
+                long b04 = Long.rotateLeft(a24 ^ d4, 14);
+                long b05 = Long.rotateLeft(a03 ^ d3, 28);
+                long b06 = Long.rotateLeft(a09 ^ d4, 20);
+                long b07 = Long.rotateLeft(a10 ^ d0, 3);
+                long b08 = Long.rotateLeft(a16 ^ d1, 45);
+                long b09 = Long.rotateLeft(a22 ^ d2, 61);
+                long b10 = Long.rotateLeft(a01 ^ d1, 1);
+                long b11 = Long.rotateLeft(a07 ^ d2, 6);
+                long b12 = Long.rotateLeft(a13 ^ d3, 25);
+                long b13 = Long.rotateLeft(a19 ^ d4, 8);
+                long b14 = Long.rotateLeft(a20 ^ d0, 18);
+                long b15 = Long.rotateLeft(a04 ^ d4, 27);
+                long b16 = Long.rotateLeft(a05 ^ d0, 36);
+                long b17 = Long.rotateLeft(a11 ^ d1, 10);
+                long b18 = Long.rotateLeft(a17 ^ d2, 15);
+                long b19 = Long.rotateLeft(a23 ^ d3, 56);
+                long b20 = Long.rotateLeft(a02 ^ d2, 62);
+                long b21 = Long.rotateLeft(a08 ^ d3, 55);
+                long b22 = Long.rotateLeft(a14 ^ d4, 39);
+                long b23 = Long.rotateLeft(a15 ^ d0, 41);
+                long b24 = Long.rotateLeft(a21 ^ d1, 2);
+
+                a00 = b00 ^ (~b01 & b02);
+                a01 = b01 ^ (~b02 & b03);
+                a02 = b02 ^ (~b03 & b04);
+                a03 = b03 ^ (~b04 & b00);
+                a04 = b04 ^ (~b00 & b01);
+                a05 = b05 ^ (~b06 & b07);
+                a06 = b06 ^ (~b07 & b08);
+                a07 = b07 ^ (~b08 & b09);
+                a08 = b08 ^ (~b09 & b05);
+                a09 = b09 ^ (~b05 & b06);
+                a10 = b10 ^ (~b11 & b12);
+                a11 = b11 ^ (~b12 & b13);
+                a12 = b12 ^ (~b13 & b14);
+                a13 = b13 ^ (~b14 & b10);
+                a14 = b14 ^ (~b10 & b11);
+                a15 = b15 ^ (~b16 & b17);
+                a16 = b16 ^ (~b17 & b18);
+                a17 = b17 ^ (~b18 & b19);
+                a18 = b18 ^ (~b19 & b15);
+                a19 = b19 ^ (~b15 & b16);
+                a20 = b20 ^ (~b21 & b22);
+                a21 = b21 ^ (~b22 & b23);
+                a22 = b22 ^ (~b23 & b24);
+                a23 = b23 ^ (~b24 & b20);
+                a24 = b24 ^ (~b20 & b21);
+
+                a00 ^= ROUND_CONSTANTS[round];
+            }
+        } while (!padded);
+
+        LANES.set(output, outputOffset, a00);
+        LANES.set(output, outputOffset + 8, a01);
+        LANES.set(output, outputOffset + 16, a02);
+        LANES.set(output, outputOffset + 24, a03);
+    }
+
+    /**
+     * Returns a lane of the last block, made of the input left after the full blocks and the Keccak
+     * padding: a 0x01 byte right after the input and a 0x80 byte at the end of the block.
+     */
+    private static long paddedLane(byte[] input, int position, int end, int laneOffset) {
+        int start = position + laneOffset;
+        int available = end - start;
+        if (available >= Long.BYTES) {
+            // Less than a block is left, so the padding never reaches a full lane
+            return (long) LANES.get(input, start);
+        }
+
+        long lane = 0;
+        for (int i = 0; i < available; i++) {
+            lane |= (long) (input[start + i] & 0xff) << (Byte.SIZE * i);
+        }
+        if (available >= 0) {
+            lane |= 0x01L << (Byte.SIZE * available);
+        }
+        if (laneOffset == RATE - Long.BYTES) {
+            lane |= 0x80L << (Byte.SIZE * (Long.BYTES - 1));
+        }
+        return lane;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto.spi;
+
+/**
+ * Keccak-256 Service Provider Interface for {@link org.web3j.crypto.Hash}.
+ *
+ * <p>The first implementation found by {@link java.util.ServiceLoader} when {@code Hash} is
+ * initialised is used for all hashing, which is how native backends, e.g. over JNI or the foreign
+ * function API, can be plugged in. Without one, {@link org.web3j.crypto.PureJavaHashProvider} is
+ * used.
+ */
+public interface HashProvider {
+
+    /**
+     * Writes the Keccak-256 hash of the input to the output. Called concurrently from any thread,
+     * with ranges already checked to lie within the arrays.
+     *
+     * @param input binary encoded input data
+     * @param offset of start of data
+     * @param length of data
+     * @param output array to write the 32 byte hash value to
+     * @param outputOffset position of the hash value in output
+     */
+    void keccak256(byte[] input, int offset, int length, byte[] output, int outputOffset);
+}
@@ -12,8 +12,6 @@
  */
 package org.web3j.utils;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.Arrays;
 
 import org.web3j.crypto.Hash;
@@ -202,16 +200,23 @@ public class Bloom {
     }
 
     private BloomValues getBloomValues(byte[] item) {
-        final byte[] hash = Hash.sha3(item);
+        // Only the first 6 bytes of the hash are used
+        final byte[] hash = new byte[Hash.SHA3_LENGTH];
+        Hash.sha3Into(item, 0, item.length, hash, 0);
         byte v1 = (byte) (1 << (hash[1] & 0x7));
         byte v2 = (byte) (1 << (hash[3] & 0x7));
         byte v3 = (byte) (1 << (hash[5] & 0x7));
-        ByteBuffer byteBuffer = ByteBuffer.wrap(hash).order(ByteOrder.BIG_ENDIAN);
-        int i1 = BYTES_LENGTH - ((byteBuffer.getShort(0) & 0x7ff) >> 3) - 1;
-        int i2 = BYTES_LENGTH - ((byteBuffer.getShort(2) & 0x7ff) >> 3) - 1;
-        int i3 = BYTES_LENGTH - ((byteBuffer.getShort(4) & 0x7ff) >> 3) - 1;
+        int i1 = byteIndex(hash, 0);
+        int i2 = byteIndex(hash, 2);
+        int i3 = byteIndex(hash, 4);
         return new BloomValues(new byte[] {v1, v2, v3}, new int[] {i1, i2, i3});
     }
 
+    /** Index of the byte holding the bit selected by the low 11 bits of a big endian short. */
+    private static int byteIndex(byte[] hash, int offset) {
+        int bit = ((hash[offset] & 0x7) << 8) | (hash[offset + 1] & 0xff);
+        return BYTES_LENGTH - (bit >> 3) - 1;
+    }
+
     private record BloomValues(byte[] value, int[] index) {}
 }
@@ -12,10 +12,15 @@
  */
 package org.web3j.crypto;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
+import org.web3j.utils.Numeric;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.web3j.utils.Numeric.asByte;
 
 public class HashTest {
@@ -99,6 +104,25 @@ public class HashTest {
                 ("0x953d0c27f84a9649b0e121099ffa9aeb7ed83e65eaed41d3627f895790c72d41"));
     }
 
+    @Test
+    public void testSha3Into() {
+        byte[] input = "hello world".getBytes();
+        byte[] output = new byte[40];
+
+        Hash.sha3Into(input, 6, 5, output, 8);
+        assertArrayEquals(
+                Hash.sha3("world".getBytes()), Arrays.copyOfRange(output, 8, output.length));
+
+        // A rejected call must not leave input behind in the thread's digest
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> Hash.sha3Into(input, 0, input.length, output, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> Hash.sha3Into(input, 6, 6, output, 0));
+        assertEquals(
+                "0x47173285a8d7341e5e972fc677286384f802f8ef42a5ec5f03bbfa254cb01fad",
+                Numeric.toHexString(Hash.sha3(input)));
+    }
+
     @Test
     public void testByte() {
         assertEquals(asByte(0x0, 0x0), ((byte) 0x0));
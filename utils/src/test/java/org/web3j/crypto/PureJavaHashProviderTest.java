@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class PureJavaHashProviderTest {
+
+    @Test
+    public void testMatchesBouncyCastle() {
+        PureJavaHashProvider provider = new PureJavaHashProvider();
+        BouncyCastleHashProvider reference = new BouncyCastleHashProvider();
+        Random random = new Random(42);
+
+        // Every length around the 136 byte block boundaries, at an offset into the arrays
+        byte[] input = new byte[3 + 4 * 136 + 2];
+        random.nextBytes(input);
+        for (int length = 0; length <= 4 * 136 + 2; length++) {
+            byte[] expected = new byte[32];
+            byte[] actual = new byte[37];
+            reference.keccak256(input, 3, length, expected, 0);
+            provider.keccak256(input, 3, length, actual, 5);
+
+            byte[] hash = new byte[32];
+            System.arraycopy(actual, 5, hash, 0, 32);
+            assertArrayEquals(expected, hash, "length " + length);
+        }
+    }
+}